@@ -1,6 +1,7 @@
 package com.filmreview.config;
 
 import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
 import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisURI;
@@ -26,9 +27,18 @@ public class RateLimitConfig {
   @Value("${spring.data.redis.password:}")
   private String redisPassword;
 
+  @Value("${rate-limit.bucket-expiry-margin-ms:10000}")
+  private long bucketExpiryMarginMs;
+
+  @Value("${rate-limit.redis-timeout-ms:100}")
+  private long redisTimeoutMs;
+
   /**
    * Creates a Redis-based proxy manager for distributed rate limiting.
-   * Buckets are stored in Redis with automatic expiration.
+   * Bucket state expires once the bucket would be full again (plus a margin):
+   * a missing bucket is recreated full, so nothing is lost, and keys for
+   * subjects that stopped calling do not pile up in the Redis shared with the
+   * cache.
    */
   @Bean
   public LettuceBasedProxyManager<byte[]> proxyManager() {
@@ -36,16 +46,21 @@ public class RateLimitConfig {
         .withHost(redisHost)
         .withPort(redisPort)
         .withPassword(redisPassword != null && !redisPassword.isEmpty() ? redisPassword.toCharArray() : null)
+        // Short timeout: a stalled Redis trips the circuit breaker instead of
+        // holding requests for the default command timeout
+        .withTimeout(Duration.ofMillis(redisTimeoutMs))
         .build();
 
     RedisClient redisClient = RedisClient.create(redisUri);
     return LettuceBasedProxyManager.builderFor(redisClient)
+        .withExpirationStrategy(ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(
+            Duration.ofMillis(bucketExpiryMarginMs)))
         .build();
   }
 
   /**
    * Anonymous users: 100 requests per hour.
-   * Stored in Redis with key prefix "rl:anon:{ip}"
+   * Stored in Redis with key prefix "rl:anon:" + hashed IP
    */
   @Bean
   public Bandwidth anonymousBandwidth() {
@@ -57,7 +72,7 @@ public class RateLimitConfig {
 
   /**
    * Authenticated users: 1000 requests per hour.
-   * Stored in Redis with key prefix "rl:auth:{userId}"
+   * Stored in Redis with key prefix "rl:auth:" + binary user ID
    */
   @Bean
   public Bandwidth authenticatedBandwidth() {
@@ -69,7 +84,7 @@ public class RateLimitConfig {
 
   /**
    * Write operations: 50 requests per hour per user.
-   * Stored in Redis with key prefix "rl:write:{userId}"
+   * Stored in Redis with key prefix "rl:write:" + binary user ID
    */
   @Bean
   public Bandwidth writeOperationBandwidth() {
@@ -81,7 +96,7 @@ public class RateLimitConfig {
 
   /**
    * Review creation: 10 requests per hour per user.
-   * Stored in Redis with key prefix "rl:review:{userId}"
+   * Stored in Redis with key prefix "rl:review:" + binary user ID
    */
   @Bean
   public Bandwidth reviewCreationBandwidth() {
@@ -93,7 +108,7 @@ public class RateLimitConfig {
 
   /**
    * Login attempts: 5 requests per 15 minutes per IP.
-   * Stored in Redis with key prefix "rl:login:{ip}"
+   * Stored in Redis with key prefix "rl:login:" + hashed IP
    */
   @Bean
   public Bandwidth loginAttemptBandwidth() {
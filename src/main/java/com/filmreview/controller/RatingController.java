@@ -1,5 +1,6 @@
 package com.filmreview.controller;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.dto.RatingRequest;
 import com.filmreview.dto.RatingResponse;
 import com.filmreview.security.UserPrincipal;
@@ -78,6 +79,21 @@ public class RatingController {
     return ResponseEntity.ok(ratings);
   }
 
+  /**
+   * Get the current user's ratings with keyset pagination.
+   * GET /api/v1/ratings?cursor={cursor}&limit={limit}
+   *
+   * Pass an empty cursor for the first page, then each page's nextCursor.
+   */
+  @GetMapping(params = "cursor")
+  public ResponseEntity<CursorPage<RatingResponse>> getUserRatingsByCursor(
+      @AuthenticationPrincipal UserPrincipal currentUser,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "20") int limit) {
+    CursorPage<RatingResponse> ratings = ratingService.getUserRatingsByCursor(currentUser.getId(), cursor, limit);
+    return ResponseEntity.ok(ratings);
+  }
+
   /**
    * Get all ratings for a specific title (public endpoint).
    * GET /api/v1/ratings/titles/{titleId}
@@ -90,4 +106,20 @@ public class RatingController {
     Page<RatingResponse> ratings = ratingService.getTitleRatings(titleId, pageable);
     return ResponseEntity.ok(ratings);
   }
+
+  /**
+   * Get ratings for a specific title with keyset pagination (public endpoint).
+   * GET /api/v1/ratings/titles/{titleId}?cursor={cursor}&limit={limit}
+   *
+   * Pass an empty cursor for the first page, then each page's nextCursor.
+   */
+  @GetMapping(value = "/titles/{titleId}", params = "cursor")
+  @PreAuthorize("permitAll()")
+  public ResponseEntity<CursorPage<RatingResponse>> getTitleRatingsByCursor(
+      @PathVariable UUID titleId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "20") int limit) {
+    CursorPage<RatingResponse> ratings = ratingService.getTitleRatingsByCursor(titleId, cursor, limit);
+    return ResponseEntity.ok(ratings);
+  }
 }
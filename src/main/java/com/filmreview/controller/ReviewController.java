@@ -1,10 +1,14 @@
 package com.filmreview.controller;
 
+import com.filmreview.dto.CursorPage;
+import com.filmreview.dto.NormalizedResponse;
 import com.filmreview.dto.ReviewRequest;
 import com.filmreview.dto.ReviewResponse;
 import com.filmreview.dto.ReviewUpdateRequest;
 import com.filmreview.security.UserPrincipal;
 import com.filmreview.service.ReviewService;
+import com.filmreview.util.FieldSelection;
+import com.filmreview.util.IncludesUtils;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,7 +18,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -80,15 +86,76 @@ public class ReviewController {
 
   /**
    * Get all reviews for the current user.
-   * GET /api/v1/reviews
+   * GET /api/v1/reviews?fields={id,content,title.slug,...}
+   *
+   * Responses carry a version-based ETag for the requested page; a matching
+   * If-None-Match gets a 304 after loading only the page's review rows, before
+   * anything is mapped. Otherwise the body is built from those same rows. Same
+   * for the title review listings below.
+   *
+   * fields limits each review to the listed properties (dotted names select
+   * properties of the nested user, title and rating). Nested objects that are
+   * not listed are not loaded. The list endpoints below accept it too.
    */
   @GetMapping
   @PreAuthorize("isAuthenticated()")
   public ResponseEntity<Page<ReviewResponse>> getUserReviews(
       @AuthenticationPrincipal UserPrincipal currentUser,
-      @PageableDefault(size = 20) Pageable pageable) {
-    Page<ReviewResponse> reviews = reviewService.getUserReviews(currentUser.getId(), pageable);
-    return ResponseEntity.ok(reviews);
+      @PageableDefault(size = 20) Pageable pageable,
+      @RequestParam(required = false) String fields,
+      WebRequest webRequest) {
+    return conditional(reviewService.getUserReviewsVersioned(
+        currentUser.getId(), pageable, FieldSelection.parse(fields)), webRequest);
+  }
+
+  /**
+   * Get the current user's reviews with keyset pagination.
+   * GET /api/v1/reviews?cursor={cursor}&limit={limit}
+   *
+   * Pass an empty cursor for the first page, then each page's nextCursor.
+   */
+  @GetMapping(params = "cursor")
+  @PreAuthorize("isAuthenticated()")
+  public ResponseEntity<CursorPage<ReviewResponse>> getUserReviewsByCursor(
+      @AuthenticationPrincipal UserPrincipal currentUser,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "20") int limit,
+      @RequestParam(required = false) String fields,
+      WebRequest webRequest) {
+    return conditional(reviewService.getUserReviewsByCursorVersioned(
+        currentUser.getId(), cursor, limit, FieldSelection.parse(fields)), webRequest);
+  }
+
+  /**
+   * Get the current user's reviews in normalized form: each item carries only
+   * IDs, and the user, titles and ratings are included once.
+   * GET /api/v1/reviews?format=normalized
+   */
+  @GetMapping(params = "format=normalized")
+  @PreAuthorize("isAuthenticated()")
+  public ResponseEntity<NormalizedResponse<Page<ReviewResponse>>> getUserReviewsNormalized(
+      @AuthenticationPrincipal UserPrincipal currentUser,
+      @PageableDefault(size = 20) Pageable pageable,
+      @RequestParam(required = false) String fields) {
+    Page<ReviewResponse> reviews = reviewService.getUserReviews(
+        currentUser.getId(), pageable, FieldSelection.parse(fields));
+    return ResponseEntity.ok(normalize(reviews, reviews.getContent()));
+  }
+
+  /**
+   * Get the current user's reviews with keyset pagination, in normalized form.
+   * GET /api/v1/reviews?cursor={cursor}&limit={limit}&format=normalized
+   */
+  @GetMapping(params = { "cursor", "format=normalized" })
+  @PreAuthorize("isAuthenticated()")
+  public ResponseEntity<NormalizedResponse<CursorPage<ReviewResponse>>> getUserReviewsByCursorNormalized(
+      @AuthenticationPrincipal UserPrincipal currentUser,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "20") int limit,
+      @RequestParam(required = false) String fields) {
+    CursorPage<ReviewResponse> reviews = reviewService.getUserReviewsByCursor(
+        currentUser.getId(), cursor, limit, FieldSelection.parse(fields));
+    return ResponseEntity.ok(normalize(reviews, reviews.getContent()));
   }
 
   /**
@@ -100,14 +167,63 @@ public class ReviewController {
   public ResponseEntity<Page<ReviewResponse>> getTitleReviews(
       @PathVariable UUID titleId,
       @RequestParam(required = false, defaultValue = "newest") String sort,
-      @PageableDefault(size = 20) Pageable pageable) {
-    Page<ReviewResponse> reviews;
-    if ("helpful".equals(sort)) {
-      reviews = reviewService.getTitleReviewsByHelpful(titleId, pageable);
-    } else {
-      reviews = reviewService.getTitleReviews(titleId, pageable);
-    }
-    return ResponseEntity.ok(reviews);
+      @PageableDefault(size = 20) Pageable pageable,
+      @RequestParam(required = false) String fields,
+      WebRequest webRequest) {
+    return conditional(reviewService.getTitleReviewsVersioned(
+        titleId, "helpful".equals(sort), pageable, FieldSelection.parse(fields)), webRequest);
+  }
+
+  /**
+   * Get reviews for a specific title with keyset pagination (public endpoint).
+   * GET /api/v1/reviews/titles/{titleId}?cursor={cursor}&limit={limit}&sort={newest|helpful}
+   *
+   * Pass an empty cursor for the first page, then each page's nextCursor.
+   * A cursor is only valid for the sort it was issued for.
+   */
+  @GetMapping(value = "/titles/{titleId}", params = "cursor")
+  @PreAuthorize("permitAll()")
+  public ResponseEntity<CursorPage<ReviewResponse>> getTitleReviewsByCursor(
+      @PathVariable UUID titleId,
+      @RequestParam(required = false, defaultValue = "newest") String sort,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "20") int limit,
+      @RequestParam(required = false) String fields,
+      WebRequest webRequest) {
+    return conditional(reviewService.getTitleReviewsByCursorVersioned(
+        titleId, "helpful".equals(sort), cursor, limit, FieldSelection.parse(fields)), webRequest);
+  }
+
+  /**
+   * Get reviews for a specific title in normalized form: each item carries
+   * only IDs, and the title, users and ratings are included once.
+   * GET /api/v1/reviews/titles/{titleId}?format=normalized
+   */
+  @GetMapping(value = "/titles/{titleId}", params = "format=normalized")
+  @PreAuthorize("permitAll()")
+  public ResponseEntity<NormalizedResponse<Page<ReviewResponse>>> getTitleReviewsNormalized(
+      @PathVariable UUID titleId,
+      @RequestParam(required = false, defaultValue = "newest") String sort,
+      @PageableDefault(size = 20) Pageable pageable,
+      @RequestParam(required = false) String fields) {
+    Page<ReviewResponse> reviews = findTitleReviews(titleId, sort, pageable, fields);
+    return ResponseEntity.ok(normalize(reviews, reviews.getContent()));
+  }
+
+  /**
+   * Get reviews for a specific title with keyset pagination, in normalized form.
+   * GET /api/v1/reviews/titles/{titleId}?cursor={cursor}&limit={limit}&sort={newest|helpful}&format=normalized
+   */
+  @GetMapping(value = "/titles/{titleId}", params = { "cursor", "format=normalized" })
+  @PreAuthorize("permitAll()")
+  public ResponseEntity<NormalizedResponse<CursorPage<ReviewResponse>>> getTitleReviewsByCursorNormalized(
+      @PathVariable UUID titleId,
+      @RequestParam(required = false, defaultValue = "newest") String sort,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "20") int limit,
+      @RequestParam(required = false) String fields) {
+    CursorPage<ReviewResponse> reviews = findTitleReviewsByCursor(titleId, sort, cursor, limit, fields);
+    return ResponseEntity.ok(normalize(reviews, reviews.getContent()));
   }
 
   /**
@@ -152,4 +268,30 @@ public class ReviewController {
     reviewService.unmarkHelpful(currentUser.getId(), id);
     return ResponseEntity.ok().build();
   }
+
+  private Page<ReviewResponse> findTitleReviews(UUID titleId, String sort, Pageable pageable, String fields) {
+    if ("helpful".equals(sort)) {
+      return reviewService.getTitleReviewsByHelpful(titleId, pageable, FieldSelection.parse(fields));
+    }
+    return reviewService.getTitleReviews(titleId, pageable, FieldSelection.parse(fields));
+  }
+
+  private CursorPage<ReviewResponse> findTitleReviewsByCursor(UUID titleId, String sort, String cursor, int limit,
+      String fields) {
+    if ("helpful".equals(sort)) {
+      return reviewService.getTitleReviewsByHelpfulByCursor(titleId, cursor, limit, FieldSelection.parse(fields));
+    }
+    return reviewService.getTitleReviewsByCursor(titleId, cursor, limit, FieldSelection.parse(fields));
+  }
+
+  private <P> ResponseEntity<P> conditional(ReviewService.Versioned<P> page, WebRequest webRequest) {
+    if (webRequest.checkNotModified(page.etag())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(page.etag()).build();
+    }
+    return ResponseEntity.ok().eTag(page.etag()).body(page.body().get());
+  }
+
+  private <P> NormalizedResponse<P> normalize(P page, List<ReviewResponse> reviews) {
+    return new NormalizedResponse<>(page, IncludesUtils.extractReviewIncludes(reviews));
+  }
 }
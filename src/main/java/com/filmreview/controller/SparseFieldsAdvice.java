@@ -0,0 +1,74 @@
+package com.filmreview.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.filmreview.util.FieldSelection;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Applies the fields= sparse fieldset to title, review and watchlist
+ * responses, so only the requested properties are serialized.
+ *
+ * List responses (Page, CursorPage, normalized envelopes) are pruned per
+ * item, leaving paging metadata and includes as they are; single-object
+ * responses are pruned directly. The services read the same parameter to
+ * skip columns and joins nobody asked for; this advice trims whatever they
+ * still had to load.
+ */
+@RestControllerAdvice(assignableTypes = { TitleController.class, ReviewController.class,
+    WatchlistController.class })
+public class SparseFieldsAdvice implements ResponseBodyAdvice<Object> {
+
+  public static final String FIELDS_PARAM = "fields";
+
+  private final ObjectMapper objectMapper;
+
+  public SparseFieldsAdvice(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+  }
+
+  @Override
+  public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+      ServerHttpResponse response) {
+    if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+      return body;
+    }
+
+    FieldSelection fields = FieldSelection.parse(servletRequest.getServletRequest().getParameter(FIELDS_PARAM));
+    if (fields.isAll()) {
+      return body;
+    }
+
+    JsonNode tree = objectMapper.valueToTree(body);
+    pruneItems(tree, fields);
+    return tree;
+  }
+
+  private void pruneItems(JsonNode node, FieldSelection fields) {
+    if (node.isArray()) {
+      node.forEach(fields::prune);
+    } else if (node.has("data") && node.has("includes")) {
+      // Normalized envelope: prune the wrapped page
+      pruneItems(node.get("data"), fields);
+    } else if (node.path("content").isArray()) {
+      // Page or CursorPage
+      node.get("content").forEach(fields::prune);
+    } else {
+      fields.prune(node);
+    }
+  }
+}
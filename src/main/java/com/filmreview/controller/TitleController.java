@@ -1,16 +1,31 @@
 package com.filmreview.controller;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.dto.TitleDto;
+import com.filmreview.dto.TitleFacetsDto;
+import com.filmreview.dto.TitleRatingStatsDto;
+import com.filmreview.dto.TitleSuggestionDto;
 import com.filmreview.entity.Title;
 import com.filmreview.mapper.TitleDtoMapper;
+import com.filmreview.repository.TitleRepository;
+import com.filmreview.service.RatingService;
+import com.filmreview.service.TitleDetailService;
+import com.filmreview.service.TitleFacetService;
 import com.filmreview.service.TitleService;
+import com.filmreview.service.TitleSuggestService;
+import com.filmreview.util.ETagUtils;
+import com.filmreview.util.FieldSelection;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.UUID;
 
 /**
  * Controller for managing titles (movies, TV shows).
@@ -22,18 +37,38 @@ public class TitleController {
 
   private static final String DEFAULT_LANGUAGE = "en-US";
   private static final String DEFAULT_REGION = "US";
+  static final String TOTAL_CAPPED_HEADER = "X-Total-Count-Capped";
 
   private final TitleService titleService;
   private final TitleDtoMapper titleDtoMapper;
+  private final TitleSuggestService titleSuggestService;
+  private final TitleFacetService titleFacetService;
+  private final TitleDetailService titleDetailService;
+  private final RatingService ratingService;
 
-  public TitleController(TitleService titleService, TitleDtoMapper titleDtoMapper) {
+  public TitleController(TitleService titleService, TitleDtoMapper titleDtoMapper,
+      TitleSuggestService titleSuggestService, TitleFacetService titleFacetService,
+      TitleDetailService titleDetailService, RatingService ratingService) {
     this.titleService = titleService;
     this.titleDtoMapper = titleDtoMapper;
+    this.titleSuggestService = titleSuggestService;
+    this.titleFacetService = titleFacetService;
+    this.titleDetailService = titleDetailService;
+    this.ratingService = ratingService;
   }
 
   /**
    * Get titles with optional filtering and sorting.
-   * GET /api/v1/titles
+   * GET /api/v1/titles?fields={id,title,slug,...}
+   *
+   * fields limits the response to the listed properties. When browsing with
+   * only card properties (id, type, title, slug, releaseDate, posterUrl,
+   * userRatingAvg, userRatingCount), only those columns are queried.
+   *
+   * Browse totals are counted up to 10,000 matches (or one past the requested
+   * page). When more titles match, totalElements and totalPages stop there
+   * and the response carries X-Total-Count-Capped: true; keep paging while
+   * the page is not "last", or use the cursor endpoint below.
    */
   @GetMapping
   public ResponseEntity<Page<TitleDto>> getTitles(
@@ -44,7 +79,8 @@ public class TitleController {
       @RequestParam(required = false) Double min_rating,
       @RequestParam(required = false, defaultValue = "1") int page,
       @RequestParam(required = false, defaultValue = "20") int pageSize,
-      @RequestParam(required = false) String sort) {
+      @RequestParam(required = false) String sort,
+      @RequestParam(required = false) String fields) {
 
     Pageable pageable = PageRequest.of(page - 1, pageSize); // Convert to 0-indexed
 
@@ -68,10 +104,100 @@ public class TitleController {
       }
     }
 
-    // TODO: Implement other sort options and filtering
-    // For now, return empty page for other cases
-    Page<TitleDto> emptyPage = new PageImpl<>(java.util.Collections.emptyList(), pageable, 0);
-    return ResponseEntity.ok(emptyPage);
+    // Otherwise browse stored titles by filters, sorted by release date, rating
+    // or rating count. Card-only field selections skip the detail columns.
+    if (FieldSelection.parse(fields).isWithin(TitleRepository.TitleCard.PROPERTIES)) {
+      Page<TitleRepository.TitleCard> cardsPage = titleService.browseTitleCards(
+          type, genre, year, min_rating, sort, pageable);
+      return browseResponse(cardsPage).body(titleDtoMapper.toCardDtoPage(cardsPage));
+    }
+
+    Page<Title> titlesPage = titleService.browseTitles(type, genre, year, min_rating, sort, pageable);
+    Page<TitleDto> dtoPage = titleDtoMapper.toDtoPage(titlesPage);
+    return browseResponse(titlesPage).body(dtoPage);
+  }
+
+  /**
+   * OK response for a browse page, flagging a total that stopped at the count
+   * limit.
+   */
+  private ResponseEntity.BodyBuilder browseResponse(Page<?> page) {
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+    if (page.getTotalElements() >= TitleService.browseCountLimit(page.getPageable())) {
+      response.header(TOTAL_CAPPED_HEADER, "true");
+    }
+    return response;
+  }
+
+  /**
+   * Browse titles with filtering and sorting, using keyset pagination.
+   * GET /api/v1/titles?cursor={cursor}&limit={limit}&type=&genre=&year=&min_rating=&sort={release_date|rating|rating_count}&fields=
+   *
+   * Pass an empty cursor for the first page, then each page's nextCursor.
+   * A cursor is only valid for the sort it was issued for.
+   */
+  @GetMapping(params = "cursor")
+  public ResponseEntity<CursorPage<TitleDto>> browseTitlesByCursor(
+      @RequestParam(required = false) String type,
+      @RequestParam(required = false) Integer genre,
+      @RequestParam(required = false) Integer year,
+      @RequestParam(required = false) Double min_rating,
+      @RequestParam(required = false) String sort,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "20") int limit,
+      @RequestParam(required = false) String fields) {
+    if (FieldSelection.parse(fields).isWithin(TitleRepository.TitleCard.PROPERTIES)) {
+      CursorPage<TitleRepository.TitleCard> cardsPage = titleService.browseTitleCardsByCursor(
+          type, genre, year, min_rating, sort, cursor, limit);
+      return ResponseEntity.ok(titleDtoMapper.toCardDtoCursorPage(cardsPage));
+    }
+
+    CursorPage<Title> titlesPage = titleService.browseTitlesByCursor(
+        type, genre, year, min_rating, sort, cursor, limit);
+    return ResponseEntity.ok(titleDtoMapper.toDtoCursorPage(titlesPage));
+  }
+
+  /**
+   * Typeahead suggestions for titles starting with the given prefix.
+   * GET /api/v1/titles/suggest?q={prefix}&type={movie|tv_show}&limit={n}
+   *
+   * Served from an in-memory index; does not query the database.
+   */
+  @GetMapping("/suggest")
+  public ResponseEntity<List<TitleSuggestionDto>> suggestTitles(
+      @RequestParam String q,
+      @RequestParam(required = false) String type,
+      @RequestParam(required = false, defaultValue = "10") int limit) {
+    return ResponseEntity.ok(titleSuggestService.suggest(q, type, limit));
+  }
+
+  /**
+   * Facet counts (genre, type, decade, rating) for the browse filters.
+   * GET /api/v1/titles/facets?type=&genre=&year=&min_rating=
+   *
+   * Served from an in-memory bitmap index; does not query the database.
+   */
+  @GetMapping("/facets")
+  public ResponseEntity<TitleFacetsDto> getTitleFacets(
+      @RequestParam(required = false) String type,
+      @RequestParam(required = false) Integer genre,
+      @RequestParam(required = false) Integer year,
+      @RequestParam(required = false) Double min_rating) {
+    return ResponseEntity.ok(titleFacetService.getFacets(type, genre, year, min_rating));
+  }
+
+  /**
+   * User rating distribution of a title: count, userMean, median,
+   * percentiles and the 1-10 histogram.
+   * GET /api/v1/titles/{id}/stats
+   *
+   * Computed from the title's 10-bucket rating histogram; does not read
+   * individual ratings. Covers user ratings only, so userMean differs from
+   * the TMDB-blended userRatingAvg on the title.
+   */
+  @GetMapping("/{id}/stats")
+  public ResponseEntity<TitleRatingStatsDto> getTitleRatingStats(@PathVariable UUID id) {
+    return ResponseEntity.ok(ratingService.getTitleRatingStats(id));
   }
 
   /**
@@ -81,11 +207,16 @@ public class TitleController {
    * - If identifier is numeric: treats as TMDB ID, requires type parameter
    * - If identifier is not numeric: treats as slug, type is optional (can infer
    * from DB)
+   *
+   * Served from the title detail cache when possible. Responses carry an
+   * ETag built from the title's updated_at and rating aggregates; a matching
+   * If-None-Match gets a 304 without serializing the title.
    */
   @GetMapping("/{identifier}")
   public ResponseEntity<TitleDto> getTitleByIdentifier(
       @PathVariable String identifier,
-      @RequestParam(required = false) String type) {
+      @RequestParam(required = false) String type,
+      WebRequest webRequest) {
 
     try {
       // Try to parse as integer (TMDB ID)
@@ -99,18 +230,16 @@ public class TitleController {
 
         // Route to appropriate service method based on type
         if ("movie".equals(type) || "tv_show".equals(type)) {
-          Title title = titleService.getTitleByTmdbId(tmdbId, type);
-          TitleDto dto = titleDtoMapper.toDto(title);
-          return ResponseEntity.ok(dto);
+          TitleDto dto = titleDetailService.getTitleDetailByTmdbId(tmdbId, type);
+          return conditionalOk(dto, webRequest);
         } else {
           return ResponseEntity.badRequest().build();
         }
       } catch (NumberFormatException e) {
         // Not numeric, treat as slug
         // Type is optional - can be inferred from DB record
-        Title title = titleService.getTitleBySlug(identifier);
-        TitleDto dto = titleDtoMapper.toDto(title);
-        return ResponseEntity.ok(dto);
+        TitleDto dto = titleDetailService.getTitleDetailBySlug(identifier);
+        return conditionalOk(dto, webRequest);
       }
     } catch (com.filmreview.exception.NotFoundException e) {
       return ResponseEntity.notFound().build();
@@ -118,4 +247,12 @@ public class TitleController {
       return ResponseEntity.internalServerError().build();
     }
   }
+
+  private ResponseEntity<TitleDto> conditionalOk(TitleDto dto, WebRequest webRequest) {
+    String etag = ETagUtils.weak(dto.getId(), dto.getUpdatedAt(), dto.getUserRatingAvg(), dto.getUserRatingCount());
+    if (webRequest.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    return ResponseEntity.ok().eTag(etag).body(dto);
+  }
 }
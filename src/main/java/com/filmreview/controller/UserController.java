@@ -5,10 +5,12 @@ import com.filmreview.dto.UserResponse;
 import com.filmreview.security.UserPrincipal;
 import com.filmreview.service.UserService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/users")
@@ -23,13 +25,22 @@ public class UserController {
   /**
    * Get current user profile.
    * GET /api/v1/users/me
+   *
+   * Responses carry a version-based ETag; a matching If-None-Match gets a 304
+   * without the profile being loaded.
    */
   @GetMapping("/me")
   @PreAuthorize("isAuthenticated()")
   public ResponseEntity<UserResponse> getCurrentUser(
-      @AuthenticationPrincipal UserPrincipal currentUser) {
+      @AuthenticationPrincipal UserPrincipal currentUser,
+      WebRequest webRequest) {
+    String etag = userService.getCurrentUserETag(currentUser.getId());
+    if (webRequest.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
     UserResponse response = userService.getCurrentUser(currentUser.getId());
-    return ResponseEntity.ok(response);
+    return ResponseEntity.ok().eTag(etag).body(response);
   }
 
   /**
@@ -37,9 +48,14 @@ public class UserController {
    * GET /api/v1/users/{username}
    */
   @GetMapping("/{username}")
-  public ResponseEntity<UserResponse> getUserByUsername(@PathVariable String username) {
+  public ResponseEntity<UserResponse> getUserByUsername(@PathVariable String username, WebRequest webRequest) {
+    String etag = userService.getUserETagByUsername(username);
+    if (webRequest.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
     UserResponse response = userService.getUserByUsername(username);
-    return ResponseEntity.ok(response);
+    return ResponseEntity.ok().eTag(etag).body(response);
   }
 
   /**
@@ -1,11 +1,13 @@
 package com.filmreview.controller;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.dto.WatchlistRequest;
 import com.filmreview.dto.WatchlistResponse;
 import com.filmreview.dto.WatchlistUpdateRequest;
 import com.filmreview.entity.Watchlist;
 import com.filmreview.security.UserPrincipal;
 import com.filmreview.service.WatchlistService;
+import com.filmreview.util.FieldSelection;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -32,17 +34,44 @@ public class WatchlistController {
 
   /**
    * Get user's watchlist with optional status filter.
-   * GET /api/v1/watchlist?status={status}&page={page}&size={size}
+   * GET /api/v1/watchlist?status={status}&page={page}&size={size}&fields={id,status,title.slug,...}
+   *
+   * fields limits each item to the listed properties; dotted names select
+   * properties of the nested title. The title is not loaded unless listed.
    */
   @GetMapping
   public ResponseEntity<Page<WatchlistResponse>> getUserWatchlist(
       @AuthenticationPrincipal UserPrincipal currentUser,
       @RequestParam(required = false) Watchlist.WatchlistStatus status,
-      @PageableDefault(size = 20) Pageable pageable) {
+      @PageableDefault(size = 20) Pageable pageable,
+      @RequestParam(required = false) String fields) {
     Page<WatchlistResponse> watchlist = watchlistService.getUserWatchlist(
         currentUser.getId(),
         status,
-        pageable);
+        pageable,
+        FieldSelection.parse(fields));
+    return ResponseEntity.ok(watchlist);
+  }
+
+  /**
+   * Get user's watchlist with optional status filter, using keyset pagination.
+   * GET /api/v1/watchlist?status={status}&cursor={cursor}&limit={limit}&fields=
+   *
+   * Pass an empty cursor for the first page, then each page's nextCursor.
+   */
+  @GetMapping(params = "cursor")
+  public ResponseEntity<CursorPage<WatchlistResponse>> getUserWatchlistByCursor(
+      @AuthenticationPrincipal UserPrincipal currentUser,
+      @RequestParam(required = false) Watchlist.WatchlistStatus status,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "20") int limit,
+      @RequestParam(required = false) String fields) {
+    CursorPage<WatchlistResponse> watchlist = watchlistService.getUserWatchlistByCursor(
+        currentUser.getId(),
+        status,
+        cursor,
+        limit,
+        FieldSelection.parse(fields));
     return ResponseEntity.ok(watchlist);
   }
 
@@ -0,0 +1,38 @@
+package com.filmreview.controller.admin;
+
+import com.filmreview.service.RateLimitStatsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Admin rate-limit controller.
+ * Exposes the size of the rate-limit state kept in Redis.
+ * All endpoints require ADMIN role.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/rate-limits")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminRateLimitController {
+
+  private final RateLimitStatsService rateLimitStatsService;
+
+  public AdminRateLimitController(RateLimitStatsService rateLimitStatsService) {
+    this.rateLimitStatsService = rateLimitStatsService;
+  }
+
+  /**
+   * Number of live rate-limit buckets per key class.
+   * GET /api/v1/admin/rate-limits/keys
+   */
+  @GetMapping("/keys")
+  public ResponseEntity<Map<String, Object>> getKeyCardinality() {
+    Map<String, Long> keysByClass = rateLimitStatsService.countKeysByClass();
+    long totalKeys = keysByClass.values().stream().mapToLong(Long::longValue).sum();
+    return ResponseEntity.ok(Map.of(
+        "keysByClass", keysByClass,
+        "totalKeys", totalKeys));
+  }
+}
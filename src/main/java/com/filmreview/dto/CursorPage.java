@@ -0,0 +1,24 @@
+package com.filmreview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO for one page of a keyset-paginated listing.
+ * Pass nextCursor back as the cursor parameter to get the following page;
+ * it is null on the last page. No total count is computed.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+  private List<T> content;
+  private String nextCursor;
+  private boolean hasMore;
+}
@@ -0,0 +1,21 @@
+package com.filmreview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Envelope for list responses requested with format=normalized.
+ * data is the usual page (Page or CursorPage) with embedded entities
+ * removed from its items; includes holds each of those entities once.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NormalizedResponse<T> {
+
+  private T data;
+  private ResponseIncludes includes;
+}
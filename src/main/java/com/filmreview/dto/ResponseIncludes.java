@@ -0,0 +1,26 @@
+package com.filmreview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Entities referenced by the items of a normalized response, each included
+ * once and keyed by ID. Items refer to them by their titleId, userId and
+ * ratingId fields.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseIncludes {
+
+  private Map<UUID, TitleDto> titles = new LinkedHashMap<>();
+  private Map<UUID, UserResponse> users = new LinkedHashMap<>();
+  private Map<UUID, RatingResponse> ratings = new LinkedHashMap<>();
+}
@@ -1,5 +1,6 @@
 package com.filmreview.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -34,10 +35,14 @@ public class ReviewResponse {
 
   private LocalDateTime updatedAt;
 
-  // Nested objects
+  // Nested objects; left out when null, e.g. when moved to "includes" by the
+  // normalized format
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private UserResponse user; // User who wrote the review
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private TitleDto title; // Movie/TV show being reviewed
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private RatingResponse rating; // Optional linked rating
 }
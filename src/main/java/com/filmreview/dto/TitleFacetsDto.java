@@ -0,0 +1,27 @@
+package com.filmreview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * DTO for facet counts of browsable titles.
+ * Each facet is counted under every active filter except its own, so a
+ * selected genre still shows the counts of the other genres. Values with a
+ * zero count are omitted.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TitleFacetsDto {
+
+  private int total; // Titles matching all filters
+  private Map<Integer, Integer> genres; // Genre ID -> count
+  private Map<String, Integer> types; // "movie" or "tv_show" -> count
+  private Map<Integer, Integer> decades; // Decade start year (e.g. 1990) -> count
+  private Map<Integer, Integer> ratings; // Rating floor (7 = 7.00-7.99) -> count
+}
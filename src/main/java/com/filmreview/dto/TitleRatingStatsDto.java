@@ -0,0 +1,32 @@
+package com.filmreview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO for the score distribution of a title's user ratings.
+ * Derived from the title's rating histogram, which trails rating writes by
+ * up to one aggregate fold interval. Every figure covers this site's user
+ * ratings only: userMean is not the title's userRatingAvg, which blends in
+ * the TMDB vote average. userMean and median are null when the title has no
+ * ratings, and percentiles is then empty.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TitleRatingStatsDto {
+
+  private UUID titleId;
+  private long count;
+  private BigDecimal userMean; // Mean of user ratings only, two decimals
+  private BigDecimal median; // Midpoint of the two middle scores when count is even
+  private Map<Integer, Integer> percentiles; // Percentile (25, 75, 90) -> score, nearest rank
+  private Map<Integer, Integer> histogram; // Score (1-10) -> count, every score present
+}
@@ -0,0 +1,28 @@
+package com.filmreview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * DTO for a typeahead suggestion.
+ * Carries just enough to render a suggestion and link to the title page.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TitleSuggestionDto {
+
+  private UUID id;
+  private String type; // "movie" or "tv_show"
+  private String title;
+  private String originalTitle;
+  private String slug;
+  private Integer releaseYear;
+  private String posterUrl;
+  private Integer userRatingCount;
+}
@@ -45,7 +45,9 @@ public class Review extends BaseEntity {
   @Column(name = "contains_spoilers", nullable = false)
   private Boolean containsSpoilers = false;
 
-  @Column(name = "helpful_count", nullable = false)
+  // Written only by ReviewRepository.addHelpfulCounts; saving a loaded review
+  // must not put back the count it read
+  @Column(name = "helpful_count", nullable = false, updatable = false)
   private Integer helpfulCount = 0;
 
   @Column(name = "deleted_at")
@@ -70,8 +70,8 @@ public class Title extends BaseEntity {
   @Column(name = "status", length = 50)
   private String status; // released, upcoming, etc.
 
-  // Aggregated scores (cached, updated via triggers)
-  @Column(name = "user_rating_avg", precision = 3, scale = 2)
+  // Aggregated scores (cached, folded in from title_rating_deltas)
+  @Column(name = "user_rating_avg", precision = 4, scale = 2)
   private java.math.BigDecimal userRatingAvg; // 0.00 to 10.00
 
   @Column(name = "user_rating_count")
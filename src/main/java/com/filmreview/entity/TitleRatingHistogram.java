@@ -0,0 +1,65 @@
+package com.filmreview.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * Per-title count of ratings at each score (1-10).
+ * Maintained by the rating delta fold (TitleRatingAggregateService), never
+ * written through JPA.
+ */
+@Entity
+@Table(name = "title_rating_histograms")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TitleRatingHistogram {
+
+  public static final int MIN_SCORE = 1;
+  public static final int MAX_SCORE = 10;
+
+  @Id
+  @Column(name = "title_id", nullable = false)
+  private UUID titleId;
+
+  @Column(name = "score_1", nullable = false)
+  private int score1;
+
+  @Column(name = "score_2", nullable = false)
+  private int score2;
+
+  @Column(name = "score_3", nullable = false)
+  private int score3;
+
+  @Column(name = "score_4", nullable = false)
+  private int score4;
+
+  @Column(name = "score_5", nullable = false)
+  private int score5;
+
+  @Column(name = "score_6", nullable = false)
+  private int score6;
+
+  @Column(name = "score_7", nullable = false)
+  private int score7;
+
+  @Column(name = "score_8", nullable = false)
+  private int score8;
+
+  @Column(name = "score_9", nullable = false)
+  private int score9;
+
+  @Column(name = "score_10", nullable = false)
+  private int score10;
+
+  /**
+   * Counts indexed by score - 1.
+   */
+  public int[] toCounts() {
+    return new int[] { score1, score2, score3, score4, score5, score6, score7, score8, score9, score10 };
+  }
+}
@@ -1,8 +1,11 @@
 package com.filmreview.mapper;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.dto.TitleDto;
 import com.filmreview.entity.Title;
+import com.filmreview.entity.TitleGenre;
 import com.filmreview.repository.TitleGenreRepository;
+import com.filmreview.repository.TitleRepository;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.AfterMapping;
@@ -12,7 +15,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -59,6 +68,39 @@ public class TitleDtoMapper {
     return dto;
   }
 
+  /**
+   * Map a list of Title entities to TitleDtos, in the same order.
+   * Genres for all titles are fetched with a single query.
+   */
+  public List<TitleDto> toDtoList(List<Title> titles) {
+    if (titles == null) {
+      return null;
+    }
+
+    Set<UUID> titleIds = titles.stream()
+        .map(Title::getId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+
+    Map<UUID, List<com.filmreview.entity.Genre>> genresByTitleId = new HashMap<>();
+    if (!titleIds.isEmpty()) {
+      for (TitleGenre titleGenre : titleGenreRepository.findWithGenreByTitleIdIn(titleIds)) {
+        genresByTitleId.computeIfAbsent(titleGenre.getTitleId(), id -> new ArrayList<>())
+            .add(titleGenre.getGenre());
+      }
+    }
+
+    List<TitleDto> dtoList = new ArrayList<>(titles.size());
+    for (Title title : titles) {
+      TitleDto dto = title != null ? mapper.toDto(title) : null;
+      if (dto != null && title.getId() != null) {
+        dto.setGenres(genreDtoMapper.toDtoList(genresByTitleId.getOrDefault(title.getId(), List.of())));
+      }
+      dtoList.add(dto);
+    }
+    return dtoList;
+  }
+
   /**
    * Map Page of Title entities to Page of TitleDtos.
    */
@@ -67,14 +109,65 @@ public class TitleDtoMapper {
       return null;
     }
 
-    List<TitleDto> dtoList = titlePage.getContent().stream()
-        .map(this::toDto)
-        .collect(Collectors.toList());
-
     return new PageImpl<>(
-        dtoList,
+        toDtoList(titlePage.getContent()),
         titlePage.getPageable(),
         titlePage.getTotalElements());
   }
 
+  /**
+   * Map CursorPage of Title entities to CursorPage of TitleDtos.
+   */
+  public CursorPage<TitleDto> toDtoCursorPage(CursorPage<Title> titlePage) {
+    if (titlePage == null) {
+      return null;
+    }
+
+    return new CursorPage<>(toDtoList(titlePage.getContent()), titlePage.getNextCursor(), titlePage.isHasMore());
+  }
+
+  /**
+   * Map a title card projection to a TitleDto. Only the card properties are
+   * set; genres are not fetched.
+   */
+  public TitleDto toCardDto(TitleRepository.TitleCard card) {
+    if (card == null) {
+      return null;
+    }
+
+    TitleDto dto = new TitleDto();
+    dto.setId(card.getId());
+    dto.setType(card.getType() != null ? card.getType().name() : null);
+    dto.setTitle(card.getTitle());
+    dto.setSlug(card.getSlug());
+    dto.setReleaseDate(card.getReleaseDate());
+    dto.setPosterUrl(card.getPosterUrl());
+    dto.setUserRatingAvg(card.getUserRatingAvg());
+    dto.setUserRatingCount(card.getUserRatingCount());
+    return dto;
+  }
+
+  /**
+   * Map Page of title cards to Page of TitleDtos.
+   */
+  public Page<TitleDto> toCardDtoPage(Page<TitleRepository.TitleCard> cardPage) {
+    if (cardPage == null) {
+      return null;
+    }
+
+    return cardPage.map(this::toCardDto);
+  }
+
+  /**
+   * Map CursorPage of title cards to CursorPage of TitleDtos.
+   */
+  public CursorPage<TitleDto> toCardDtoCursorPage(CursorPage<TitleRepository.TitleCard> cardPage) {
+    if (cardPage == null) {
+      return null;
+    }
+
+    List<TitleDto> content = cardPage.getContent().stream().map(this::toCardDto).toList();
+    return new CursorPage<>(content, cardPage.getNextCursor(), cardPage.isHasMore());
+  }
+
 }
@@ -2,6 +2,9 @@ package com.filmreview.repository;
 
 import com.filmreview.entity.Genre;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -21,4 +24,17 @@ public interface GenreRepository extends JpaRepository<Genre, Integer> {
    * Find genre by name.
    */
   Optional<Genre> findByName(String name);
+
+  /**
+   * Insert genres in a single multi-row statement, skipping any that already
+   * exist (by id, name or slug). The arrays are parallel: one element per genre.
+   */
+  @Modifying
+  @Query(value = "INSERT INTO genres (id, name, slug) " +
+      "SELECT * FROM unnest(CAST(:ids AS integer[]), CAST(:names AS varchar[]), CAST(:slugs AS varchar[])) " +
+      "ON CONFLICT DO NOTHING", nativeQuery = true)
+  int insertAllIgnoreConflicts(
+      @Param("ids") Integer[] ids,
+      @Param("names") String[] names,
+      @Param("slugs") String[] slugs);
 }
@@ -8,11 +8,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface RatingRepository extends JpaRepository<Rating, UUID> {
+public interface RatingRepository extends JpaRepository<Rating, UUID>, RatingUpsertRepository {
 
   /**
    * Find all ratings for a specific user.
@@ -29,6 +31,26 @@ public interface RatingRepository extends JpaRepository<Rating, UUID> {
    */
   Page<Rating> findByTitleIdOrderByCreatedAtDesc(UUID titleId, Pageable pageable);
 
+  /**
+   * Keyset page of a user's ratings, newest first, strictly after the given
+   * (createdAt, id). Served by idx_ratings_user_created.
+   */
+  @Query("SELECT r FROM Rating r WHERE r.userId = :userId " +
+      "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+      "ORDER BY r.createdAt DESC, r.id DESC")
+  List<Rating> findByUserIdBefore(@Param("userId") UUID userId, @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") UUID id, Pageable pageable);
+
+  /**
+   * Keyset page of a title's ratings, newest first, strictly after the given
+   * (createdAt, id). Served by idx_ratings_title_created.
+   */
+  @Query("SELECT r FROM Rating r WHERE r.titleId = :titleId " +
+      "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+      "ORDER BY r.createdAt DESC, r.id DESC")
+  List<Rating> findByTitleIdBefore(@Param("titleId") UUID titleId, @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") UUID id, Pageable pageable);
+
   /**
    * Check if a user has rated a title.
    */
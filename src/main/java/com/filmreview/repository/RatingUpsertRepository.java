@@ -0,0 +1,25 @@
+package com.filmreview.repository;
+
+import com.filmreview.entity.Rating;
+
+import java.util.UUID;
+
+/**
+ * Custom repository fragment for writing a user's rating of a title in one
+ * statement. Implemented by RatingUpsertRepositoryImpl and exposed through
+ * RatingRepository.
+ */
+public interface RatingUpsertRepository {
+
+  /**
+   * Insert the user's rating of a title, or replace the score of the one
+   * they already have, with a single INSERT ... ON CONFLICT statement.
+   *
+   * @param userId  User ID
+   * @param titleId Title ID
+   * @param score   Score (1-10)
+   * @return The stored rating, as returned by the database. Not managed by
+   *         the persistence context.
+   */
+  Rating upsert(UUID userId, UUID titleId, int score);
+}
@@ -2,6 +2,9 @@ package com.filmreview.repository;
 
 import com.filmreview.entity.ReviewHelpful;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -21,7 +24,21 @@ public interface ReviewHelpfulRepository extends JpaRepository<ReviewHelpful, UU
   Optional<ReviewHelpful> findByUserIdAndReviewId(UUID userId, UUID reviewId);
 
   /**
-   * Delete a helpful vote by user and review.
+   * Record a helpful vote unless the user already voted, in one statement.
+   *
+   * @return 1 if the vote was inserted, 0 if it already existed
    */
-  void deleteByUserIdAndReviewId(UUID userId, UUID reviewId);
+  @Modifying
+  @Query(value = "INSERT INTO review_helpful (user_id, review_id) VALUES (:userId, :reviewId) " +
+      "ON CONFLICT (user_id, review_id) DO NOTHING", nativeQuery = true)
+  int insertIfAbsent(@Param("userId") UUID userId, @Param("reviewId") UUID reviewId);
+
+  /**
+   * Delete a helpful vote by user and review, in one statement.
+   *
+   * @return 1 if a vote was deleted, 0 if there was none
+   */
+  @Modifying
+  @Query("DELETE FROM ReviewHelpful h WHERE h.userId = :userId AND h.reviewId = :reviewId")
+  int deleteByUserIdAndReviewId(@Param("userId") UUID userId, @Param("reviewId") UUID reviewId);
 }
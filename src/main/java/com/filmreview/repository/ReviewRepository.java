@@ -4,10 +4,14 @@ import com.filmreview.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -39,6 +43,68 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
   @Query("SELECT r FROM Review r WHERE r.titleId = :titleId AND r.deletedAt IS NULL ORDER BY r.helpfulCount DESC, r.createdAt DESC")
   Page<Review> findByTitleIdOrderByHelpfulCountDesc(@Param("titleId") UUID titleId, Pageable pageable);
 
+  /**
+   * Keyset page of a user's reviews, newest first, strictly after the given
+   * (createdAt, id). The redundant createdAt bound lets the seek start inside
+   * idx_reviews_user_created instead of filtering from the top.
+   */
+  @Query("SELECT r FROM Review r WHERE r.userId = :userId AND r.deletedAt IS NULL " +
+      "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+      "ORDER BY r.createdAt DESC, r.id DESC")
+  List<Review> findByUserIdBefore(@Param("userId") UUID userId, @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") UUID id, Pageable pageable);
+
+  /**
+   * Keyset page of a title's reviews, newest first, strictly after the given
+   * (createdAt, id). Served by idx_reviews_title_created.
+   */
+  @Query("SELECT r FROM Review r WHERE r.titleId = :titleId AND r.deletedAt IS NULL " +
+      "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+      "ORDER BY r.createdAt DESC, r.id DESC")
+  List<Review> findByTitleIdBefore(@Param("titleId") UUID titleId, @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") UUID id, Pageable pageable);
+
+  /**
+   * Keyset page of a title's reviews, most helpful first, strictly after the
+   * given (helpfulCount, createdAt, id). Served by idx_reviews_title_helpful.
+   */
+  @Query("SELECT r FROM Review r WHERE r.titleId = :titleId AND r.deletedAt IS NULL " +
+      "AND r.helpfulCount <= :helpfulCount AND (r.helpfulCount < :helpfulCount OR r.createdAt < :createdAt " +
+      "OR (r.createdAt = :createdAt AND r.id < :id)) " +
+      "ORDER BY r.helpfulCount DESC, r.createdAt DESC, r.id DESC")
+  List<Review> findByTitleIdBeforeByHelpful(@Param("titleId") UUID titleId,
+      @Param("helpfulCount") int helpfulCount, @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") UUID id, Pageable pageable);
+
+  /**
+   * Version of the authors, linked ratings and titles of a page of reviews:
+   * changes whenever one of them changes. Title rating aggregates are folded
+   * in without touching updated_at, so they are summed instead. The reviews'
+   * own columns are read from the page rows.
+   */
+  interface ListVersion {
+    LocalDateTime getUsersUpdatedAt();
+
+    LocalDateTime getRatingsUpdatedAt();
+
+    LocalDateTime getTitlesUpdatedAt();
+
+    Long getTitleRatingCountTotal();
+
+    java.math.BigDecimal getTitleRatingAvgTotal();
+  }
+
+  /**
+   * Version of what the given reviews reference, in one aggregate query over
+   * just those reviews.
+   */
+  @Query("SELECT MAX(u.updatedAt) AS usersUpdatedAt, MAX(ra.updatedAt) AS ratingsUpdatedAt, " +
+      "MAX(t.updatedAt) AS titlesUpdatedAt, SUM(t.userRatingCount) AS titleRatingCountTotal, " +
+      "SUM(t.userRatingAvg) AS titleRatingAvgTotal " +
+      "FROM Review r JOIN User u ON u.id = r.userId JOIN Title t ON t.id = r.titleId " +
+      "LEFT JOIN Rating ra ON ra.id = r.ratingId WHERE r.id IN :ids")
+  ListVersion findListVersionByIdIn(@Param("ids") Collection<UUID> ids);
+
   /**
    * Find a specific review by user and title (excluding soft-deleted).
    */
@@ -50,4 +116,39 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
    */
   @Query("SELECT r FROM Review r WHERE r.id = :id AND r.deletedAt IS NULL")
   Optional<Review> findByIdAndNotDeleted(@Param("id") UUID id);
+
+  /**
+   * Add helpful count deltas to many reviews in a single statement. The
+   * arrays are parallel: one element per review. Leaves updated_at alone.
+   */
+  @Modifying
+  @Query(value = "UPDATE reviews r SET helpful_count = COALESCE(r.helpful_count, 0) + d.delta " +
+      "FROM unnest(CAST(:ids AS uuid[]), CAST(:deltas AS integer[])) AS d(id, delta) " +
+      "WHERE r.id = d.id", nativeQuery = true)
+  int addHelpfulCounts(@Param("ids") UUID[] ids, @Param("deltas") Integer[] deltas);
+
+  /**
+   * Record that a helpful count flush batch is being applied. Run in the same
+   * transaction as its addHelpfulCounts.
+   *
+   * @return 1 if recorded, 0 if the batch was already applied
+   */
+  @Modifying
+  @Query(value = "INSERT INTO review_helpful_flushes (batch_id, flushed_at) VALUES (:batchId, :now) " +
+      "ON CONFLICT (batch_id) DO NOTHING", nativeQuery = true)
+  int insertHelpfulFlush(@Param("batchId") UUID batchId, @Param("now") LocalDateTime now);
+
+  /**
+   * Whether a helpful count flush batch has been applied.
+   */
+  @Query(value = "SELECT EXISTS (SELECT 1 FROM review_helpful_flushes WHERE batch_id = :batchId)",
+      nativeQuery = true)
+  boolean existsHelpfulFlush(@Param("batchId") UUID batchId);
+
+  /**
+   * Forget helpful count flush batches applied before the given time.
+   */
+  @Modifying
+  @Query(value = "DELETE FROM review_helpful_flushes WHERE flushed_at < :before", nativeQuery = true)
+  int deleteHelpfulFlushesBefore(@Param("before") LocalDateTime before);
 }
@@ -15,4 +15,20 @@ public interface RoleRepository extends JpaRepository<Role, Integer> {
 
   @Query("SELECT DISTINCT p.name FROM Role r JOIN r.permissions p WHERE r.id IN :roleIds")
   List<String> findPermissionNamesByRoleIds(@Param("roleIds") List<Integer> roleIds);
+
+  /**
+   * One role→permission pair.
+   */
+  interface RolePermission {
+    String getRoleName();
+
+    String getPermissionName();
+  }
+
+  /**
+   * Find the whole role→permission matrix in one query. Roles without
+   * permissions are left out.
+   */
+  @Query("SELECT r.name AS roleName, p.name AS permissionName FROM Role r JOIN r.permissions p")
+  List<RolePermission> findAllRolePermissions();
 }
@@ -0,0 +1,80 @@
+package com.filmreview.repository;
+
+import com.filmreview.entity.Title;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom repository fragment for browsing titles by filter and sort.
+ * Implemented by TitleBrowseRepositoryImpl and exposed through TitleRepository.
+ */
+public interface TitleBrowseRepository {
+
+  /**
+   * Browse sort orders. Each sorts descending on one titles column, with id
+   * as the tie-breaker, and only includes titles where that column is set.
+   */
+  enum BrowseSort {
+    RELEASE_DATE("release_date"),
+    RATING("user_rating_avg"),
+    RATING_COUNT("user_rating_count");
+
+    private final String column;
+
+    BrowseSort(String column) {
+      this.column = column;
+    }
+
+    public String getColumn() {
+      return column;
+    }
+  }
+
+  /**
+   * Filters, sort and position of a browse page. All filters are optional.
+   *
+   * @param type      Title type, or null for both
+   * @param genreId   Genre ID, or null for all genres
+   * @param year      Release year, or null for all years
+   * @param minRating Minimum user rating average, or null for no minimum
+   * @param sort      Sort order
+   * @param afterKey  Sort value of the last row of the previous page (LocalDate,
+   *                  BigDecimal or Integer, matching the sort), or null
+   * @param afterId   ID of the last row of the previous page, or null
+   * @param offset    Rows to skip (page-number browsing only; 0 with a seek position)
+   */
+  record BrowseCriteria(Title.TitleType type, Integer genreId, Integer year, BigDecimal minRating,
+      BrowseSort sort, Object afterKey, UUID afterId, int offset) {
+  }
+
+  /**
+   * Find one page of titles matching the criteria, in sort order.
+   *
+   * @param criteria Filters, sort and position
+   * @param limit    Maximum number of rows
+   * @return Matching titles
+   */
+  List<Title> browse(BrowseCriteria criteria, int limit);
+
+  /**
+   * Find one page of title cards matching the criteria, in sort order.
+   * Same query as {@link #browse}, selecting only the card columns.
+   *
+   * @param criteria Filters, sort and position
+   * @param limit    Maximum number of rows
+   * @return Matching title cards
+   */
+  List<TitleRepository.TitleCard> browseCards(BrowseCriteria criteria, int limit);
+
+  /**
+   * Count the titles matching the criteria's filters, stopping at a limit.
+   * The seek position and offset are ignored.
+   *
+   * @param criteria Filters
+   * @param limit    Most rows to count
+   * @return The number of matches, or limit if there are at least that many
+   */
+  long countBrowse(BrowseCriteria criteria, long limit);
+}
@@ -0,0 +1,150 @@
+package com.filmreview.repository;
+
+import com.filmreview.entity.Title;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Builds the browse query from only the filters that are set, so each
+ * combination gets a plain, sargable predicate list.
+ *
+ * Every sort has a (sort column DESC, id DESC) index, with and without a
+ * leading type column (V5 migration), so the planner walks the index in
+ * order and stops after the page. The year filter is a release_date range
+ * and min_rating a user_rating_avg bound, which narrow those index scans
+ * directly. The genre filter is an EXISTS probe on the title_genres primary
+ * key per candidate row. Seek pagination repeats a plain bound on the sort
+ * column so the scan starts at the cursor instead of the top.
+ *
+ * Card browsing runs the same query over the card columns only, so list
+ * views skip the synopsis and other TEXT columns they never render. The
+ * page-number count applies the same filters under a LIMIT, so it walks
+ * the same index and stops at the cap.
+ */
+public class TitleBrowseRepositoryImpl implements TitleBrowseRepository {
+
+  private static final String CARD_COLUMNS = "t.id, CAST(t.type AS text) AS type, t.title, t.slug, "
+      + "t.release_date, t.poster_url, t.user_rating_avg, t.user_rating_count";
+
+  private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<Title> browse(BrowseCriteria criteria, int limit) {
+    Map<String, Object> params = new LinkedHashMap<>();
+    String sql = buildQuery("t.*", criteria, limit, params);
+
+    Query query = entityManager.createNativeQuery(sql, Title.class);
+    params.forEach(query::setParameter);
+    return query.getResultList();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<TitleRepository.TitleCard> browseCards(BrowseCriteria criteria, int limit) {
+    Map<String, Object> params = new LinkedHashMap<>();
+    String sql = buildQuery(CARD_COLUMNS, criteria, limit, params);
+
+    Query query = entityManager.createNativeQuery(sql);
+    query.unwrap(NativeQuery.class)
+        .addScalar("id", UUID.class)
+        .addScalar("type", String.class)
+        .addScalar("title", String.class)
+        .addScalar("slug", String.class)
+        .addScalar("release_date", LocalDate.class)
+        .addScalar("poster_url", String.class)
+        .addScalar("user_rating_avg", BigDecimal.class)
+        .addScalar("user_rating_count", Integer.class);
+    params.forEach(query::setParameter);
+
+    List<Object[]> rows = query.getResultList();
+    List<TitleRepository.TitleCard> cards = new ArrayList<>(rows.size());
+    for (Object[] row : rows) {
+      Map<String, Object> values = new HashMap<>();
+      values.put("id", row[0]);
+      values.put("type", Title.TitleType.valueOf((String) row[1]));
+      values.put("title", row[2]);
+      values.put("slug", row[3]);
+      values.put("releaseDate", row[4]);
+      values.put("posterUrl", row[5]);
+      values.put("userRatingAvg", row[6]);
+      values.put("userRatingCount", row[7]);
+      cards.add(projectionFactory.createProjection(TitleRepository.TitleCard.class, values));
+    }
+    return cards;
+  }
+
+  @Override
+  public long countBrowse(BrowseCriteria criteria, long limit) {
+    Map<String, Object> params = new LinkedHashMap<>();
+    StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM (SELECT 1 FROM titles t WHERE ");
+    appendFilters(sql, criteria, params);
+    sql.append(" LIMIT :limit) matches");
+    params.put("limit", limit);
+
+    Query query = entityManager.createNativeQuery(sql.toString());
+    params.forEach(query::setParameter);
+    return ((Number) query.getSingleResult()).longValue();
+  }
+
+  private String buildQuery(String columns, BrowseCriteria criteria, int limit, Map<String, Object> params) {
+    String column = "t." + criteria.sort().getColumn();
+
+    StringBuilder sql = new StringBuilder("SELECT ").append(columns).append(" FROM titles t WHERE ");
+    appendFilters(sql, criteria, params);
+
+    if (criteria.afterKey() != null && criteria.afterId() != null) {
+      sql.append(" AND ").append(column).append(" <= :afterKey")
+          .append(" AND (").append(column).append(" < :afterKey OR t.id < :afterId)");
+      params.put("afterKey", criteria.afterKey());
+      params.put("afterId", criteria.afterId());
+    }
+
+    sql.append(" ORDER BY ").append(column).append(" DESC, t.id DESC LIMIT :limit");
+    params.put("limit", limit);
+    if (criteria.offset() > 0) {
+      sql.append(" OFFSET :offset");
+      params.put("offset", criteria.offset());
+    }
+
+    return sql.toString();
+  }
+
+  private void appendFilters(StringBuilder sql, BrowseCriteria criteria, Map<String, Object> params) {
+    sql.append("t.").append(criteria.sort().getColumn()).append(" IS NOT NULL");
+
+    if (criteria.type() != null) {
+      sql.append(" AND t.type = CAST(:type AS title_type)");
+      params.put("type", criteria.type().name());
+    }
+    if (criteria.year() != null) {
+      sql.append(" AND t.release_date >= :yearStart AND t.release_date < :yearEnd");
+      params.put("yearStart", LocalDate.of(criteria.year(), 1, 1));
+      params.put("yearEnd", LocalDate.of(criteria.year() + 1, 1, 1));
+    }
+    if (criteria.minRating() != null) {
+      sql.append(" AND t.user_rating_avg >= :minRating");
+      params.put("minRating", criteria.minRating());
+    }
+    if (criteria.genreId() != null) {
+      sql.append(" AND EXISTS (SELECT 1 FROM title_genres tg WHERE tg.title_id = t.id AND tg.genre_id = :genreId)");
+      params.put("genreId", criteria.genreId());
+    }
+  }
+}
@@ -3,10 +3,12 @@ package com.filmreview.repository;
 import com.filmreview.entity.TitleGenre;
 import com.filmreview.entity.TitleGenreId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,8 +30,40 @@ public interface TitleGenreRepository extends JpaRepository<TitleGenre, TitleGen
   @Query("SELECT tg.title FROM TitleGenre tg WHERE tg.genreId = :genreId")
   List<com.filmreview.entity.Title> findTitlesByGenreId(@Param("genreId") Integer genreId);
 
+  /**
+   * Find the genre links of several titles, with their genres, in one query.
+   */
+  @Query("SELECT tg FROM TitleGenre tg JOIN FETCH tg.genre WHERE tg.titleId IN :titleIds")
+  List<TitleGenre> findWithGenreByTitleIdIn(@Param("titleIds") Collection<UUID> titleIds);
+
+  /**
+   * Lightweight view of a title-genre link.
+   */
+  interface TitleGenrePair {
+    UUID getTitleId();
+
+    Integer getGenreId();
+  }
+
+  /**
+   * Find all title-genre links, without loading entities.
+   */
+  @Query("SELECT tg.titleId AS titleId, tg.genreId AS genreId FROM TitleGenre tg")
+  List<TitleGenrePair> findAllPairs();
+
   /**
    * Delete all genre associations for a title.
    */
   void deleteByTitleId(UUID titleId);
+
+  /**
+   * Link a title to genres in a single multi-row insert. Existing links are
+   * skipped, as are genre IDs with no row in genres. Flushes first so the
+   * title row is written before it is referenced.
+   */
+  @Modifying(flushAutomatically = true)
+  @Query(value = "INSERT INTO title_genres (title_id, genre_id) " +
+      "SELECT :titleId, g.id FROM genres g WHERE g.id IN (:genreIds) " +
+      "ON CONFLICT DO NOTHING", nativeQuery = true)
+  int insertAllIgnoreConflicts(@Param("titleId") UUID titleId, @Param("genreIds") Collection<Integer> genreIds);
 }
@@ -0,0 +1,23 @@
+package com.filmreview.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom repository fragment for applying rating deltas to title aggregates.
+ * Implemented by TitleRatingAggregateRepositoryImpl and exposed through
+ * TitleRepository.
+ */
+public interface TitleRatingAggregateRepository {
+
+  /**
+   * Fold the oldest pending rows of title_rating_deltas into
+   * titles.user_rating_avg/user_rating_count and title_rating_histograms and
+   * delete them, in one statement. Rows another transaction is already
+   * folding are skipped.
+   *
+   * @param batchSize Maximum number of delta rows to fold
+   * @return IDs of the titles whose aggregates changed
+   */
+  List<UUID> foldRatingDeltas(int batchSize);
+}
@@ -0,0 +1,77 @@
+package com.filmreview.repository;
+
+import com.filmreview.entity.TitleRatingHistogram;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Folds title_rating_deltas into titles.
+ *
+ * The ratings trigger (record_title_rating_delta) only appends a
+ * (title_id, rating_count, score_sum) row per rating insert, score change
+ * or delete, so rating writes for one title never wait on that title's row
+ * lock. This fold claims a batch of deltas with FOR UPDATE SKIP LOCKED,
+ * sums them per title and applies each title's total in a single UPDATE,
+ * the same incremental arithmetic the old per-row trigger did. The same
+ * statement adds the batch's per-score counts to title_rating_histograms.
+ * A hot title takes one row update of each per batch instead of one per
+ * rating.
+ *
+ * Claiming, deleting and applying happen in one statement, so a failed or
+ * rolled-back fold leaves its deltas in place for the next run.
+ */
+public class TitleRatingAggregateRepositoryImpl implements TitleRatingAggregateRepository {
+
+  private static final String FOLD_SQL = "WITH folded AS ("
+      + "DELETE FROM title_rating_deltas WHERE id IN ("
+      + "SELECT id FROM title_rating_deltas ORDER BY id LIMIT :batchSize FOR UPDATE SKIP LOCKED) "
+      + "RETURNING title_id, score, rating_count, score_sum), "
+      + "histograms AS (" + histogramUpsert() + "), "
+      + "totals AS (SELECT title_id, SUM(rating_count) AS rating_count, SUM(score_sum) AS score_sum "
+      + "FROM folded GROUP BY title_id) "
+      + "UPDATE titles t SET "
+      + "user_rating_avg = CASE WHEN COALESCE(t.user_rating_count, 0) + d.rating_count > 0 THEN "
+      + "(COALESCE(t.user_rating_avg, 0) * COALESCE(t.user_rating_count, 0) + d.score_sum) "
+      + "/ (COALESCE(t.user_rating_count, 0) + d.rating_count) ELSE 0 END, "
+      + "user_rating_count = COALESCE(t.user_rating_count, 0) + d.rating_count "
+      + "FROM totals d WHERE t.id = d.title_id "
+      + "RETURNING t.id";
+
+  /**
+   * Adds the folded per-score counts to title_rating_histograms. Deltas
+   * logged before scores were recorded (score IS NULL) are already in the
+   * histogram backfill and are skipped.
+   */
+  private static String histogramUpsert() {
+    StringBuilder columns = new StringBuilder("title_id");
+    StringBuilder counts = new StringBuilder("title_id");
+    StringBuilder updates = new StringBuilder();
+    for (int score = TitleRatingHistogram.MIN_SCORE; score <= TitleRatingHistogram.MAX_SCORE; score++) {
+      String column = "score_" + score;
+      columns.append(", ").append(column);
+      counts.append(", COALESCE(SUM(rating_count) FILTER (WHERE score = ").append(score).append("), 0)");
+      updates.append(updates.isEmpty() ? "" : ", ")
+          .append(column).append(" = title_rating_histograms.").append(column).append(" + EXCLUDED.").append(column);
+    }
+    return "INSERT INTO title_rating_histograms (" + columns + ") "
+        + "SELECT " + counts + " FROM folded WHERE score IS NOT NULL GROUP BY title_id "
+        + "ON CONFLICT (title_id) DO UPDATE SET " + updates;
+  }
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<UUID> foldRatingDeltas(int batchSize) {
+    Query query = entityManager.createNativeQuery(FOLD_SQL);
+    query.unwrap(NativeQuery.class).addScalar("id", UUID.class);
+    query.setParameter("batchSize", batchSize);
+    return query.getResultList();
+  }
+}
@@ -0,0 +1,15 @@
+package com.filmreview.repository;
+
+import com.filmreview.entity.TitleRatingHistogram;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repository for TitleRatingHistogram entity. Read-only: rows are written by
+ * the rating delta fold in TitleRatingAggregateRepositoryImpl.
+ */
+@Repository
+public interface TitleRatingHistogramRepository extends JpaRepository<TitleRatingHistogram, UUID> {
+}
@@ -6,20 +6,30 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Repository for Title entity.
  */
 @Repository
-public interface TitleRepository extends JpaRepository<Title, UUID> {
+public interface TitleRepository extends JpaRepository<Title, UUID>, TitleBrowseRepository,
+    TitleRatingAggregateRepository {
 
   /**
    * Find title by TMDB ID.
    */
   Optional<Title> findByTmdbId(Integer tmdbId);
 
+  /**
+   * Find all titles matching any of the given TMDB IDs.
+   * Used to resolve a whole TMDB list page against the DB in one query.
+   */
+  List<Title> findAllByTmdbIdIn(Collection<Integer> tmdbIds);
+
   /**
    * Find title by slug.
    */
@@ -43,25 +53,139 @@ public interface TitleRepository extends JpaRepository<Title, UUID> {
   java.util.List<Title> findByTypeOrderByUserRatingAvgDesc(@Param("type") Title.TitleType type);
 
   /**
-   * Search titles by query string (searches in title and originalTitle).
-   * Case-insensitive partial match.
+   * Lightweight view of a title for building the typeahead index.
+   */
+  interface SuggestionSource {
+    UUID getId();
+
+    Title.TitleType getType();
+
+    String getTitle();
+
+    String getOriginalTitle();
+
+    String getSlug();
+
+    java.time.LocalDate getReleaseDate();
+
+    String getPosterUrl();
+
+    Integer getUserRatingCount();
+  }
+
+  /**
+   * Find the typeahead fields of all titles, without loading full entities.
+   */
+  @Query("SELECT t.id AS id, t.type AS type, t.title AS title, t.originalTitle AS originalTitle, " +
+      "t.slug AS slug, t.releaseDate AS releaseDate, t.posterUrl AS posterUrl, " +
+      "t.userRatingCount AS userRatingCount FROM Title t")
+  List<SuggestionSource> findAllSuggestionSources();
+
+  /**
+   * Lightweight view of a title for building the facet index.
+   */
+  interface FacetSource {
+    UUID getId();
+
+    Title.TitleType getType();
+
+    java.time.LocalDate getReleaseDate();
+
+    java.math.BigDecimal getUserRatingAvg();
+  }
+
+  /**
+   * Find the facet fields of all titles, without loading full entities.
+   */
+  @Query("SELECT t.id AS id, t.type AS type, t.releaseDate AS releaseDate, " +
+      "t.userRatingAvg AS userRatingAvg FROM Title t")
+  List<FacetSource> findAllFacetSources();
+
+  /**
+   * Card view of a title: what list views and card grids render. Leaves out
+   * the synopsis, backdrop and other detail-page columns.
+   */
+  interface TitleCard {
+    /**
+     * TitleDto properties a card can serve.
+     */
+    Set<String> PROPERTIES = Set.of("id", "type", "title", "slug", "releaseDate", "posterUrl",
+        "userRatingAvg", "userRatingCount");
+
+    UUID getId();
+
+    Title.TitleType getType();
+
+    String getTitle();
+
+    String getSlug();
+
+    java.time.LocalDate getReleaseDate();
+
+    String getPosterUrl();
+
+    java.math.BigDecimal getUserRatingAvg();
+
+    Integer getUserRatingCount();
+  }
+
+  /**
+   * Find the card fields of the given titles, without loading full entities.
+   */
+  @Query("SELECT t.id AS id, t.type AS type, t.title AS title, t.slug AS slug, " +
+      "t.releaseDate AS releaseDate, t.posterUrl AS posterUrl, t.userRatingAvg AS userRatingAvg, " +
+      "t.userRatingCount AS userRatingCount FROM Title t WHERE t.id IN :ids")
+  List<TitleCard> findCardsByIdIn(@Param("ids") Collection<UUID> ids);
+
+  /**
+   * Document searched by full-text search. Must match the idx_titles_search
+   * GIN index expression exactly, or the planner falls back to a seq scan.
+   */
+  String SEARCH_DOCUMENT = "to_tsvector('english', COALESCE(t.title, '') || ' ' || "
+      + "COALESCE(t.original_title, '') || ' ' || COALESCE(t.synopsis, ''))";
+
+  /**
+   * Document used for ranking only: title matches outrank original title
+   * matches, which outrank synopsis matches.
+   */
+  String RANK_DOCUMENT = "setweight(to_tsvector('english', COALESCE(t.title, '')), 'A') || "
+      + "setweight(to_tsvector('english', COALESCE(t.original_title, '')), 'B') || "
+      + "setweight(to_tsvector('english', COALESCE(t.synopsis, '')), 'D')";
+
+  String SEARCH_QUERY = "(SELECT websearch_to_tsquery('english', :terms) && to_tsquery('english', :prefix) AS query) q";
+
+  /**
+   * Full-text search over title, original title and synopsis, ordered by
+   * relevance. Uses the idx_titles_search GIN index.
+   *
+   * @param terms  websearch_to_tsquery input (completed words)
+   * @param prefix to_tsquery prefix input (e.g. "matr:*"), or empty
    */
-  @Query("SELECT t FROM Title t WHERE " +
-      "LOWER(t.title) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-      "LOWER(t.originalTitle) LIKE LOWER(CONCAT('%', :query, '%'))")
-  org.springframework.data.domain.Page<Title> searchTitles(
-      @Param("query") String query,
+  @Query(value = "SELECT t.* FROM titles t CROSS JOIN " + SEARCH_QUERY + " " +
+      "WHERE " + SEARCH_DOCUMENT + " @@ q.query " +
+      "ORDER BY ts_rank(" + RANK_DOCUMENT + ", q.query) DESC, t.user_rating_count DESC, t.id",
+      countQuery = "SELECT COUNT(*) FROM titles t CROSS JOIN " + SEARCH_QUERY + " " +
+          "WHERE " + SEARCH_DOCUMENT + " @@ q.query",
+      nativeQuery = true)
+  org.springframework.data.domain.Page<Title> fullTextSearch(
+      @Param("terms") String terms,
+      @Param("prefix") String prefix,
       org.springframework.data.domain.Pageable pageable);
 
   /**
-   * Search titles by query string and type.
-   * Case-insensitive partial match.
+   * Full-text search restricted to one title type, ordered by relevance.
+   *
+   * @param type Title type name ("movie" or "tv_show")
    */
-  @Query("SELECT t FROM Title t WHERE t.type = :type AND " +
-      "(LOWER(t.title) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-      "LOWER(t.originalTitle) LIKE LOWER(CONCAT('%', :query, '%')))")
-  org.springframework.data.domain.Page<Title> searchTitlesByType(
-      @Param("query") String query,
-      @Param("type") Title.TitleType type,
+  @Query(value = "SELECT t.* FROM titles t CROSS JOIN " + SEARCH_QUERY + " " +
+      "WHERE " + SEARCH_DOCUMENT + " @@ q.query AND t.type = CAST(:type AS title_type) " +
+      "ORDER BY ts_rank(" + RANK_DOCUMENT + ", q.query) DESC, t.user_rating_count DESC, t.id",
+      countQuery = "SELECT COUNT(*) FROM titles t CROSS JOIN " + SEARCH_QUERY + " " +
+          "WHERE " + SEARCH_DOCUMENT + " @@ q.query AND t.type = CAST(:type AS title_type)",
+      nativeQuery = true)
+  org.springframework.data.domain.Page<Title> fullTextSearchByType(
+      @Param("terms") String terms,
+      @Param("prefix") String prefix,
+      @Param("type") String type,
       org.springframework.data.domain.Pageable pageable);
 }
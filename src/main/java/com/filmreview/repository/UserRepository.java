@@ -2,8 +2,11 @@ package com.filmreview.repository;
 
 import com.filmreview.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,4 +22,37 @@ public interface UserRepository extends JpaRepository<User, UUID> {
   boolean existsByUsername(String username);
 
   Optional<User> findByOauthProviderAndOauthProviderId(String provider, String providerId);
+
+  /**
+   * Version of a user profile: the user row plus the counters shown in its
+   * stats.
+   */
+  interface ProfileVersion {
+    UUID getId();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getRatingsCount();
+
+    Long getReviewsCount();
+
+    Long getWatchlistCount();
+  }
+
+  String PROFILE_VERSION_SELECT = "SELECT u.id AS id, u.updatedAt AS updatedAt, " +
+      "(SELECT COUNT(ra) FROM Rating ra WHERE ra.userId = u.id) AS ratingsCount, " +
+      "(SELECT COUNT(r) FROM Review r WHERE r.userId = u.id AND r.deletedAt IS NULL) AS reviewsCount, " +
+      "(SELECT COUNT(w) FROM Watchlist w WHERE w.userId = u.id) AS watchlistCount FROM User u ";
+
+  /**
+   * Find a user's profile version by ID, in one query.
+   */
+  @Query(PROFILE_VERSION_SELECT + "WHERE u.id = :id")
+  Optional<ProfileVersion> findProfileVersionById(@Param("id") UUID id);
+
+  /**
+   * Find a user's profile version by username, in one query.
+   */
+  @Query(PROFILE_VERSION_SELECT + "WHERE u.username = :username")
+  Optional<ProfileVersion> findProfileVersionByUsername(@Param("username") String username);
 }
@@ -4,8 +4,12 @@ import com.filmreview.entity.Watchlist;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,6 +32,27 @@ public interface WatchlistRepository extends JpaRepository<Watchlist, UUID> {
   Page<Watchlist> findByUserIdAndStatusOrderByCreatedAtDesc(UUID userId, Watchlist.WatchlistStatus status,
       Pageable pageable);
 
+  /**
+   * Keyset page of a user's watchlist, newest first, strictly after the given
+   * (createdAt, id). Served by idx_watchlist_user_created.
+   */
+  @Query("SELECT w FROM Watchlist w WHERE w.userId = :userId " +
+      "AND w.createdAt <= :createdAt AND (w.createdAt < :createdAt OR w.id < :id) " +
+      "ORDER BY w.createdAt DESC, w.id DESC")
+  List<Watchlist> findByUserIdBefore(@Param("userId") UUID userId, @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") UUID id, Pageable pageable);
+
+  /**
+   * Keyset page of a user's watchlist filtered by status, newest first,
+   * strictly after the given (createdAt, id).
+   */
+  @Query("SELECT w FROM Watchlist w WHERE w.userId = :userId AND w.status = :status " +
+      "AND w.createdAt <= :createdAt AND (w.createdAt < :createdAt OR w.id < :id) " +
+      "ORDER BY w.createdAt DESC, w.id DESC")
+  List<Watchlist> findByUserIdAndStatusBefore(@Param("userId") UUID userId,
+      @Param("status") Watchlist.WatchlistStatus status, @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") UUID id, Pageable pageable);
+
   /**
    * Find a specific watchlist item by user and title.
    */
@@ -0,0 +1,130 @@
+package com.filmreview.security;
+
+import com.filmreview.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PasswordEncoder that runs the (deliberately slow) delegate on a dedicated,
+ * bounded worker pool.
+ *
+ * Hashing gets a fixed number of threads (normally one per core) and a
+ * bounded queue. When both are full, or a queued hash waits longer than the
+ * timeout, the caller gets a ServiceUnavailableException (503) right away
+ * instead of piling up on request threads, so a login burst cannot starve
+ * the rest of the API. Request threads only wait on the result; at most
+ * threads + queue capacity of them can be waiting at once.
+ *
+ * Metrics (per instance): the pool's executor metrics under
+ * "password.hashing", a "password.hashing.duration" timer (queue wait
+ * included) and a "password.hashing.rejected" counter tagged by reason.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  static final String METRIC_PREFIX = "password.hashing";
+
+  private static final long RETRY_AFTER_SECONDS = 1;
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final long timeoutMs;
+  private final Timer duration;
+  private final Counter rejectedSaturated;
+  private final Counter rejectedTimeout;
+
+  public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long timeoutMs,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.timeoutMs = timeoutMs;
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+
+    new ExecutorServiceMetrics(executor, METRIC_PREFIX, Tags.empty()).bindTo(meterRegistry);
+    this.duration = Timer.builder(METRIC_PREFIX + ".duration")
+        .description("Password hash/verify time, queue wait included")
+        .register(meterRegistry);
+    this.rejectedSaturated = Counter.builder(METRIC_PREFIX + ".rejected")
+        .tag("reason", "saturated")
+        .register(meterRegistry);
+    this.rejectedTimeout = Counter.builder(METRIC_PREFIX + ".rejected")
+        .tag("reason", "timeout")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return run(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return run(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  private <T> T run(Callable<T> task) {
+    long start = System.nanoTime();
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      rejectedSaturated.increment();
+      throw unavailable();
+    }
+
+    try {
+      return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      // Drops the task if it is still queued; a running hash just finishes
+      future.cancel(false);
+      rejectedTimeout.increment();
+      throw unavailable();
+    } catch (InterruptedException e) {
+      future.cancel(false);
+      Thread.currentThread().interrupt();
+      throw unavailable();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    } finally {
+      duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private ServiceUnavailableException unavailable() {
+    return new ServiceUnavailableException("Too many authentication requests, please retry", RETRY_AFTER_SECONDS);
+  }
+}
@@ -0,0 +1,156 @@
+package com.filmreview.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate limiter that serves most requests from tokens reserved locally.
+ *
+ * The Redis bucket stays the source of truth, but instead of taking one
+ * token per request this node reserves a small batch (about 2% of the limit,
+ * capped by rate-limit.local-batch.max-tokens) and hands the tokens out from
+ * an in-process counter, going back to Redis only when the batch runs out.
+ * Small limits (login, review creation) get a batch of one, so they still
+ * check Redis on every request.
+ *
+ * Accuracy: tokens reserved but not used are lost to other nodes, so a
+ * subject can be under-served by at most one batch per node. Reservations
+ * left unused for rate-limit.local-batch.idle-ms are dropped.
+ *
+ * Reservations go through RedisCircuitBreaker. While Redis is failing or
+ * slow the circuit is open and requests are limited by
+ * LocalFallbackRateLimiter instead, so a Redis outage costs accuracy, not
+ * latency.
+ */
+@Component
+public class HybridRateLimiter {
+
+  private static final int BATCH_DIVISOR = 50;
+
+  private static final Logger logger = LoggerFactory.getLogger(HybridRateLimiter.class);
+
+  private final ProxyManager<byte[]> proxyManager;
+  private final RedisCircuitBreaker circuitBreaker;
+  private final LocalFallbackRateLimiter fallback;
+  private final int maxBatch;
+  private final Cache<String, LocalAllowance> allowances;
+
+  public HybridRateLimiter(
+      ProxyManager<byte[]> proxyManager,
+      RedisCircuitBreaker circuitBreaker,
+      LocalFallbackRateLimiter fallback,
+      @Value("${rate-limit.local-batch.max-tokens:20}") int maxBatch,
+      @Value("${rate-limit.local-batch.idle-ms:10000}") long idleMs,
+      @Value("${rate-limit.local-batch.max-keys:100000}") long maxKeys) {
+    this.proxyManager = proxyManager;
+    this.circuitBreaker = circuitBreaker;
+    this.fallback = fallback;
+    this.maxBatch = maxBatch;
+    this.allowances = Caffeine.newBuilder()
+        .maximumSize(maxKeys)
+        .expireAfterAccess(Duration.ofMillis(idleMs))
+        .build();
+  }
+
+  /**
+   * Take one token for a subject.
+   *
+   * @param policy  Key class the subject belongs to
+   * @param subject User ID or client IP
+   * @return Whether the request is allowed, the estimated remaining tokens and,
+   *         if rejected, how long until a token is available
+   */
+  public Decision tryAcquire(RateLimitPolicy policy, String subject) {
+    String key = policy.key(subject);
+    LocalAllowance allowance = allowances.get(key, k -> new LocalAllowance(policy, subject));
+
+    // Fast path: a locally reserved token, no network round trip
+    long left = allowance.tokens.getAndUpdate(tokens -> tokens > 0 ? tokens - 1 : tokens);
+    if (left > 0) {
+      return Decision.allowed(allowance.remoteRemaining + left - 1);
+    }
+
+    synchronized (allowance) {
+      // Another thread may have refilled the batch while we waited
+      left = allowance.tokens.getAndUpdate(tokens -> tokens > 0 ? tokens - 1 : tokens);
+      if (left > 0) {
+        return Decision.allowed(allowance.remoteRemaining + left - 1);
+      }
+      if (!circuitBreaker.tryAcquirePermission()) {
+        return fallback.tryAcquire(policy, subject);
+      }
+
+      long startedAt = circuitBreaker.start();
+      try {
+        Decision decision = reserve(policy, allowance);
+        circuitBreaker.recordSuccess(startedAt);
+        return decision;
+      } catch (RuntimeException e) {
+        circuitBreaker.recordFailure();
+        logger.debug("Rate limit reservation failed, using local fallback: key={}", key, e);
+        return fallback.tryAcquire(policy, subject);
+      }
+    }
+  }
+
+  private Decision reserve(RateLimitPolicy policy, LocalAllowance allowance) {
+    long batch = batchSize(policy);
+    ConsumptionProbe probe = allowance.bucket.tryConsumeAndReturnRemaining(batch);
+    if (!probe.isConsumed() && probe.getRemainingTokens() > 0) {
+      // Fewer than a full batch left: take what there is
+      batch = probe.getRemainingTokens();
+      probe = allowance.bucket.tryConsumeAndReturnRemaining(batch);
+    }
+
+    if (!probe.isConsumed()) {
+      return Decision.rejected(probe.getNanosToWaitForRefill());
+    }
+
+    // One token for this request, the rest for the next ones
+    allowance.remoteRemaining = probe.getRemainingTokens();
+    allowance.tokens.set(batch - 1);
+    return Decision.allowed(allowance.remoteRemaining + batch - 1);
+  }
+
+  long batchSize(RateLimitPolicy policy) {
+    return Math.max(1, Math.min(maxBatch, policy.limit() / BATCH_DIVISOR));
+  }
+
+  /**
+   * Tokens this node has reserved from one Redis bucket.
+   */
+  private class LocalAllowance {
+    private final Bucket bucket;
+    private final AtomicLong tokens = new AtomicLong();
+    private volatile long remoteRemaining;
+
+    private LocalAllowance(RateLimitPolicy policy, String subject) {
+      this.bucket = proxyManager.builder()
+          .build(policy.redisKey(subject), policy::configuration);
+    }
+  }
+
+  /**
+   * Outcome of one acquire.
+   */
+  public record Decision(boolean allowed, long remaining, long nanosToWait) {
+
+    static Decision allowed(long remaining) {
+      return new Decision(true, remaining, 0);
+    }
+
+    static Decision rejected(long nanosToWait) {
+      return new Decision(false, 0, nanosToWait);
+    }
+  }
+}
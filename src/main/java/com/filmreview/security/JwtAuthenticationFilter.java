@@ -16,8 +16,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.UUID;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -44,32 +42,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     try {
-      // Check if token is valid (not expired and properly formatted)
-      if (tokenProvider.validateToken(jwt)) {
-        UUID userId = tokenProvider.getUserIdFromToken(jwt);
-        String username = tokenProvider.getUsernameFromToken(jwt);
-        String email = tokenProvider.getEmailFromToken(jwt);
-        List<String> roles = tokenProvider.getRolesFromToken(jwt);
-        List<String> permissions = tokenProvider.getPermissionsFromToken(jwt);
+      // Verifies signature and expiry in one parse; repeat tokens come from
+      // the verified-token cache
+      UserPrincipal userPrincipal = tokenProvider.getPrincipalFromToken(jwt);
 
-        UserPrincipal userPrincipal = new UserPrincipal(userId, username, email, roles, permissions);
-
-        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-            userPrincipal,
-            null,
-            userPrincipal.getAuthorities());
-        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-      } else {
-        // Token is present but invalid/expired - return 401
-        handleUnauthorized(response, "Token expired or invalid");
-        return;
-      }
+      UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+          userPrincipal,
+          null,
+          userPrincipal.getAuthorities());
+      authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+      SecurityContextHolder.getContext().setAuthentication(authentication);
     } catch (ExpiredJwtException e) {
       // Token is expired - return 401 so frontend can refresh
       handleUnauthorized(response, "Token expired");
       return;
-    } catch (JwtException e) {
+    } catch (JwtException | IllegalArgumentException e) {
       // Token is malformed or invalid - return 401
       handleUnauthorized(response, "Invalid token");
       return;
@@ -1,33 +1,65 @@
 package com.filmreview.security;
 
 import com.filmreview.entity.RoleType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+/**
+ * Issues and verifies JWTs.
+ *
+ * The signing key and parser are built once. Verified access tokens are
+ * cached as principals (keyed by a SHA-256 digest of the token, so raw tokens
+ * are not kept in memory) until the token itself expires, so a client sending
+ * the same token again costs one hash and a map lookup instead of a JWS
+ * verification.
+ */
 @Component
 public class JwtTokenProvider {
 
-  @Value("${jwt.secret:your-secret-key-change-this-in-production-min-256-bits}")
-  private String secret;
+  private final long accessTokenExpiration;
 
-  @Value("${jwt.access-token-expiration:900000}") // 15 minutes in milliseconds
-  private long accessTokenExpiration;
+  private final long refreshTokenExpiration;
 
-  @Value("${jwt.refresh-token-expiration:604800000}") // 7 days in milliseconds
-  private long refreshTokenExpiration;
+  private final SecretKey signingKey;
 
-  private SecretKey getSigningKey() {
-    return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+  private final JwtParser parser;
+
+  private final Cache<String, VerifiedToken> verifiedTokens;
+
+  public JwtTokenProvider(
+      @Value("${jwt.secret:your-secret-key-change-this-in-production-min-256-bits}") String secret,
+      @Value("${jwt.access-token-expiration:900000}") long accessTokenExpiration, // 15 minutes in milliseconds
+      @Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenExpiration, // 7 days in milliseconds
+      @Value("${jwt.verified-cache.max-entries:50000}") long verifiedCacheMaxEntries) {
+    this.accessTokenExpiration = accessTokenExpiration;
+    this.refreshTokenExpiration = refreshTokenExpiration;
+    this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    this.parser = Jwts.parser()
+        .verifyWith(signingKey)
+        .build();
+    this.verifiedTokens = Caffeine.newBuilder()
+        .maximumSize(verifiedCacheMaxEntries)
+        .expireAfter(new TokenExpiry())
+        .build();
   }
 
   public String generateAccessToken(UUID userId, String username, String email, List<String> roles,
@@ -53,7 +85,7 @@ public class JwtTokenProvider {
         .claim("permissions", permissions != null ? permissions : List.of())
         .issuedAt(now)
         .expiration(expiryDate)
-        .signWith(getSigningKey())
+        .signWith(signingKey)
         .compact();
   }
 
@@ -70,26 +102,30 @@ public class JwtTokenProvider {
     return getClaimFromToken(token, claims -> claims.get("email", String.class));
   }
 
-  @SuppressWarnings("unchecked")
   public List<String> getRolesFromToken(String token) {
-    return getClaimFromToken(token, claims -> {
-      Object roles = claims.get("roles");
-      if (roles instanceof List) {
-        return (List<String>) roles;
-      }
-      return List.of(RoleType.USER.getName());
-    });
+    return getClaimFromToken(token, JwtTokenProvider::getRoles);
   }
 
-  @SuppressWarnings("unchecked")
   public List<String> getPermissionsFromToken(String token) {
-    return getClaimFromToken(token, claims -> {
-      Object permissions = claims.get("permissions");
-      if (permissions instanceof List) {
-        return (List<String>) permissions;
-      }
-      return List.of();
-    });
+    return getClaimFromToken(token, JwtTokenProvider::getPermissions);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<String> getRoles(Claims claims) {
+    Object roles = claims.get("roles");
+    if (roles instanceof List) {
+      return (List<String>) roles;
+    }
+    return List.of(RoleType.USER.getName());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<String> getPermissions(Claims claims) {
+    Object permissions = claims.get("permissions");
+    if (permissions instanceof List) {
+      return (List<String>) permissions;
+    }
+    return List.of();
   }
 
   public Date getExpirationDateFromToken(String token) {
@@ -101,25 +137,82 @@ public class JwtTokenProvider {
     return claimsResolver.apply(claims);
   }
 
+  /**
+   * Verify a token and build its principal, parsing the token at most once.
+   * Tokens verified before are served from the cache until they expire.
+   *
+   * @throws io.jsonwebtoken.ExpiredJwtException if the token has expired
+   * @throws io.jsonwebtoken.JwtException        if the token is malformed, has
+   *                                             no expiration or its signature
+   *                                             is invalid
+   */
+  public UserPrincipal getPrincipalFromToken(String token) {
+    String digest = digest(token);
+    VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+    if (cached != null) {
+      return cached.principal();
+    }
+
+    Claims claims = getAllClaimsFromToken(token);
+    if (claims.getExpiration() == null) {
+      // Every issued token expires; one that doesn't would stay cached and valid forever
+      throw new MalformedJwtException("Token has no expiration");
+    }
+    UserPrincipal principal = new UserPrincipal(
+        UUID.fromString(claims.getSubject()),
+        claims.get("username", String.class),
+        claims.get("email", String.class),
+        List.copyOf(getRoles(claims)),
+        List.copyOf(getPermissions(claims)));
+    verifiedTokens.put(digest, new VerifiedToken(principal, claims.getExpiration().getTime()));
+    return principal;
+  }
+
   private Claims getAllClaimsFromToken(String token) {
-    return Jwts.parser()
-        .verifyWith(getSigningKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload();
+    // Throws ExpiredJwtException for expired tokens
+    return parser.parseSignedClaims(token).getPayload();
   }
 
   public Boolean validateToken(String token) {
     try {
-      getAllClaimsFromToken(token);
-      return !isTokenExpired(token);
+      Claims claims = getAllClaimsFromToken(token);
+      return !claims.getExpiration().before(new Date());
     } catch (Exception e) {
       return false;
     }
   }
 
-  private Boolean isTokenExpired(String token) {
-    final Date expiration = getExpirationDateFromToken(token);
-    return expiration.before(new Date());
+  private static String digest(String token) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private record VerifiedToken(UserPrincipal principal, long expiresAtMillis) {
+  }
+
+  /**
+   * Expires each cached principal when its token expires.
+   */
+  private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
   }
 }
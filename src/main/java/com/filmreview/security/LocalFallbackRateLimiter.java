@@ -0,0 +1,79 @@
+package com.filmreview.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process rate limiter used while Redis is unavailable.
+ *
+ * Keeps one lock-free Bucket4j bucket per key in a bounded table. Each
+ * node enforces its share of the limit (the limit divided by
+ * rate-limit.fallback.expected-nodes, rounded up), so a load-balanced
+ * subject sees roughly the normal limit overall.
+ */
+@Component
+public class LocalFallbackRateLimiter {
+
+  private final int expectedNodes;
+  private final Cache<String, Bucket> buckets;
+  private final Map<RateLimitPolicy, BucketConfiguration> configurations = new ConcurrentHashMap<>();
+
+  public LocalFallbackRateLimiter(
+      @Value("${rate-limit.fallback.expected-nodes:3}") int expectedNodes,
+      @Value("${rate-limit.fallback.idle-ms:3600000}") long idleMs,
+      @Value("${rate-limit.fallback.max-keys:100000}") long maxKeys) {
+    this.expectedNodes = Math.max(1, expectedNodes);
+    this.buckets = Caffeine.newBuilder()
+        .maximumSize(maxKeys)
+        .expireAfterAccess(Duration.ofMillis(idleMs))
+        .build();
+  }
+
+  public HybridRateLimiter.Decision tryAcquire(RateLimitPolicy policy, String subject) {
+    Bucket bucket = buckets.get(policy.key(subject), key -> {
+      LocalBucketBuilder builder = Bucket.builder();
+      configurations.computeIfAbsent(policy, this::perNode).getBandwidths().forEach(builder::addLimit);
+      return builder.build();
+    });
+
+    ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+    if (!probe.isConsumed()) {
+      return HybridRateLimiter.Decision.rejected(probe.getNanosToWaitForRefill());
+    }
+    return HybridRateLimiter.Decision.allowed(probe.getRemainingTokens());
+  }
+
+  /**
+   * This node's share of a policy's bandwidths.
+   */
+  private BucketConfiguration perNode(RateLimitPolicy policy) {
+    var builder = BucketConfiguration.builder();
+    for (Bandwidth bandwidth : policy.configuration().getBandwidths()) {
+      long capacity = ceilDiv(bandwidth.getCapacity(), expectedNodes);
+      long refillTokens = ceilDiv(bandwidth.getRefillTokens(), expectedNodes);
+      Duration refillPeriod = Duration.ofNanos(bandwidth.getRefillPeriodNanos());
+      builder.addLimit(limit -> {
+        var refill = limit.capacity(capacity);
+        return bandwidth.isRefillIntervally()
+            ? refill.refillIntervally(refillTokens, refillPeriod)
+            : refill.refillGreedy(refillTokens, refillPeriod);
+      });
+    }
+    return builder.build();
+  }
+
+  private static long ceilDiv(long value, long divisor) {
+    return (value + divisor - 1) / divisor;
+  }
+}
@@ -2,11 +2,6 @@ package com.filmreview.security;
 
 import com.filmreview.exception.RateLimitExceededException;
 import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.BucketConfiguration;
-import io.github.bucket4j.ConsumptionProbe;
-import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
-import java.nio.charset.StandardCharsets;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,33 +23,39 @@ import java.io.IOException;
  * - IP address (for anonymous users and login attempts)
  * 
  * All buckets are stored in Redis, allowing rate limits to work across
- * multiple application instances.
+ * multiple application instances. Tokens are taken through
+ * HybridRateLimiter, which reserves them from Redis in small batches.
  */
 @Component
 public class RateLimitFilter extends OncePerRequestFilter {
 
-  private final LettuceBasedProxyManager<byte[]> proxyManager;
-  private final Bandwidth anonymousBandwidth;
-  private final Bandwidth authenticatedBandwidth;
-  private final Bandwidth writeOperationBandwidth;
-  private final Bandwidth reviewCreationBandwidth;
-  private final Bandwidth loginAttemptBandwidth;
+  private final HybridRateLimiter rateLimiter;
+  private final RateLimitPolicy anonymousPolicy;
+  private final RateLimitPolicy authenticatedPolicy;
+  private final RateLimitPolicy writeOperationPolicy;
+  private final RateLimitPolicy reviewCreationPolicy;
+  private final RateLimitPolicy loginAttemptPolicy;
   private final Environment environment;
 
   public RateLimitFilter(
-      LettuceBasedProxyManager<byte[]> proxyManager,
+      HybridRateLimiter rateLimiter,
       Bandwidth anonymousBandwidth,
       Bandwidth authenticatedBandwidth,
       Bandwidth writeOperationBandwidth,
       Bandwidth reviewCreationBandwidth,
       Bandwidth loginAttemptBandwidth,
       Environment environment) {
-    this.proxyManager = proxyManager;
-    this.anonymousBandwidth = anonymousBandwidth;
-    this.authenticatedBandwidth = authenticatedBandwidth;
-    this.writeOperationBandwidth = writeOperationBandwidth;
-    this.reviewCreationBandwidth = reviewCreationBandwidth;
-    this.loginAttemptBandwidth = loginAttemptBandwidth;
+    this.rateLimiter = rateLimiter;
+    this.anonymousPolicy = RateLimitPolicy.of("rl:anon:", anonymousBandwidth, 100,
+        "Rate limit exceeded. Maximum 100 requests per hour.");
+    this.authenticatedPolicy = RateLimitPolicy.of("rl:auth:", authenticatedBandwidth, 1000,
+        "Rate limit exceeded. Maximum 1000 requests per hour.");
+    this.writeOperationPolicy = RateLimitPolicy.of("rl:write:", writeOperationBandwidth, 50,
+        "Write operation rate limit exceeded. Maximum 50 write operations per hour.");
+    this.reviewCreationPolicy = RateLimitPolicy.of("rl:review:", reviewCreationBandwidth, 10,
+        "Review creation rate limit exceeded. Maximum 10 reviews per hour.");
+    this.loginAttemptPolicy = RateLimitPolicy.of("rl:login:", loginAttemptBandwidth, 5,
+        "Too many login attempts. Please try again later.");
     this.environment = environment;
   }
 
@@ -94,10 +95,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
 
       // Check login attempt rate limit (by IP)
       if (path.startsWith("/api/v1/auth/login") || path.startsWith("/api/v1/auth/register")) {
-        String clientIp = getClientIpAddress(request);
-        String keyPrefix = "rl:login:" + clientIp;
-        checkRateLimit(keyPrefix, loginAttemptBandwidth, 5,
-            "Too many login attempts. Please try again later.", response);
+        checkRateLimit(loginAttemptPolicy, getClientIpAddress(request), response);
         filterChain.doFilter(request, response);
         return;
       }
@@ -107,42 +105,24 @@ public class RateLimitFilter extends OncePerRequestFilter {
         if (!isAuthenticated) {
           throw new RateLimitExceededException("Authentication required", 0);
         }
-        String userId = getUserId(authentication);
-        String keyPrefix = "rl:review:" + userId;
-        checkRateLimit(keyPrefix, reviewCreationBandwidth, 10,
-            "Review creation rate limit exceeded. Maximum 10 reviews per hour.", response);
+        checkRateLimit(reviewCreationPolicy, getUserId(authentication), response);
         filterChain.doFilter(request, response);
         return;
       }
 
       // Check write operation rate limit (per user)
       if (isWriteOperation(method, path) && isAuthenticated) {
-        String userId = getUserId(authentication);
-        String keyPrefix = "rl:write:" + userId;
-        checkRateLimit(keyPrefix, writeOperationBandwidth, 50,
-            "Write operation rate limit exceeded. Maximum 50 write operations per hour.", response);
+        checkRateLimit(writeOperationPolicy, getUserId(authentication), response);
         filterChain.doFilter(request, response);
         return;
       }
 
       // Check general rate limit (anonymous or authenticated)
-      String keyPrefix;
-      Bandwidth bandwidth;
-      int limit;
       if (isAuthenticated) {
-        String userId = getUserId(authentication);
-        keyPrefix = "rl:auth:" + userId;
-        bandwidth = authenticatedBandwidth;
-        limit = 1000;
+        checkRateLimit(authenticatedPolicy, getUserId(authentication), response);
       } else {
-        String clientIp = getClientIpAddress(request);
-        keyPrefix = "rl:anon:" + clientIp;
-        bandwidth = anonymousBandwidth;
-        limit = 100;
+        checkRateLimit(anonymousPolicy, getClientIpAddress(request), response);
       }
-
-      checkRateLimit(keyPrefix, bandwidth, limit,
-          String.format("Rate limit exceeded. Maximum %d requests per hour.", limit), response);
       filterChain.doFilter(request, response);
 
     } catch (RateLimitExceededException e) {
@@ -180,33 +160,23 @@ public class RateLimitFilter extends OncePerRequestFilter {
   }
 
   /**
-   * Checks rate limit for a given key prefix and bandwidth configuration.
+   * Checks rate limit for a subject under a policy.
    * 
-   * @param keyPrefix    Redis key prefix for the rate limit bucket (e.g.,
-   *                     "rl:login:192.168.1.1")
-   * @param bandwidth    Bandwidth configuration for this rate limit
-   * @param limit        Maximum number of requests allowed (for headers)
-   * @param errorMessage Error message to throw if rate limit is exceeded
-   * @param response     HTTP response to add rate limit headers to
+   * @param policy   Key class, bandwidth and error message (e.g., login
+   *                 attempts by IP)
+   * @param subject  User ID or client IP (e.g., "192.168.1.1")
+   * @param response HTTP response to add rate limit headers to
    * @throws RateLimitExceededException if rate limit is exceeded
    */
-  private void checkRateLimit(String keyPrefix, Bandwidth bandwidth, int limit,
-      String errorMessage, HttpServletResponse response) {
-    byte[] key = keyPrefix.getBytes(StandardCharsets.UTF_8);
-    BucketConfiguration config = BucketConfiguration.builder()
-        .addLimit(bandwidth)
-        .build();
-    Bucket bucket = proxyManager.builder()
-        .build(key, () -> config);
-    ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
-
-    if (!probe.isConsumed()) {
-      long retryAfterSeconds = probe.getNanosToWaitForRefill() / 1_000_000_000;
-      throw new RateLimitExceededException(errorMessage, retryAfterSeconds);
+  private void checkRateLimit(RateLimitPolicy policy, String subject, HttpServletResponse response) {
+    HybridRateLimiter.Decision decision = rateLimiter.tryAcquire(policy, subject);
+
+    if (!decision.allowed()) {
+      long retryAfterSeconds = decision.nanosToWait() / 1_000_000_000;
+      throw new RateLimitExceededException(policy.errorMessage(), retryAfterSeconds);
     }
 
-    long retryAfter = probe.getNanosToWaitForRefill() / 1_000_000_000;
-    addRateLimitHeaders(response, limit, probe.getRemainingTokens(), retryAfter);
+    addRateLimitHeaders(response, policy.limit(), decision.remaining(), decision.nanosToWait() / 1_000_000_000);
   }
 
   private void addRateLimitHeaders(HttpServletResponse response, long limit, long remaining,
@@ -0,0 +1,88 @@
+package com.filmreview.security;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * One class of rate-limit keys (e.g. all "rl:anon:{ip}" buckets): the key
+ * prefix, its bandwidth and the message sent when it is exceeded. The bucket
+ * configuration is built once and shared by every key of the class.
+ *
+ * Redis keys are the prefix followed by a compact binary subject: 16 bytes
+ * for a user ID, the first 8 bytes of SHA-256 for an IP address (so raw IPs
+ * are never stored).
+ */
+public record RateLimitPolicy(
+    String keyPrefix,
+    int limit,
+    String errorMessage,
+    BucketConfiguration configuration) {
+
+  /**
+   * Prefix shared by every rate-limit key.
+   */
+  public static final String KEY_NAMESPACE = "rl:";
+
+  private static final int HASHED_SUBJECT_BYTES = 8;
+
+  public static RateLimitPolicy of(String keyPrefix, Bandwidth bandwidth, int limit, String errorMessage) {
+    BucketConfiguration configuration = BucketConfiguration.builder()
+        .addLimit(bandwidth)
+        .build();
+    return new RateLimitPolicy(keyPrefix, limit, errorMessage, configuration);
+  }
+
+  /**
+   * Readable key of one subject, e.g. "rl:anon:192.168.1.1". Used for
+   * in-process state only.
+   */
+  public String key(String subject) {
+    return keyPrefix + subject;
+  }
+
+  /**
+   * Redis key of one subject's bucket: the prefix plus the encoded subject.
+   */
+  public byte[] redisKey(String subject) {
+    byte[] prefix = keyPrefix.getBytes(StandardCharsets.UTF_8);
+    byte[] encoded = encodeSubject(subject);
+    byte[] key = Arrays.copyOf(prefix, prefix.length + encoded.length);
+    System.arraycopy(encoded, 0, key, prefix.length, encoded.length);
+    return key;
+  }
+
+  static byte[] encodeSubject(String subject) {
+    UUID userId = parseUuid(subject);
+    if (userId != null) {
+      return ByteBuffer.allocate(16)
+          .putLong(userId.getMostSignificantBits())
+          .putLong(userId.getLeastSignificantBits())
+          .array();
+    }
+
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(subject.getBytes(StandardCharsets.UTF_8));
+      return Arrays.copyOf(hash, HASHED_SUBJECT_BYTES);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private static UUID parseUuid(String subject) {
+    if (subject.length() != 36) {
+      return null;
+    }
+    try {
+      return UUID.fromString(subject);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package com.filmreview.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker guarding the rate limiter's Redis calls.
+ *
+ * Counts the outcomes of the last rate-limit.circuit.window-size calls; a
+ * call fails if it throws or takes longer than rate-limit.circuit.slow-call-ms.
+ * Once the window is full and the failure rate reaches the threshold the
+ * circuit opens and callers use the local fallback. After
+ * rate-limit.circuit.open-ms one probe call is let through (half-open): if it
+ * succeeds the circuit closes, otherwise it opens again.
+ *
+ * Only batch reservations go through the breaker, so the lock is not on the
+ * per-request path.
+ */
+@Component
+public class RedisCircuitBreaker {
+
+  private static final Logger logger = LoggerFactory.getLogger(RedisCircuitBreaker.class);
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private final boolean[] failures;
+  private final double failureRateThreshold;
+  private final long slowCallNanos;
+  private final long openNanos;
+  private final LongSupplier nanoClock;
+
+  private State state = State.CLOSED;
+  private int calls;
+  private int next;
+  private int failureCount;
+  private long openedAt;
+  private boolean probeInFlight;
+
+  @Autowired
+  public RedisCircuitBreaker(
+      @Value("${rate-limit.circuit.window-size:20}") int windowSize,
+      @Value("${rate-limit.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+      @Value("${rate-limit.circuit.slow-call-ms:50}") long slowCallMs,
+      @Value("${rate-limit.circuit.open-ms:10000}") long openMs) {
+    this(windowSize, failureRateThreshold, slowCallMs, openMs, System::nanoTime);
+  }
+
+  RedisCircuitBreaker(int windowSize, double failureRateThreshold, long slowCallMs, long openMs,
+      LongSupplier nanoClock) {
+    this.failures = new boolean[windowSize];
+    this.failureRateThreshold = failureRateThreshold;
+    this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMs);
+    this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMs);
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Whether a Redis call may be made now. In half-open state only one probe
+   * is allowed at a time; its outcome must be recorded.
+   */
+  public synchronized boolean tryAcquirePermission() {
+    switch (state) {
+      case CLOSED:
+        return true;
+      case OPEN:
+        if (nanoClock.getAsLong() - openedAt < openNanos) {
+          return false;
+        }
+        transition(State.HALF_OPEN);
+        probeInFlight = true;
+        return true;
+      default:
+        if (probeInFlight) {
+          return false;
+        }
+        probeInFlight = true;
+        return true;
+    }
+  }
+
+  /**
+   * Current time, for measuring a call.
+   */
+  public long start() {
+    return nanoClock.getAsLong();
+  }
+
+  /**
+   * Record a call that returned; it still counts as failed if it was slow.
+   *
+   * @param startedAt Value of {@link #start()} before the call
+   */
+  public void recordSuccess(long startedAt) {
+    record(nanoClock.getAsLong() - startedAt > slowCallNanos);
+  }
+
+  /**
+   * Record a call that threw.
+   */
+  public void recordFailure() {
+    record(true);
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  private synchronized void record(boolean failed) {
+    if (state == State.HALF_OPEN) {
+      probeInFlight = false;
+      if (failed) {
+        open();
+      } else {
+        reset();
+        transition(State.CLOSED);
+      }
+      return;
+    }
+    if (state == State.OPEN) {
+      return;
+    }
+
+    if (calls == failures.length && failures[next]) {
+      failureCount--;
+    }
+    failures[next] = failed;
+    if (failed) {
+      failureCount++;
+    }
+    next = (next + 1) % failures.length;
+    calls = Math.min(calls + 1, failures.length);
+
+    if (calls == failures.length && failureCount >= failureRateThreshold * failures.length) {
+      open();
+    }
+  }
+
+  private void open() {
+    openedAt = nanoClock.getAsLong();
+    reset();
+    transition(State.OPEN);
+  }
+
+  private void reset() {
+    calls = 0;
+    next = 0;
+    failureCount = 0;
+    Arrays.fill(failures, false);
+  }
+
+  private void transition(State newState) {
+    if (state != newState) {
+      if (newState == State.OPEN) {
+        logger.warn("Rate limiter Redis circuit {} -> OPEN, using local fallback limits", state);
+      } else {
+        logger.info("Rate limiter Redis circuit {} -> {}", state, newState);
+      }
+      state = newState;
+    }
+  }
+}
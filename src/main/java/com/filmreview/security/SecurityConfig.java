@@ -1,7 +1,9 @@
 package com.filmreview.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -31,9 +33,19 @@ public class SecurityConfig {
     this.rateLimitFilter = rateLimitFilter;
   }
 
+  /**
+   * BCrypt(12) costs ~250 ms of CPU per hash, so it runs on a bounded pool
+   * sized to the cores rather than on request threads.
+   */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder(12);
+  public PasswordEncoder passwordEncoder(
+      MeterRegistry meterRegistry,
+      @Value("${security.password-hashing.threads:0}") int threads, // 0 = one per core
+      @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+      @Value("${security.password-hashing.timeout-ms:5000}") long timeoutMs) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    return new BoundedPasswordEncoder(new BCryptPasswordEncoder(12), poolSize, queueCapacity, timeoutMs,
+        meterRegistry);
   }
 
   @Bean
@@ -65,6 +77,8 @@ public class SecurityConfig {
             .requestMatchers(HttpMethod.GET, "/api/v1/reviews/titles/**").permitAll() // Public access to title reviews
             .requestMatchers("/api/v1/users/{username}").permitAll() // Public access to user profiles by username
             .requestMatchers("/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+            .requestMatchers("/actuator/health").permitAll()
+            .requestMatchers("/actuator/**").hasRole("ADMIN")
             // Admin endpoints require ADMIN or MODERATOR role
             // Method-level security (@PreAuthorize) will further restrict specific
             // endpoints
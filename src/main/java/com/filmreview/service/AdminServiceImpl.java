@@ -22,14 +22,17 @@ public class AdminServiceImpl implements AdminService {
   private final UserRepository userRepository;
   private final RoleRepository roleRepository;
   private final UserRoleRepository userRoleRepository;
+  private final PermissionService permissionService;
 
   public AdminServiceImpl(
       UserRepository userRepository,
       RoleRepository roleRepository,
-      UserRoleRepository userRoleRepository) {
+      UserRoleRepository userRoleRepository,
+      PermissionService permissionService) {
     this.userRepository = userRepository;
     this.roleRepository = roleRepository;
     this.userRoleRepository = userRoleRepository;
+    this.permissionService = permissionService;
   }
 
   @Override
@@ -52,6 +55,7 @@ public class AdminServiceImpl implements AdminService {
     userRole.setUserId(userId);
     userRole.setRoleId(adminRole.getId());
     userRoleRepository.save(userRole);
+    permissionService.invalidate(userId);
 
     return user;
   }
@@ -83,6 +87,7 @@ public class AdminServiceImpl implements AdminService {
 
     // Remove ADMIN role
     userRoleRepository.deleteByUserIdAndRoleId(userId, adminRole.getId());
+    permissionService.invalidate(userId);
 
     return user;
   }
@@ -15,7 +15,8 @@ import com.filmreview.repository.UserRoleRepository;
 import com.filmreview.security.JwtTokenProvider;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,6 +31,7 @@ public class AuthServiceImpl implements AuthService {
   private final PasswordEncoder passwordEncoder;
   private final JwtTokenProvider tokenProvider;
   private final PermissionService permissionService;
+  private final TransactionTemplate transactionTemplate;
 
   public AuthServiceImpl(
       UserRepository userRepository,
@@ -37,17 +39,19 @@ public class AuthServiceImpl implements AuthService {
       RoleRepository roleRepository,
       PasswordEncoder passwordEncoder,
       JwtTokenProvider tokenProvider,
-      PermissionService permissionService) {
+      PermissionService permissionService,
+      PlatformTransactionManager transactionManager) {
     this.userRepository = userRepository;
     this.userRoleRepository = userRoleRepository;
     this.roleRepository = roleRepository;
     this.passwordEncoder = passwordEncoder;
     this.tokenProvider = tokenProvider;
     this.permissionService = permissionService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
   }
 
   private List<String> getUserRoles(UUID userId) {
-    List<String> roles = userRoleRepository.findRoleNamesByUserId(userId);
+    List<String> roles = permissionService.getUserRoles(userId);
     // If user has no roles, assign default USER role
     if (roles.isEmpty()) {
       return List.of(RoleType.USER.getName());
@@ -60,15 +64,34 @@ public class AuthServiceImpl implements AuthService {
   }
 
   @Override
-  @Transactional
   public AuthResponse register(RegisterRequest request) {
     // Check if email already exists
     if (userRepository.existsByEmail(request.getEmail())) {
       throw new BadRequestException("Email already exists");
     }
 
+    // Hash outside the transaction: waiting for a hashing slot must not hold a
+    // pooled connection
+    String passwordHash = passwordEncoder.encode(request.getPassword());
+
+    User user = transactionTemplate.execute(status -> createUser(request.getEmail(), passwordHash));
+
+    // Get user roles and permissions
+    List<String> roles = getUserRoles(user.getId());
+    List<String> permissions = getUserPermissions(user.getId());
+
+    // Generate tokens
+    String accessToken = tokenProvider.generateAccessToken(user.getId(), user.getUsername(), user.getEmail(), roles,
+        permissions);
+    String refreshToken = tokenProvider.generateRefreshToken(user.getId(), user.getUsername(), user.getEmail(), roles,
+        permissions);
+
+    return buildAuthResponse(user, accessToken, refreshToken, roles, permissions);
+  }
+
+  private User createUser(String email, String passwordHash) {
     // Generate username from email (part before @)
-    String baseUsername = request.getEmail().split("@")[0];
+    String baseUsername = email.split("@")[0];
     String username = baseUsername;
     int counter = 1;
 
@@ -81,8 +104,8 @@ public class AuthServiceImpl implements AuthService {
     // Create new user
     User user = new User();
     user.setUsername(username);
-    user.setEmail(request.getEmail());
-    user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+    user.setEmail(email);
+    user.setPasswordHash(passwordHash);
     user.setDisplayName(username); // Use generated username as display name initially
     user.setVerified(false);
 
@@ -97,17 +120,7 @@ public class AuthServiceImpl implements AuthService {
     userRoleEntity.setRoleId(userRole.getId());
     userRoleRepository.save(userRoleEntity);
 
-    // Get user roles and permissions
-    List<String> roles = getUserRoles(user.getId());
-    List<String> permissions = getUserPermissions(user.getId());
-
-    // Generate tokens
-    String accessToken = tokenProvider.generateAccessToken(user.getId(), user.getUsername(), user.getEmail(), roles,
-        permissions);
-    String refreshToken = tokenProvider.generateRefreshToken(user.getId(), user.getUsername(), user.getEmail(), roles,
-        permissions);
-
-    return buildAuthResponse(user, accessToken, refreshToken, roles, permissions);
+    return user;
   }
 
   @Override
@@ -0,0 +1,87 @@
+package com.filmreview.service;
+
+import com.filmreview.entity.Genre;
+import com.filmreview.repository.GenreRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory dictionary of genres keyed by TMDB genre ID.
+ *
+ * Genres are a small, rarely changing set, so title ingestion checks this
+ * dictionary instead of querying the genres table per genre. It is loaded at
+ * startup and refreshed whenever genres are synced from TMDB or new genres
+ * are inserted during ingestion.
+ */
+@Component
+public class GenreDictionary {
+
+  private static final Logger logger = LoggerFactory.getLogger(GenreDictionary.class);
+
+  private final GenreRepository genreRepository;
+
+  // Copy-on-write: readers never lock, writers replace the whole map
+  private volatile Map<Integer, Genre> genresById = Map.of();
+
+  public GenreDictionary(GenreRepository genreRepository) {
+    this.genreRepository = genreRepository;
+  }
+
+  /**
+   * Load all genres from the DB, replacing the current contents.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    try {
+      Map<Integer, Genre> loaded = new HashMap<>();
+      for (Genre genre : genreRepository.findAll()) {
+        loaded.put(genre.getId(), genre);
+      }
+      genresById = Map.copyOf(loaded);
+      logger.info("Loaded {} genres into genre dictionary", loaded.size());
+    } catch (Exception e) {
+      // Ingestion falls back to upserting unknown genres, which refills the dictionary
+      logger.warn("Failed to load genre dictionary", e);
+    }
+  }
+
+  /**
+   * Add or replace genres in the dictionary.
+   */
+  public synchronized void putAll(Collection<Genre> genres) {
+    if (genres == null || genres.isEmpty()) {
+      return;
+    }
+    Map<Integer, Genre> updated = new HashMap<>(genresById);
+    for (Genre genre : genres) {
+      updated.put(genre.getId(), genre);
+    }
+    genresById = Map.copyOf(updated);
+  }
+
+  /**
+   * Check whether a genre ID is known to exist in the DB.
+   */
+  public boolean contains(Integer genreId) {
+    return genreId != null && genresById.containsKey(genreId);
+  }
+
+  /**
+   * Find genre by TMDB genre ID.
+   */
+  public Optional<Genre> get(Integer genreId) {
+    return genreId == null ? Optional.empty() : Optional.ofNullable(genresById.get(genreId));
+  }
+
+  public int size() {
+    return genresById.size();
+  }
+}
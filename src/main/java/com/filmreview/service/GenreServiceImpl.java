@@ -9,6 +9,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -22,10 +23,13 @@ public class GenreServiceImpl implements GenreService {
 
   private final GenreRepository genreRepository;
   private final TmdbService tmdbService;
+  private final GenreDictionary genreDictionary;
 
-  public GenreServiceImpl(GenreRepository genreRepository, TmdbService tmdbService) {
+  public GenreServiceImpl(GenreRepository genreRepository, TmdbService tmdbService,
+      GenreDictionary genreDictionary) {
     this.genreRepository = genreRepository;
     this.tmdbService = tmdbService;
+    this.genreDictionary = genreDictionary;
   }
 
   @Override
@@ -45,6 +49,7 @@ public class GenreServiceImpl implements GenreService {
     }
 
     int synced = 0;
+    List<Genre> syncedGenres = new ArrayList<>();
     for (TmdbGenreInfo tmdbGenre : tmdbGenres) {
       Genre genre = genreRepository.findById(tmdbGenre.getId())
           .orElseGet(() -> {
@@ -67,12 +72,16 @@ public class GenreServiceImpl implements GenreService {
       }
 
       if (updated || genre.getCreatedAt() == null) {
-        genreRepository.save(genre);
+        genre = genreRepository.save(genre);
         synced++;
         logger.debug("Synced genre: id={}, name={}", genre.getId(), genre.getName());
       }
+      syncedGenres.add(genre);
     }
 
+    // Keep the ingestion-time genre dictionary in step with the table
+    genreDictionary.putAll(syncedGenres);
+
     logger.info("Completed movie genres sync: {} genres processed", synced);
     return synced;
   }
@@ -89,6 +98,7 @@ public class GenreServiceImpl implements GenreService {
     }
 
     int synced = 0;
+    List<Genre> syncedGenres = new ArrayList<>();
     for (TmdbGenreInfo tmdbGenre : tmdbGenres) {
       Genre genre = genreRepository.findById(tmdbGenre.getId())
           .orElseGet(() -> {
@@ -111,12 +121,16 @@ public class GenreServiceImpl implements GenreService {
       }
 
       if (updated || genre.getCreatedAt() == null) {
-        genreRepository.save(genre);
+        genre = genreRepository.save(genre);
         synced++;
         logger.debug("Synced genre: id={}, name={}", genre.getId(), genre.getName());
       }
+      syncedGenres.add(genre);
     }
 
+    // Keep the ingestion-time genre dictionary in step with the table
+    genreDictionary.putAll(syncedGenres);
+
     logger.info("Completed TV series genres sync: {} genres processed", synced);
     return synced;
   }
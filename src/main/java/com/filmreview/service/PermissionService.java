@@ -1,5 +1,6 @@
 package com.filmreview.service;
 
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -8,6 +9,14 @@ import java.util.UUID;
  */
 public interface PermissionService {
 
+  /**
+   * Get all role names assigned to a user.
+   *
+   * @param userId The user ID
+   * @return Role names (e.g., "USER", "ADMIN"); empty if the user has none
+   */
+  List<String> getUserRoles(UUID userId);
+
   /**
    * Get all permission names for a user based on their roles.
    * 
@@ -15,4 +24,13 @@ public interface PermissionService {
    * @return Set of permission names (e.g., "titles.create", "titles.delete")
    */
   Set<String> getUserPermissions(UUID userId);
+
+  /**
+   * Drop a user's cached roles and the cached role→permission matrix on every
+   * node. Call whenever a user's roles change; takes effect after the current
+   * transaction commits.
+   *
+   * @param userId The user whose roles changed
+   */
+  void invalidate(UUID userId);
 }
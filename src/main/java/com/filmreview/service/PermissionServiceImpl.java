@@ -2,44 +2,145 @@ package com.filmreview.service;
 
 import com.filmreview.repository.RoleRepository;
 import com.filmreview.repository.UserRoleRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
 /**
  * Implementation of PermissionService for loading and managing user
  * permissions.
+ *
+ * Two in-process caches sit in front of the DB:
+ * - the role→permission matrix, loaded whole in one query. It only changes
+ * through migrations, so it is just reloaded on invalidation or TTL.
+ * - each user's role names, loaded with one indexed query on a miss.
+ * A user's permissions are resolved from the two without touching the DB.
+ *
+ * Invalidations are applied locally and broadcast over Redis pub/sub
+ * ("permissions:invalidate") so every node drops its copies. The TTL bounds
+ * staleness if a broadcast is missed.
  */
 @Service
-public class PermissionServiceImpl implements PermissionService {
+public class PermissionServiceImpl implements PermissionService, MessageListener {
+
+  private static final Logger logger = LoggerFactory.getLogger(PermissionServiceImpl.class);
+
+  static final String INVALIDATION_CHANNEL = "permissions:invalidate";
+
+  private static final String MATRIX_KEY = "matrix";
 
   private final UserRoleRepository userRoleRepository;
   private final RoleRepository roleRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final LoadingCache<String, Map<String, Set<String>>> permissionsByRole;
+  private final Cache<UUID, List<String>> userRoles;
 
   public PermissionServiceImpl(
       UserRoleRepository userRoleRepository,
-      RoleRepository roleRepository) {
+      RoleRepository roleRepository,
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      @Value("${permissions.cache.user-roles-max-entries:100000}") long userRolesMaxEntries,
+      @Value("${permissions.cache.ttl-ms:600000}") long ttlMs) {
     this.userRoleRepository = userRoleRepository;
     this.roleRepository = roleRepository;
+    this.redisTemplate = redisTemplate;
+    this.permissionsByRole = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofMillis(ttlMs))
+        .build(key -> loadPermissionsByRole());
+    this.userRoles = Caffeine.newBuilder()
+        .maximumSize(userRolesMaxEntries)
+        .expireAfterWrite(Duration.ofMillis(ttlMs))
+        .build();
+    listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+  }
+
+  @Override
+  public List<String> getUserRoles(UUID userId) {
+    return userRoles.get(userId, id -> List.copyOf(userRoleRepository.findRoleNamesByUserId(id)));
   }
 
   @Override
   public Set<String> getUserPermissions(UUID userId) {
-    // Get all role IDs for the user
-    List<com.filmreview.entity.UserRole> userRoles = userRoleRepository.findByUserId(userId);
-    if (userRoles.isEmpty()) {
+    List<String> roles = getUserRoles(userId);
+    if (roles.isEmpty()) {
       return new HashSet<>();
     }
 
-    List<Integer> roleIds = userRoles.stream()
-        .map(com.filmreview.entity.UserRole::getRoleId)
-        .toList();
+    Map<String, Set<String>> matrix = permissionsByRole.get(MATRIX_KEY);
+    Set<String> permissions = new HashSet<>();
+    for (String role : roles) {
+      permissions.addAll(matrix.getOrDefault(role, Set.of()));
+    }
+    return permissions;
+  }
+
+  @Override
+  public void invalidate(UUID userId) {
+    Runnable invalidate = () -> {
+      evictLocal(userId);
+      try {
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId.toString());
+      } catch (RuntimeException e) {
+        logger.warn("Could not broadcast permission invalidation: userId={}", userId, e);
+      }
+    };
+
+    // Invalidate after commit so a reader cannot re-cache the pre-commit roles
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          invalidate.run();
+        }
+      });
+    } else {
+      invalidate.run();
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      evictLocal(UUID.fromString(body));
+    } catch (IllegalArgumentException e) {
+      logger.warn("Ignoring malformed permission invalidation: {}", body);
+    }
+  }
+
+  private void evictLocal(UUID userId) {
+    userRoles.invalidate(userId);
+    permissionsByRole.invalidateAll();
+  }
 
-    // Get all permission names for these roles
-    List<String> permissionNames = roleRepository.findPermissionNamesByRoleIds(roleIds);
-    return new HashSet<>(permissionNames);
+  private Map<String, Set<String>> loadPermissionsByRole() {
+    Map<String, Set<String>> matrix = new HashMap<>();
+    for (RoleRepository.RolePermission rolePermission : roleRepository.findAllRolePermissions()) {
+      matrix.computeIfAbsent(rolePermission.getRoleName(), role -> new HashSet<>())
+          .add(rolePermission.getPermissionName());
+    }
+    matrix.replaceAll((role, permissions) -> Set.copyOf(permissions));
+    return Map.copyOf(matrix);
   }
 }
@@ -0,0 +1,31 @@
+package com.filmreview.service;
+
+import com.filmreview.dto.tmdb.TmdbPageResponse;
+import org.springframework.data.domain.Page;
+
+/**
+ * Interface for serving TMDB popular lists from a local snapshot store.
+ * Snapshots are keyed by (type, language, region, TMDB page) and refreshed in
+ * the background, so requests never wait on TMDB once a snapshot exists.
+ */
+public interface PopularListSnapshotService {
+
+  /**
+   * Get a popular movies page. Served from the snapshot if present (even if a
+   * refresh is in progress); fetched from TMDB on a cold miss.
+   */
+  Page<TmdbPageResponse.TmdbMovieItem> getPopularMovies(String language, int page, String region);
+
+  /**
+   * Get a popular TV shows page. Served from the snapshot if present (even if a
+   * refresh is in progress); fetched from TMDB on a cold miss.
+   */
+  Page<TmdbPageResponse.TmdbTvSeriesItem> getPopularTVShows(String language, int page);
+
+  /**
+   * Refresh all snapshots that are still being requested and drop idle ones.
+   *
+   * @return Number of snapshots refreshed
+   */
+  int refreshSnapshots();
+}
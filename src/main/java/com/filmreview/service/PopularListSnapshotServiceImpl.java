@@ -0,0 +1,227 @@
+package com.filmreview.service;
+
+import com.filmreview.dto.tmdb.TmdbPageResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementation of PopularListSnapshotService.
+ * Keeps an in-memory, stale-while-revalidate snapshot of every popular list
+ * page that has been requested. A scheduler refreshes the snapshots in the
+ * background; reads always return the current snapshot, and only trigger an
+ * asynchronous refresh if the scheduler has fallen behind.
+ *
+ * Snapshots live in a bounded Caffeine cache, so a flood of unused
+ * language/region keys is evicted instead of crowding out real ones. Only
+ * requests count as access: a page nobody reads expires after max-idle-ms
+ * even though the scheduler keeps refreshing it.
+ */
+@Service
+public class PopularListSnapshotServiceImpl implements PopularListSnapshotService {
+
+  private static final Logger logger = LoggerFactory.getLogger(PopularListSnapshotServiceImpl.class);
+
+  private static final String MOVIE = "movie";
+  private static final String TV_SHOW = "tv_show";
+
+  private final TmdbService tmdbService;
+  private final Duration refreshInterval;
+  private final Executor refreshExecutor;
+  private final Clock clock;
+  private final Cache<SnapshotKey, Snapshot> snapshots;
+
+  @Autowired
+  public PopularListSnapshotServiceImpl(
+      TmdbService tmdbService,
+      @Value("${tmdb.popular-snapshot.refresh-interval-ms:900000}") long refreshIntervalMs,
+      @Value("${tmdb.popular-snapshot.max-idle-ms:21600000}") long maxIdleMs,
+      @Value("${tmdb.popular-snapshot.max-entries:500}") int maxEntries) {
+    this(tmdbService, refreshIntervalMs, maxIdleMs, maxEntries,
+        Executors.newSingleThreadExecutor(runnable -> {
+          Thread thread = new Thread(runnable, "popular-snapshot-refresh");
+          thread.setDaemon(true);
+          return thread;
+        }),
+        Clock.systemUTC());
+  }
+
+  PopularListSnapshotServiceImpl(
+      TmdbService tmdbService,
+      long refreshIntervalMs,
+      long maxIdleMs,
+      int maxEntries,
+      Executor refreshExecutor,
+      Clock clock) {
+    this.tmdbService = tmdbService;
+    this.refreshInterval = Duration.ofMillis(refreshIntervalMs);
+    this.refreshExecutor = refreshExecutor;
+    this.clock = clock;
+    this.snapshots = Caffeine.newBuilder()
+        .maximumSize(maxEntries)
+        .expireAfter(new IdleExpiry(Duration.ofMillis(maxIdleMs)))
+        .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+        .removalListener((SnapshotKey key, Snapshot snapshot, RemovalCause cause) -> {
+          if (cause.wasEvicted()) {
+            logger.debug("Evicted popular list snapshot ({}): {}", cause, key);
+          }
+        })
+        .build();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Page<TmdbPageResponse.TmdbMovieItem> getPopularMovies(String language, int page, String region) {
+    return (Page<TmdbPageResponse.TmdbMovieItem>) getOrLoad(new SnapshotKey(MOVIE, language, region, page));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Page<TmdbPageResponse.TmdbTvSeriesItem> getPopularTVShows(String language, int page) {
+    return (Page<TmdbPageResponse.TmdbTvSeriesItem>) getOrLoad(new SnapshotKey(TV_SHOW, language, null, page));
+  }
+
+  @Override
+  @Scheduled(
+      fixedDelayString = "${tmdb.popular-snapshot.refresh-interval-ms:900000}",
+      initialDelayString = "${tmdb.popular-snapshot.refresh-interval-ms:900000}")
+  public int refreshSnapshots() {
+    int refreshed = 0;
+
+    // Idle snapshots have already expired and are not visited
+    for (SnapshotKey key : snapshots.asMap().keySet()) {
+      if (refresh(key)) {
+        refreshed++;
+      }
+    }
+
+    logger.info("Refreshed {} popular list snapshots", refreshed);
+    return refreshed;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (refreshExecutor instanceof ExecutorService executorService) {
+      executorService.shutdownNow();
+    }
+  }
+
+  private Page<?> getOrLoad(SnapshotKey key) {
+    Snapshot snapshot = snapshots.getIfPresent(key);
+    if (snapshot != null) {
+      // Serve the current snapshot; revalidate in the background if it is overdue
+      if (snapshot.fetchedAt.plus(refreshInterval).isBefore(clock.instant())) {
+        refreshAsync(key, snapshot);
+      }
+      return snapshot.page;
+    }
+
+    // Cold miss: nothing to serve yet, so fetch from TMDB on the request thread.
+    // Concurrent misses on the same key wait for this one load.
+    return snapshots.get(key, k -> new Snapshot(load(k), clock.instant())).page;
+  }
+
+  private void refreshAsync(SnapshotKey key, Snapshot snapshot) {
+    if (!snapshot.refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      refreshExecutor.execute(() -> {
+        try {
+          refresh(key);
+        } finally {
+          snapshot.refreshing.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      snapshot.refreshing.set(false);
+      logger.warn("Popular list snapshot refresh rejected: {}", key);
+    }
+  }
+
+  /**
+   * Re-fetch a snapshot from TMDB. On failure the previous snapshot is kept
+   * and served until the next successful refresh.
+   */
+  private boolean refresh(SnapshotKey key) {
+    try {
+      Page<?> page = load(key);
+      // An update keeps the entry's idle deadline, see IdleExpiry
+      snapshots.asMap().computeIfPresent(key, (k, previous) -> new Snapshot(page, clock.instant()));
+      return true;
+    } catch (Exception e) {
+      logger.warn("Failed to refresh popular list snapshot {}, serving previous snapshot", key, e);
+      return false;
+    }
+  }
+
+  private Page<?> load(SnapshotKey key) {
+    if (MOVIE.equals(key.type())) {
+      return tmdbService.getPopularMovies(key.language(), key.page(), key.region());
+    }
+    return tmdbService.getPopularTVShows(key.language(), key.page());
+  }
+
+  /**
+   * Snapshot key: one entry per (type, language, region, TMDB page).
+   */
+  private record SnapshotKey(String type, String language, String region, int page) {
+  }
+
+  private static final class Snapshot {
+    private final Page<?> page;
+    private final Instant fetchedAt;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    private Snapshot(Page<?> page, Instant fetchedAt) {
+      this.page = page;
+      this.fetchedAt = fetchedAt;
+    }
+  }
+
+  /**
+   * Expire a snapshot max-idle after it was created or last read. Refreshes
+   * replace the value without moving the deadline.
+   */
+  private static final class IdleExpiry implements Expiry<SnapshotKey, Snapshot> {
+    private final long maxIdleNanos;
+
+    private IdleExpiry(Duration maxIdle) {
+      this.maxIdleNanos = maxIdle.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(SnapshotKey key, Snapshot snapshot, long currentTime) {
+      return maxIdleNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(SnapshotKey key, Snapshot snapshot, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(SnapshotKey key, Snapshot snapshot, long currentTime, long currentDuration) {
+      return maxIdleNanos;
+    }
+  }
+}
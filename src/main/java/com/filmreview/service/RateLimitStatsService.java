@@ -0,0 +1,18 @@
+package com.filmreview.service;
+
+import java.util.Map;
+
+/**
+ * Interface for inspecting rate-limit state stored in Redis.
+ */
+public interface RateLimitStatsService {
+
+  /**
+   * Count live rate-limit buckets per key class (e.g. "anon", "auth",
+   * "login"). Walks the keyspace with SCAN, so it does not block Redis but is
+   * proportional to the number of keys; meant for admin use.
+   *
+   * @return Key class to number of buckets, in key class order
+   */
+  Map<String, Long> countKeysByClass();
+}
@@ -0,0 +1,61 @@
+package com.filmreview.service;
+
+import com.filmreview.security.RateLimitPolicy;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Implementation of RateLimitStatsService.
+ */
+@Service
+public class RateLimitStatsServiceImpl implements RateLimitStatsService {
+
+  private static final int SCAN_BATCH = 1000;
+
+  private final StringRedisTemplate redisTemplate;
+
+  public RateLimitStatsServiceImpl(StringRedisTemplate redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  @Override
+  public Map<String, Long> countKeysByClass() {
+    Map<String, Long> counts = redisTemplate.execute((RedisCallback<Map<String, Long>>) this::scan);
+    return counts != null ? counts : Map.of();
+  }
+
+  private Map<String, Long> scan(RedisConnection connection) {
+    Map<String, Long> counts = new TreeMap<>();
+    ScanOptions options = ScanOptions.scanOptions()
+        .match(RateLimitPolicy.KEY_NAMESPACE + "*")
+        .count(SCAN_BATCH)
+        .build();
+    try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+      while (cursor.hasNext()) {
+        counts.merge(keyClass(cursor.next()), 1L, Long::sum);
+      }
+    }
+    return counts;
+  }
+
+  /**
+   * Key class of a raw key: the text between the namespace and the next ':'.
+   * Subjects are binary, so only the prefix is decoded.
+   */
+  static String keyClass(byte[] key) {
+    int start = RateLimitPolicy.KEY_NAMESPACE.length();
+    int end = start;
+    while (end < key.length && key[end] != ':') {
+      end++;
+    }
+    return new String(key, start, end - start, StandardCharsets.UTF_8);
+  }
+}
@@ -1,7 +1,9 @@
 package com.filmreview.service;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.dto.RatingRequest;
 import com.filmreview.dto.RatingResponse;
+import com.filmreview.dto.TitleRatingStatsDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -29,6 +31,11 @@ public interface RatingService {
    */
   Page<RatingResponse> getUserRatings(UUID userId, Pageable pageable);
 
+  /**
+   * Get a keyset page of ratings for the current user, newest first.
+   */
+  CursorPage<RatingResponse> getUserRatingsByCursor(UUID userId, String cursor, int limit);
+
   /**
    * Get a specific rating by user and title.
    */
@@ -38,4 +45,16 @@ public interface RatingService {
    * Get all ratings for a specific title.
    */
   Page<RatingResponse> getTitleRatings(UUID titleId, Pageable pageable);
+
+  /**
+   * Get a keyset page of ratings for a specific title, newest first.
+   */
+  CursorPage<RatingResponse> getTitleRatingsByCursor(UUID titleId, String cursor, int limit);
+
+  /**
+   * Get the score distribution of a title's ratings (count, mean, median,
+   * percentiles, histogram), computed from its 10-bucket histogram rather
+   * than the individual ratings.
+   */
+  TitleRatingStatsDto getTitleRatingStats(UUID titleId);
 }
@@ -1,25 +1,43 @@
 package com.filmreview.service;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.dto.RatingRequest;
 import com.filmreview.dto.RatingResponse;
+import com.filmreview.dto.TitleRatingStatsDto;
 import com.filmreview.entity.Rating;
+import com.filmreview.entity.TitleRatingHistogram;
 import com.filmreview.exception.BadRequestException;
 import com.filmreview.exception.NotFoundException;
 import com.filmreview.repository.RatingRepository;
+import com.filmreview.repository.TitleRatingHistogramRepository;
+import com.filmreview.repository.TitleRepository;
+import com.filmreview.util.CursorUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 public class RatingServiceImpl implements RatingService {
 
+  private static final int[] PERCENTILES = { 25, 75, 90 };
+
   private final RatingRepository ratingRepository;
+  private final TitleRatingHistogramRepository titleRatingHistogramRepository;
+  private final TitleRepository titleRepository;
 
-  public RatingServiceImpl(RatingRepository ratingRepository) {
+  public RatingServiceImpl(RatingRepository ratingRepository,
+      TitleRatingHistogramRepository titleRatingHistogramRepository, TitleRepository titleRepository) {
     this.ratingRepository = ratingRepository;
+    this.titleRatingHistogramRepository = titleRatingHistogramRepository;
+    this.titleRepository = titleRepository;
   }
 
   @Override
@@ -30,21 +48,12 @@ public class RatingServiceImpl implements RatingService {
       throw new BadRequestException("Score must be between 1 and 10");
     }
 
-    // Check if rating already exists
-    Rating rating = ratingRepository.findByUserIdAndTitleId(userId, titleId)
-        .orElse(new Rating());
-
-    // Set or update fields
-    rating.setUserId(userId);
-    rating.setTitleId(titleId);
-    rating.setScore(request.getScore());
-
-    // Save (insert or update)
-    rating = ratingRepository.save(rating);
-
-    // Note: Title aggregates are updated automatically by database trigger
-    // (update_title_rating_aggregates function)
+    // Insert or update in one statement
+    Rating rating = ratingRepository.upsert(userId, titleId, request.getScore());
 
+    // Note: The database trigger (record_title_rating_delta) logs the change;
+    // TitleRatingAggregateService folds it into the title aggregates and
+    // evicts the cached detail
     return mapToResponse(rating);
   }
 
@@ -56,7 +65,7 @@ public class RatingServiceImpl implements RatingService {
 
     ratingRepository.delete(rating);
 
-    // Note: Title aggregates are updated automatically by database trigger
+    // Note: Title aggregates are updated from the delta the trigger logs
   }
 
   @Override
@@ -65,6 +74,15 @@ public class RatingServiceImpl implements RatingService {
     return ratings.map(this::mapToResponse);
   }
 
+  @Override
+  public CursorPage<RatingResponse> getUserRatingsByCursor(UUID userId, String cursor, int limit) {
+    CursorUtils.Position position = CursorUtils.decode(cursor, false);
+    List<Rating> ratings = ratingRepository.findByUserIdBefore(
+        userId, position.createdAt(), position.id(), CursorUtils.probePageable(limit));
+    return CursorUtils.toPage(ratings, limit,
+        rating -> CursorUtils.encode(rating.getCreatedAt(), rating.getId()), this::mapToResponses);
+  }
+
   @Override
   public RatingResponse getRating(UUID userId, UUID titleId) {
     Rating rating = ratingRepository.findByUserIdAndTitleId(userId, titleId)
@@ -78,6 +96,79 @@ public class RatingServiceImpl implements RatingService {
     return ratings.map(this::mapToResponse);
   }
 
+  @Override
+  public CursorPage<RatingResponse> getTitleRatingsByCursor(UUID titleId, String cursor, int limit) {
+    CursorUtils.Position position = CursorUtils.decode(cursor, false);
+    List<Rating> ratings = ratingRepository.findByTitleIdBefore(
+        titleId, position.createdAt(), position.id(), CursorUtils.probePageable(limit));
+    return CursorUtils.toPage(ratings, limit,
+        rating -> CursorUtils.encode(rating.getCreatedAt(), rating.getId()), this::mapToResponses);
+  }
+
+  @Override
+  public TitleRatingStatsDto getTitleRatingStats(UUID titleId) {
+    int[] counts = titleRatingHistogramRepository.findById(titleId)
+        .map(TitleRatingHistogram::toCounts)
+        .orElse(null);
+    if (counts == null) {
+      // No histogram row until the title's first rating is folded in
+      if (!titleRepository.existsById(titleId)) {
+        throw new NotFoundException("Title not found");
+      }
+      counts = new int[TitleRatingHistogram.MAX_SCORE];
+    }
+
+    Map<Integer, Integer> histogram = new LinkedHashMap<>();
+    long count = 0;
+    long sum = 0;
+    for (int score = TitleRatingHistogram.MIN_SCORE; score <= TitleRatingHistogram.MAX_SCORE; score++) {
+      int scoreCount = counts[score - 1];
+      histogram.put(score, scoreCount);
+      count += scoreCount;
+      sum += (long) score * scoreCount;
+    }
+
+    TitleRatingStatsDto stats = new TitleRatingStatsDto();
+    stats.setTitleId(titleId);
+    stats.setCount(count);
+    stats.setHistogram(histogram);
+    stats.setPercentiles(new LinkedHashMap<>());
+    if (count == 0) {
+      return stats;
+    }
+
+    stats.setUserMean(BigDecimal.valueOf(sum).divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP));
+    // Average of the two middle scores; both are the same score when count is odd
+    int lowerMiddle = scoreAtRank(counts, (count + 1) / 2);
+    int upperMiddle = scoreAtRank(counts, count / 2 + 1);
+    stats.setMedian(BigDecimal.valueOf(lowerMiddle + upperMiddle)
+        .divide(BigDecimal.valueOf(2), 1, RoundingMode.UNNECESSARY));
+    for (int percentile : PERCENTILES) {
+      // Nearest rank: the smallest score covering percentile% of the ratings
+      long rank = Math.max(1, (percentile * count + 99) / 100);
+      stats.getPercentiles().put(percentile, scoreAtRank(counts, rank));
+    }
+    return stats;
+  }
+
+  /**
+   * Score of the rating at a 1-based rank, with ratings ordered by score.
+   */
+  private int scoreAtRank(int[] counts, long rank) {
+    long cumulative = 0;
+    for (int score = TitleRatingHistogram.MIN_SCORE; score <= TitleRatingHistogram.MAX_SCORE; score++) {
+      cumulative += counts[score - 1];
+      if (cumulative >= rank) {
+        return score;
+      }
+    }
+    return TitleRatingHistogram.MAX_SCORE;
+  }
+
+  private List<RatingResponse> mapToResponses(List<Rating> ratings) {
+    return ratings.stream().map(this::mapToResponse).toList();
+  }
+
   private RatingResponse mapToResponse(Rating rating) {
     RatingResponse response = new RatingResponse();
     response.setId(rating.getId());
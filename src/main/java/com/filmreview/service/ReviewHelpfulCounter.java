@@ -0,0 +1,263 @@
+package com.filmreview.service;
+
+import com.filmreview.repository.ReviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Write-behind counter for reviews.helpful_count.
+ *
+ * A helpful vote no longer updates its review row in the voting transaction.
+ * Instead, after the vote commits, its +1/-1 is added to a Redis hash
+ * ("review:helpful:pending", review ID -> delta) shared by all nodes. A
+ * scheduled flush applies the accumulated deltas to reviews in one UPDATE,
+ * so a viral review gets one row update per flush instead of one per vote.
+ *
+ * A flush atomically renames the pending hash to "review:helpful:flushing"
+ * and gives it a batch ID. The UPDATE records the batch ID in
+ * review_helpful_flushes in the same transaction, so a batch is applied at
+ * most once: by a retry after a failed delete, by a node that outlived its
+ * lock, or by two nodes at once. The flushing hash is deleted only by the
+ * batch that created it, before the lock is released. The lock only saves
+ * duplicate work.
+ *
+ * Reads add the pending deltas to the stored count, and the flushing
+ * deltas too unless their batch has already been applied. Sorting by
+ * helpful count uses the stored count, which trails by up to one flush
+ * interval. If Redis is unavailable when a vote commits, its delta is applied
+ * to the review row directly.
+ */
+@Component
+public class ReviewHelpfulCounter {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReviewHelpfulCounter.class);
+
+  static final String PENDING_KEY = "review:helpful:pending";
+  static final String FLUSHING_KEY = "review:helpful:flushing";
+  static final String FLUSHING_BATCH_KEY = "review:helpful:flushing-batch";
+  private static final String FLUSH_LOCK_KEY = "lock:review-helpful-flush";
+  // Applied batch IDs only matter while their flushing hash exists, which is seconds
+  private static final Duration FLUSH_RETENTION = Duration.ofDays(1);
+
+  // Returns the batch to flush: the unfinished one, or the pending hash
+  // renamed under a new batch ID (ARGV[1]); nil if there is nothing to flush
+  private static final RedisScript<String> START_FLUSH_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('exists', KEYS[2]) == 1 then "
+          + "local batch = redis.call('get', KEYS[3]) "
+          + "if batch then return batch end "
+          + "redis.call('set', KEYS[3], ARGV[1]) return ARGV[1] end "
+          + "if redis.call('exists', KEYS[1]) == 0 then return false end "
+          + "redis.call('rename', KEYS[1], KEYS[2]) "
+          + "redis.call('set', KEYS[3], ARGV[1]) "
+          + "return ARGV[1]",
+      String.class);
+  private static final RedisScript<Long> FINISH_FLUSH_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[2]) == ARGV[1] then return redis.call('del', KEYS[1], KEYS[2]) else return 0 end",
+      Long.class);
+  // Returns the flushing batch ID, then the pending and the flushing delta of
+  // each field, from one consistent view ('' for missing)
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> READ_PENDING_SCRIPT = new DefaultRedisScript<>(
+      "local result = { redis.call('get', KEYS[1]) or '' } "
+          + "for k = 2, 3 do "
+          + "local values = redis.call('hmget', KEYS[k], unpack(ARGV)) "
+          + "for i = 1, #ARGV do result[#result + 1] = values[i] or '' end end "
+          + "return result",
+      List.class);
+  private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+      Long.class);
+
+  private final ReviewRepository reviewRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration lockTtl;
+
+  public ReviewHelpfulCounter(
+      ReviewRepository reviewRepository,
+      StringRedisTemplate redisTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${reviews.helpful-counter.flush-lock-ttl-ms:30000}") long lockTtlMs) {
+    this.reviewRepository = reviewRepository;
+    this.redisTemplate = redisTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.lockTtl = Duration.ofMillis(lockTtlMs);
+  }
+
+  /**
+   * Record a change to a review's helpful count. Deferred until the current
+   * transaction commits, so a rolled-back vote is never counted.
+   *
+   * @param reviewId Review ID
+   * @param delta    +1 for a new vote, -1 for a removed one
+   */
+  public void add(UUID reviewId, int delta) {
+    Runnable record = () -> {
+      try {
+        redisTemplate.opsForHash().increment(PENDING_KEY, reviewId.toString(), delta);
+      } catch (RuntimeException e) {
+        logger.warn("Could not record helpful count delta in Redis, applying it directly: reviewId={}",
+            reviewId, e);
+        applyDirectly(reviewId, delta);
+      }
+    };
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          record.run();
+        }
+      });
+    } else {
+      record.run();
+    }
+  }
+
+  /**
+   * Get the deltas not yet flushed to the given reviews' stored counts.
+   * Reviews without pending changes are left out. Returns an empty map if
+   * Redis is unavailable.
+   */
+  public Map<UUID, Integer> getPending(Collection<UUID> reviewIds) {
+    Map<UUID, Integer> pending = new HashMap<>();
+    if (reviewIds.isEmpty()) {
+      return pending;
+    }
+
+    List<UUID> ids = new ArrayList<>(reviewIds);
+    Object[] fields = ids.stream().map(UUID::toString).toArray();
+    try {
+      List<?> values = redisTemplate.execute(READ_PENDING_SCRIPT,
+          List.of(FLUSHING_BATCH_KEY, PENDING_KEY, FLUSHING_KEY), fields);
+      String batch = values.get(0).toString();
+      // Once the batch has committed, its deltas are in the stored counts
+      boolean flushingApplied = !batch.isEmpty() && reviewRepository.existsHelpfulFlush(UUID.fromString(batch));
+      for (int i = 0; i < ids.size(); i++) {
+        int delta = parseDelta(values.get(1 + i));
+        if (!flushingApplied) {
+          delta += parseDelta(values.get(1 + ids.size() + i));
+        }
+        if (delta != 0) {
+          pending.put(ids.get(i), delta);
+        }
+      }
+    } catch (RuntimeException e) {
+      logger.warn("Could not read pending helpful counts from Redis", e);
+      return Map.of();
+    }
+    return pending;
+  }
+
+  /**
+   * Apply pending deltas to reviews.helpful_count.
+   *
+   * @return Number of reviews updated
+   */
+  @Scheduled(
+      fixedDelayString = "${reviews.helpful-counter.flush-interval-ms:5000}",
+      initialDelayString = "${reviews.helpful-counter.flush-interval-ms:5000}")
+  public int flush() {
+    String token = UUID.randomUUID().toString();
+    try {
+      if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token, lockTtl))) {
+        // Another node is flushing
+        return 0;
+      }
+    } catch (RuntimeException e) {
+      logger.warn("Could not acquire helpful count flush lock", e);
+      return 0;
+    }
+
+    try {
+      // An unfinished batch is from a flush that failed; finish it first
+      String batch = redisTemplate.execute(START_FLUSH_SCRIPT,
+          List.of(PENDING_KEY, FLUSHING_KEY, FLUSHING_BATCH_KEY), UUID.randomUUID().toString());
+      if (batch == null) {
+        return 0;
+      }
+      UUID batchId = UUID.fromString(batch);
+
+      Map<Object, Object> entries = redisTemplate.opsForHash().entries(FLUSHING_KEY);
+      List<UUID> ids = new ArrayList<>(entries.size());
+      List<Integer> deltas = new ArrayList<>(entries.size());
+      entries.forEach((id, delta) -> {
+        int value = Integer.parseInt(delta.toString());
+        if (value != 0) {
+          ids.add(UUID.fromString(id.toString()));
+          deltas.add(value);
+        }
+      });
+
+      boolean applied = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+        LocalDateTime now = LocalDateTime.now();
+        reviewRepository.deleteHelpfulFlushesBefore(now.minus(FLUSH_RETENTION));
+        if (reviewRepository.insertHelpfulFlush(batchId, now) == 0) {
+          // Already applied by an earlier attempt
+          return false;
+        }
+        if (!ids.isEmpty()) {
+          reviewRepository.addHelpfulCounts(ids.toArray(new UUID[0]), deltas.toArray(new Integer[0]));
+        }
+        return true;
+      }));
+      redisTemplate.execute(FINISH_FLUSH_SCRIPT, List.of(FLUSHING_KEY, FLUSHING_BATCH_KEY), batch);
+
+      if (!applied) {
+        logger.debug("Helpful count batch {} was already applied", batchId);
+        return 0;
+      }
+      logger.debug("Flushed helpful count deltas for {} reviews", ids.size());
+      return ids.size();
+    } catch (RuntimeException e) {
+      // Deltas stay in the flushing hash and are retried on the next flush
+      logger.warn("Failed to flush helpful count deltas", e);
+      return 0;
+    } finally {
+      releaseLock(token);
+    }
+  }
+
+  private static int parseDelta(Object value) {
+    return value == null || value.toString().isEmpty() ? 0 : Integer.parseInt(value.toString());
+  }
+
+  private void applyDirectly(UUID reviewId, int delta) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> reviewRepository.addHelpfulCounts(
+          new UUID[] { reviewId }, new Integer[] { delta }));
+    } catch (RuntimeException e) {
+      logger.error("Lost helpful count delta: reviewId={}, delta={}", reviewId, delta, e);
+    }
+  }
+
+  private void releaseLock(String token) {
+    try {
+      redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), token);
+    } catch (RuntimeException e) {
+      // Lock expires on its own after the TTL
+      logger.warn("Failed to release helpful count flush lock", e);
+    }
+  }
+}
@@ -1,12 +1,15 @@
 package com.filmreview.service;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.dto.ReviewRequest;
 import com.filmreview.dto.ReviewResponse;
 import com.filmreview.dto.ReviewUpdateRequest;
+import com.filmreview.util.FieldSelection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Interface for managing reviews.
@@ -35,18 +38,68 @@ public interface ReviewService {
 
   /**
    * Get all reviews for a specific title.
+   * The list methods only load the user, title and rating of each review when
+   * the field selection references them; titles referenced only by card
+   * properties are loaded as card projections.
    */
-  Page<ReviewResponse> getTitleReviews(UUID titleId, Pageable pageable);
+  Page<ReviewResponse> getTitleReviews(UUID titleId, Pageable pageable, FieldSelection fields);
 
   /**
    * Get all reviews for a specific title, sorted by helpful count.
    */
-  Page<ReviewResponse> getTitleReviewsByHelpful(UUID titleId, Pageable pageable);
+  Page<ReviewResponse> getTitleReviewsByHelpful(UUID titleId, Pageable pageable, FieldSelection fields);
 
   /**
    * Get all reviews for a specific user.
    */
-  Page<ReviewResponse> getUserReviews(UUID userId, Pageable pageable);
+  Page<ReviewResponse> getUserReviews(UUID userId, Pageable pageable, FieldSelection fields);
+
+  /**
+   * Get a keyset page of reviews for a specific title, newest first.
+   */
+  CursorPage<ReviewResponse> getTitleReviewsByCursor(UUID titleId, String cursor, int limit, FieldSelection fields);
+
+  /**
+   * Get a keyset page of reviews for a specific title, most helpful first.
+   */
+  CursorPage<ReviewResponse> getTitleReviewsByHelpfulByCursor(UUID titleId, String cursor, int limit, FieldSelection fields);
+
+  /**
+   * Get a keyset page of reviews for a specific user, newest first.
+   */
+  CursorPage<ReviewResponse> getUserReviewsByCursor(UUID userId, String cursor, int limit, FieldSelection fields);
+
+  /**
+   * A listing page loaded once: its weak ETag, and a body rendered on demand
+   * from the same rows, so a 304 skips hydration and a 200 reads nothing twice.
+   */
+  record Versioned<P>(String etag, Supplier<P> body) {
+  }
+
+  /**
+   * Get one page of a title's review listing with its ETag. The ETag changes
+   * whenever a listed review, its helpful count (including unflushed votes),
+   * author, rating or the title changes, and covers only the requested page.
+   */
+  Versioned<Page<ReviewResponse>> getTitleReviewsVersioned(UUID titleId, boolean helpfulOrder, Pageable pageable,
+      FieldSelection fields);
+
+  /**
+   * Get one keyset page of a title's review listing with its ETag.
+   */
+  Versioned<CursorPage<ReviewResponse>> getTitleReviewsByCursorVersioned(UUID titleId, boolean helpfulOrder,
+      String cursor, int limit, FieldSelection fields);
+
+  /**
+   * Get one page of a user's review listing with its ETag.
+   */
+  Versioned<Page<ReviewResponse>> getUserReviewsVersioned(UUID userId, Pageable pageable, FieldSelection fields);
+
+  /**
+   * Get one keyset page of a user's review listing with its ETag.
+   */
+  Versioned<CursorPage<ReviewResponse>> getUserReviewsByCursorVersioned(UUID userId, String cursor, int limit,
+      FieldSelection fields);
 
   /**
    * Get a user's review for a specific title.
@@ -1,12 +1,13 @@
 package com.filmreview.service;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.dto.ReviewRequest;
 import com.filmreview.dto.ReviewResponse;
 import com.filmreview.dto.ReviewUpdateRequest;
 import com.filmreview.dto.RatingResponse;
+import com.filmreview.dto.TitleDto;
 import com.filmreview.dto.UserResponse;
 import com.filmreview.entity.Review;
-import com.filmreview.entity.ReviewHelpful;
 import com.filmreview.entity.Rating;
 import com.filmreview.entity.Title;
 import com.filmreview.entity.User;
@@ -19,14 +20,27 @@ import com.filmreview.repository.ReviewHelpfulRepository;
 import com.filmreview.repository.RatingRepository;
 import com.filmreview.repository.TitleRepository;
 import com.filmreview.repository.UserRepository;
+import com.filmreview.util.CursorUtils;
+import com.filmreview.util.ETagUtils;
+import com.filmreview.util.FieldSelection;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ReviewServiceImpl implements ReviewService {
@@ -37,6 +51,7 @@ public class ReviewServiceImpl implements ReviewService {
   private final TitleRepository titleRepository;
   private final UserRepository userRepository;
   private final TitleDtoMapper titleDtoMapper;
+  private final ReviewHelpfulCounter reviewHelpfulCounter;
 
   public ReviewServiceImpl(
       ReviewRepository reviewRepository,
@@ -44,13 +59,15 @@ public class ReviewServiceImpl implements ReviewService {
       RatingRepository ratingRepository,
       TitleRepository titleRepository,
       UserRepository userRepository,
-      TitleDtoMapper titleDtoMapper) {
+      TitleDtoMapper titleDtoMapper,
+      ReviewHelpfulCounter reviewHelpfulCounter) {
     this.reviewRepository = reviewRepository;
     this.reviewHelpfulRepository = reviewHelpfulRepository;
     this.ratingRepository = ratingRepository;
     this.titleRepository = titleRepository;
     this.userRepository = userRepository;
     this.titleDtoMapper = titleDtoMapper;
+    this.reviewHelpfulCounter = reviewHelpfulCounter;
   }
 
   @Override
@@ -66,12 +83,7 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     // Create or update rating first (required)
-    Rating rating = ratingRepository.findByUserIdAndTitleId(userId, request.getTitleId())
-        .orElse(new Rating());
-    rating.setUserId(userId);
-    rating.setTitleId(request.getTitleId());
-    rating.setScore(request.getRatingScore());
-    rating = ratingRepository.save(rating);
+    Rating rating = ratingRepository.upsert(userId, request.getTitleId(), request.getRatingScore());
 
     // Create review and link to rating
     Review review = new Review();
@@ -119,12 +131,7 @@ public class ReviewServiceImpl implements ReviewService {
 
     // Update rating if provided
     if (request.getRatingScore() != null) {
-      Rating rating = ratingRepository.findByUserIdAndTitleId(userId, review.getTitleId())
-          .orElse(new Rating());
-      rating.setUserId(userId);
-      rating.setTitleId(review.getTitleId());
-      rating.setScore(request.getRatingScore());
-      rating = ratingRepository.save(rating);
+      Rating rating = ratingRepository.upsert(userId, review.getTitleId(), request.getRatingScore());
       review.setRatingId(rating.getId());
     }
 
@@ -156,27 +163,78 @@ public class ReviewServiceImpl implements ReviewService {
   }
 
   @Override
-  public Page<ReviewResponse> getTitleReviews(UUID titleId, Pageable pageable) {
-    // Create Pageable without sort since our custom query already has ORDER BY
-    Pageable pageableWithoutSort = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
-    Page<Review> reviews = reviewRepository.findByTitleIdOrderByCreatedAtDesc(titleId, pageableWithoutSort);
-    return reviews.map(this::mapToResponse);
+  public Page<ReviewResponse> getTitleReviews(UUID titleId, Pageable pageable, FieldSelection fields) {
+    Page<Review> reviews = findTitleReviewPage(titleId, false, pageable);
+    return new PageImpl<>(mapToResponses(reviews.getContent(), fields), reviews.getPageable(),
+        reviews.getTotalElements());
   }
 
   @Override
-  public Page<ReviewResponse> getTitleReviewsByHelpful(UUID titleId, Pageable pageable) {
-    // Create Pageable without sort since our custom query already has ORDER BY
-    Pageable pageableWithoutSort = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
-    Page<Review> reviews = reviewRepository.findByTitleIdOrderByHelpfulCountDesc(titleId, pageableWithoutSort);
-    return reviews.map(this::mapToResponse);
+  public Page<ReviewResponse> getTitleReviewsByHelpful(UUID titleId, Pageable pageable, FieldSelection fields) {
+    Page<Review> reviews = findTitleReviewPage(titleId, true, pageable);
+    return new PageImpl<>(mapToResponses(reviews.getContent(), fields), reviews.getPageable(),
+        reviews.getTotalElements());
   }
 
   @Override
-  public Page<ReviewResponse> getUserReviews(UUID userId, Pageable pageable) {
-    // Create Pageable without sort since our custom query already has ORDER BY
-    Pageable pageableWithoutSort = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
-    Page<Review> reviews = reviewRepository.findByUserIdOrderByCreatedAtDesc(userId, pageableWithoutSort);
-    return reviews.map(this::mapToResponse);
+  public Page<ReviewResponse> getUserReviews(UUID userId, Pageable pageable, FieldSelection fields) {
+    Page<Review> reviews = findUserReviewPage(userId, pageable);
+    return new PageImpl<>(mapToResponses(reviews.getContent(), fields), reviews.getPageable(),
+        reviews.getTotalElements());
+  }
+
+  @Override
+  public CursorPage<ReviewResponse> getTitleReviewsByCursor(UUID titleId, String cursor, int limit,
+      FieldSelection fields) {
+    return CursorUtils.toPage(findTitleReviewRows(titleId, false, cursor, limit), limit,
+        review -> CursorUtils.encode(review.getCreatedAt(), review.getId()),
+        rows -> mapToResponses(rows, fields));
+  }
+
+  @Override
+  public CursorPage<ReviewResponse> getTitleReviewsByHelpfulByCursor(UUID titleId, String cursor, int limit,
+      FieldSelection fields) {
+    return CursorUtils.toPage(findTitleReviewRows(titleId, true, cursor, limit), limit,
+        review -> CursorUtils.encode(review.getHelpfulCount(), review.getCreatedAt(), review.getId()),
+        rows -> mapToResponses(rows, fields));
+  }
+
+  @Override
+  public CursorPage<ReviewResponse> getUserReviewsByCursor(UUID userId, String cursor, int limit,
+      FieldSelection fields) {
+    return CursorUtils.toPage(findUserReviewRows(userId, cursor, limit), limit,
+        review -> CursorUtils.encode(review.getCreatedAt(), review.getId()),
+        rows -> mapToResponses(rows, fields));
+  }
+
+  @Override
+  public Versioned<Page<ReviewResponse>> getTitleReviewsVersioned(UUID titleId, boolean helpfulOrder,
+      Pageable pageable, FieldSelection fields) {
+    return versionedPage("title", titleId, helpfulOrder, pageable,
+        findTitleReviewPage(titleId, helpfulOrder, pageable), fields);
+  }
+
+  @Override
+  public Versioned<CursorPage<ReviewResponse>> getTitleReviewsByCursorVersioned(UUID titleId,
+      boolean helpfulOrder, String cursor, int limit, FieldSelection fields) {
+    Function<Review, String> cursorOf = helpfulOrder
+        ? review -> CursorUtils.encode(review.getHelpfulCount(), review.getCreatedAt(), review.getId())
+        : review -> CursorUtils.encode(review.getCreatedAt(), review.getId());
+    return versionedCursorPage("title", titleId, helpfulOrder, cursor, limit,
+        findTitleReviewRows(titleId, helpfulOrder, cursor, limit), cursorOf, fields);
+  }
+
+  @Override
+  public Versioned<Page<ReviewResponse>> getUserReviewsVersioned(UUID userId, Pageable pageable,
+      FieldSelection fields) {
+    return versionedPage("user", userId, false, pageable, findUserReviewPage(userId, pageable), fields);
+  }
+
+  @Override
+  public Versioned<CursorPage<ReviewResponse>> getUserReviewsByCursorVersioned(UUID userId, String cursor,
+      int limit, FieldSelection fields) {
+    return versionedCursorPage("user", userId, false, cursor, limit, findUserReviewRows(userId, cursor, limit),
+        review -> CursorUtils.encode(review.getCreatedAt(), review.getId()), fields);
   }
 
   @Override
@@ -198,18 +256,13 @@ public class ReviewServiceImpl implements ReviewService {
       throw new BadRequestException("Cannot mark your own review as helpful");
     }
 
-    // Check if already marked
-    if (reviewHelpfulRepository.existsByUserIdAndReviewId(userId, reviewId)) {
+    // Create helpful vote; a repeated vote inserts nothing
+    if (reviewHelpfulRepository.insertIfAbsent(userId, reviewId) == 0) {
       throw new BadRequestException("Review already marked as helpful");
     }
 
-    // Create helpful vote
-    ReviewHelpful reviewHelpful = new ReviewHelpful();
-    reviewHelpful.setUserId(userId);
-    reviewHelpful.setReviewId(reviewId);
-    reviewHelpfulRepository.save(reviewHelpful);
-
-    // Note: helpful_count is updated automatically by database trigger
+    // Note: helpful_count is written behind, after commit
+    reviewHelpfulCounter.add(reviewId, 1);
   }
 
   @Override
@@ -221,12 +274,195 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     // Remove helpful vote
-    reviewHelpfulRepository.deleteByUserIdAndReviewId(userId, reviewId);
+    if (reviewHelpfulRepository.deleteByUserIdAndReviewId(userId, reviewId) > 0) {
+      // Note: helpful_count is written behind, after commit
+      reviewHelpfulCounter.add(reviewId, -1);
+    }
+  }
+
+  /**
+   * Map a page of reviews, fetching their users, titles (with genres) and
+   * ratings with one query per entity type instead of three per review.
+   * Entity types the field selection does not reference are not fetched, and
+   * titles referenced only by card properties are fetched as card projections.
+   */
+  private List<ReviewResponse> mapToResponses(List<Review> reviews, FieldSelection fields) {
+    Map<UUID, Integer> pendingHelpful = reviews.isEmpty() || !fields.includes("helpfulCount")
+        ? Map.of()
+        : reviewHelpfulCounter.getPending(reviews.stream().map(Review::getId).toList());
+    return mapToResponses(reviews, fields, pendingHelpful);
+  }
+
+  /**
+   * Map a page of reviews like {@link #mapToResponses(List, FieldSelection)},
+   * with helpful votes not yet flushed that were already read.
+   */
+  private List<ReviewResponse> mapToResponses(List<Review> reviews, FieldSelection fields,
+      Map<UUID, Integer> pendingHelpful) {
+    if (reviews.isEmpty()) {
+      return List.of();
+    }
+
+    Set<UUID> userIds = new HashSet<>();
+    Set<UUID> titleIds = new HashSet<>();
+    Set<UUID> ratingIds = new HashSet<>();
+    for (Review review : reviews) {
+      userIds.add(review.getUserId());
+      titleIds.add(review.getTitleId());
+      if (review.getRatingId() != null) {
+        ratingIds.add(review.getRatingId());
+      }
+    }
+
+    Map<UUID, User> users = !fields.includes("user")
+        ? Map.of()
+        : userRepository.findAllById(userIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+
+    Map<UUID, TitleDto> titleDtosById = !fields.includes("title")
+        ? Map.of()
+        : findTitleDtos(titleIds, fields.nested("title"));
+
+    Map<UUID, Rating> ratings = ratingIds.isEmpty() || !fields.includes("rating")
+        ? Map.of()
+        : ratingRepository.findAllById(ratingIds).stream()
+            .collect(Collectors.toMap(Rating::getId, Function.identity()));
+
+    return reviews.stream()
+        .map(review -> mapToResponse(review, users.get(review.getUserId()),
+            titleDtosById.get(review.getTitleId()),
+            review.getRatingId() != null ? ratings.get(review.getRatingId()) : null,
+            pendingHelpful.getOrDefault(review.getId(), 0)))
+        .toList();
+  }
+
+  private Map<UUID, TitleDto> findTitleDtos(Set<UUID> titleIds, FieldSelection titleFields) {
+    Map<UUID, TitleDto> titleDtosById = new HashMap<>();
+    if (titleFields.isWithin(TitleRepository.TitleCard.PROPERTIES)) {
+      for (TitleRepository.TitleCard card : titleRepository.findCardsByIdIn(titleIds)) {
+        titleDtosById.put(card.getId(), titleDtoMapper.toCardDto(card));
+      }
+      return titleDtosById;
+    }
+
+    List<Title> titles = titleRepository.findAllById(titleIds);
+    List<TitleDto> titleDtos = titleDtoMapper.toDtoList(titles);
+    for (int i = 0; i < titles.size(); i++) {
+      titleDtosById.put(titles.get(i).getId(), titleDtos.get(i));
+    }
+    return titleDtosById;
+  }
 
-    // Note: helpful_count is updated automatically by database trigger
+  private Page<Review> findTitleReviewPage(UUID titleId, boolean helpfulOrder, Pageable pageable) {
+    // Create Pageable without sort since our custom query already has ORDER BY
+    Pageable pageableWithoutSort = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    return helpfulOrder
+        ? reviewRepository.findByTitleIdOrderByHelpfulCountDesc(titleId, pageableWithoutSort)
+        : reviewRepository.findByTitleIdOrderByCreatedAtDesc(titleId, pageableWithoutSort);
+  }
+
+  private Page<Review> findUserReviewPage(UUID userId, Pageable pageable) {
+    // Create Pageable without sort since our custom query already has ORDER BY
+    Pageable pageableWithoutSort = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    return reviewRepository.findByUserIdOrderByCreatedAtDesc(userId, pageableWithoutSort);
+  }
+
+  private List<Review> findTitleReviewRows(UUID titleId, boolean helpfulOrder, String cursor, int limit) {
+    CursorUtils.Position position = CursorUtils.decode(cursor, helpfulOrder);
+    return helpfulOrder
+        ? reviewRepository.findByTitleIdBeforeByHelpful(titleId, position.helpfulCount(), position.createdAt(),
+            position.id(), CursorUtils.probePageable(limit))
+        : reviewRepository.findByTitleIdBefore(titleId, position.createdAt(), position.id(),
+            CursorUtils.probePageable(limit));
+  }
+
+  private List<Review> findUserReviewRows(UUID userId, String cursor, int limit) {
+    CursorUtils.Position position = CursorUtils.decode(cursor, false);
+    return reviewRepository.findByUserIdBefore(
+        userId, position.createdAt(), position.id(), CursorUtils.probePageable(limit));
+  }
+
+  private Versioned<Page<ReviewResponse>> versionedPage(String scope, UUID ownerId, boolean helpfulOrder,
+      Pageable pageable, Page<Review> reviews, FieldSelection fields) {
+    Map<UUID, Integer> pendingHelpful = findPendingHelpful(reviews.getContent());
+    String etag = toETag(scope, ownerId, helpfulOrder, pageable.getPageNumber(), pageable.getPageSize(),
+        reviews.getTotalElements(), reviews.getContent(), pendingHelpful);
+    return new Versioned<>(etag, () -> new PageImpl<>(
+        mapToResponses(reviews.getContent(), fields, pendingHelpful), reviews.getPageable(),
+        reviews.getTotalElements()));
+  }
+
+  private Versioned<CursorPage<ReviewResponse>> versionedCursorPage(String scope, UUID ownerId,
+      boolean helpfulOrder, String cursor, int limit, List<Review> rows, Function<Review, String> cursorOf,
+      FieldSelection fields) {
+    // Rows include the probe row, so a row appearing after the page changes hasMore and the ETag
+    Map<UUID, Integer> pendingHelpful = findPendingHelpful(rows);
+    String etag = toETag(scope, ownerId, helpfulOrder, cursor, CursorUtils.clampLimit(limit), null, rows,
+        pendingHelpful);
+    return new Versioned<>(etag, () -> CursorUtils.toPage(rows, limit, cursorOf,
+        page -> mapToResponses(page, fields, pendingHelpful)));
+  }
+
+  private Map<UUID, Integer> findPendingHelpful(List<Review> reviews) {
+    return reviews.isEmpty()
+        ? Map.of()
+        : reviewHelpfulCounter.getPending(reviews.stream().map(Review::getId).toList());
+  }
+
+  /**
+   * Version of one page of a listing: the page's position and total, each
+   * review's own version (helpful count including unflushed votes), and one
+   * aggregate over what the page's reviews reference.
+   */
+  private String toETag(String scope, UUID ownerId, boolean helpfulOrder, Object position, int size,
+      Long total, List<Review> reviews, Map<UUID, Integer> pendingHelpful) {
+    List<Object> parts = new ArrayList<>(List.of("reviews", scope, ownerId, helpfulOrder, size));
+    parts.add(position);
+    parts.add(total);
+    if (!reviews.isEmpty()) {
+      for (Review review : reviews) {
+        parts.add(review.getId());
+        parts.add(review.getUpdatedAt());
+        int storedHelpful = review.getHelpfulCount() != null ? review.getHelpfulCount() : 0;
+        parts.add(storedHelpful + pendingHelpful.getOrDefault(review.getId(), 0));
+      }
+
+      ReviewRepository.ListVersion version = reviewRepository.findListVersionByIdIn(
+          reviews.stream().map(Review::getId).toList());
+      parts.addAll(Arrays.asList(version.getUsersUpdatedAt(), version.getRatingsUpdatedAt(),
+          version.getTitlesUpdatedAt(), version.getTitleRatingCountTotal(), version.getTitleRatingAvgTotal()));
+    }
+    return ETagUtils.weak(parts.toArray());
   }
 
   private ReviewResponse mapToResponse(Review review) {
+    // Fetch user
+    User user = userRepository.findById(review.getUserId())
+        .orElse(null);
+
+    // Fetch and map title (movie/tv show)
+    Title title = titleRepository.findById(review.getTitleId())
+        .orElse(null);
+    TitleDto titleDto = title != null ? titleDtoMapper.toDto(title) : null;
+
+    // Fetch rating if linked
+    Rating rating = null;
+    if (review.getRatingId() != null) {
+      rating = ratingRepository.findById(review.getRatingId())
+          .orElse(null);
+    }
+
+    int pendingHelpful = reviewHelpfulCounter.getPending(List.of(review.getId()))
+        .getOrDefault(review.getId(), 0);
+
+    return mapToResponse(review, user, titleDto, rating, pendingHelpful);
+  }
+
+  /**
+   * @param pendingHelpful Helpful votes not yet flushed to review.helpfulCount
+   */
+  private ReviewResponse mapToResponse(Review review, User user, TitleDto title, Rating rating,
+      int pendingHelpful) {
     ReviewResponse response = new ReviewResponse();
     response.setId(review.getId());
     response.setUserId(review.getUserId());
@@ -235,31 +471,20 @@ public class ReviewServiceImpl implements ReviewService {
     response.setReviewTitle(review.getTitle());
     response.setContent(review.getContent());
     response.setContainsSpoilers(review.getContainsSpoilers());
-    response.setHelpfulCount(review.getHelpfulCount());
+    Integer storedHelpful = review.getHelpfulCount();
+    response.setHelpfulCount(pendingHelpful == 0 ? storedHelpful
+        : Math.max(0, (storedHelpful != null ? storedHelpful : 0) + pendingHelpful));
     response.setCreatedAt(review.getCreatedAt());
     response.setUpdatedAt(review.getUpdatedAt());
 
-    // Fetch and map user
-    User user = userRepository.findById(review.getUserId())
-        .orElse(null);
     if (user != null) {
       response.setUser(mapToUserResponse(user, false)); // false = don't include email (public)
     }
-
-    // Fetch and map title (movie/tv show)
-    Title title = titleRepository.findById(review.getTitleId())
-        .orElse(null);
     if (title != null) {
-      response.setTitle(titleDtoMapper.toDto(title));
+      response.setTitle(title);
     }
-
-    // Fetch and map rating if linked
-    if (review.getRatingId() != null) {
-      Rating rating = ratingRepository.findById(review.getRatingId())
-          .orElse(null);
-      if (rating != null) {
-        response.setRating(mapToRatingResponse(rating));
-      }
+    if (rating != null) {
+      response.setRating(mapToRatingResponse(rating));
     }
 
     return response;
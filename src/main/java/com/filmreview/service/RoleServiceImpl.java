@@ -22,14 +22,17 @@ public class RoleServiceImpl implements RoleService {
   private final UserRepository userRepository;
   private final RoleRepository roleRepository;
   private final UserRoleRepository userRoleRepository;
+  private final PermissionService permissionService;
 
   public RoleServiceImpl(
       UserRepository userRepository,
       RoleRepository roleRepository,
-      UserRoleRepository userRoleRepository) {
+      UserRoleRepository userRoleRepository,
+      PermissionService permissionService) {
     this.userRepository = userRepository;
     this.roleRepository = roleRepository;
     this.userRoleRepository = userRoleRepository;
+    this.permissionService = permissionService;
   }
 
   @Override
@@ -51,7 +54,9 @@ public class RoleServiceImpl implements RoleService {
     UserRole userRole = new UserRole();
     userRole.setUserId(userId);
     userRole.setRoleId(role.getId());
-    return userRoleRepository.save(userRole);
+    UserRole saved = userRoleRepository.save(userRole);
+    permissionService.invalidate(userId);
+    return saved;
   }
 
   @Override
@@ -75,6 +80,7 @@ public class RoleServiceImpl implements RoleService {
     }
 
     userRoleRepository.deleteByUserIdAndRoleId(userId, role.getId());
+    permissionService.invalidate(userId);
   }
 
   @Override
@@ -0,0 +1,39 @@
+package com.filmreview.service;
+
+import com.filmreview.dto.TitleDto;
+
+import java.util.UUID;
+
+/**
+ * Interface for title detail lookups.
+ * Serves fully hydrated TitleDtos (genres included) from a local cache backed
+ * by a shared Redis cache, falling back to TitleService on a miss.
+ */
+public interface TitleDetailService {
+
+  /**
+   * Get title detail by slug.
+   *
+   * @param slug Title slug
+   * @return Title detail
+   * @throws com.filmreview.exception.NotFoundException if no title has the slug
+   */
+  TitleDto getTitleDetailBySlug(String slug);
+
+  /**
+   * Get title detail by TMDB ID, fetching from TMDB if not stored yet.
+   *
+   * @param tmdbId TMDB ID
+   * @param type   Title type (movie or tv_show)
+   * @return Title detail
+   */
+  TitleDto getTitleDetailByTmdbId(Integer tmdbId, String type);
+
+  /**
+   * Drop a title's cached detail, e.g. after its rating aggregates changed.
+   * If called inside a transaction, the entry is dropped after commit.
+   *
+   * @param titleId Title ID
+   */
+  void evict(UUID titleId);
+}
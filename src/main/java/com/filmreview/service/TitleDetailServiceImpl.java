@@ -0,0 +1,176 @@
+package com.filmreview.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.filmreview.dto.TitleDto;
+import com.filmreview.entity.Title;
+import com.filmreview.mapper.TitleDtoMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of TitleDetailService.
+ *
+ * Two cache tiers in front of the DB, both keyed by title ID:
+ * - L1: a bounded in-process Caffeine cache with a short TTL. Evictions are
+ * not broadcast, so the TTL bounds how stale another node's copy can get.
+ * - L2: Redis ("title:detail:{id}", JSON), shared by all nodes and dropped on
+ * eviction.
+ *
+ * Slugs and TMDB IDs never change once a title is stored, so they resolve to
+ * the title ID through alias entries ("title:alias:slug:{slug}",
+ * "title:alias:tmdb:{type}:{tmdbId}") that are left in place on eviction.
+ * Redis failures are logged and treated as misses.
+ */
+@Service
+public class TitleDetailServiceImpl implements TitleDetailService {
+
+  private static final Logger logger = LoggerFactory.getLogger(TitleDetailServiceImpl.class);
+
+  private static final String DETAIL_KEY_PREFIX = "title:detail:";
+  private static final String ALIAS_KEY_PREFIX = "title:alias:";
+
+  private final TitleService titleService;
+  private final TitleDtoMapper titleDtoMapper;
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final Duration l2Ttl;
+  private final Cache<UUID, TitleDto> details;
+  private final Cache<String, UUID> aliases;
+
+  public TitleDetailServiceImpl(
+      TitleService titleService,
+      TitleDtoMapper titleDtoMapper,
+      StringRedisTemplate redisTemplate,
+      ObjectMapper objectMapper,
+      @Value("${titles.detail-cache.l1-max-entries:10000}") long l1MaxEntries,
+      @Value("${titles.detail-cache.l1-ttl-ms:30000}") long l1TtlMs,
+      @Value("${titles.detail-cache.l2-ttl-ms:600000}") long l2TtlMs) {
+    this.titleService = titleService;
+    this.titleDtoMapper = titleDtoMapper;
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.l2Ttl = Duration.ofMillis(l2TtlMs);
+    this.details = Caffeine.newBuilder()
+        .maximumSize(l1MaxEntries)
+        .expireAfterWrite(Duration.ofMillis(l1TtlMs))
+        .build();
+    this.aliases = Caffeine.newBuilder()
+        .maximumSize(l1MaxEntries * 2)
+        .build();
+  }
+
+  @Override
+  public TitleDto getTitleDetailBySlug(String slug) {
+    return getOrLoad("slug:" + slug, () -> titleService.getTitleBySlug(slug));
+  }
+
+  @Override
+  public TitleDto getTitleDetailByTmdbId(Integer tmdbId, String type) {
+    return getOrLoad("tmdb:" + type + ":" + tmdbId, () -> titleService.getTitleByTmdbId(tmdbId, type));
+  }
+
+  @Override
+  public void evict(UUID titleId) {
+    if (titleId == null) {
+      return;
+    }
+
+    Runnable evict = () -> {
+      details.invalidate(titleId);
+      try {
+        redisTemplate.delete(DETAIL_KEY_PREFIX + titleId);
+      } catch (RuntimeException e) {
+        logger.warn("Could not evict title detail from Redis: titleId={}", titleId, e);
+      }
+    };
+
+    // Evict after commit so a reader cannot re-cache the pre-commit row
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evict.run();
+        }
+      });
+    } else {
+      evict.run();
+    }
+  }
+
+  private TitleDto getOrLoad(String alias, Supplier<Title> loader) {
+    // L1
+    UUID titleId = aliases.getIfPresent(alias);
+    if (titleId != null) {
+      TitleDto cached = details.getIfPresent(titleId);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
+    // L2
+    if (titleId == null) {
+      titleId = readAlias(alias);
+    }
+    if (titleId != null) {
+      TitleDto cached = readDetail(titleId);
+      if (cached != null) {
+        aliases.put(alias, titleId);
+        details.put(titleId, cached);
+        return cached;
+      }
+    }
+
+    // DB (or TMDB)
+    Title title = loader.get();
+    TitleDto dto = titleDtoMapper.toDto(title);
+    aliases.put("slug:" + title.getSlug(), title.getId());
+    aliases.put("tmdb:" + title.getType() + ":" + title.getTmdbId(), title.getId());
+    details.put(title.getId(), dto);
+    write(title, dto);
+    return dto;
+  }
+
+  private UUID readAlias(String alias) {
+    try {
+      String value = redisTemplate.opsForValue().get(ALIAS_KEY_PREFIX + alias);
+      return value != null ? UUID.fromString(value) : null;
+    } catch (RuntimeException e) {
+      logger.warn("Could not read title alias from Redis: alias={}", alias, e);
+      return null;
+    }
+  }
+
+  private TitleDto readDetail(UUID titleId) {
+    try {
+      String json = redisTemplate.opsForValue().get(DETAIL_KEY_PREFIX + titleId);
+      return json != null ? objectMapper.readValue(json, TitleDto.class) : null;
+    } catch (JsonProcessingException | RuntimeException e) {
+      logger.warn("Could not read title detail from Redis: titleId={}", titleId, e);
+      return null;
+    }
+  }
+
+  private void write(Title title, TitleDto dto) {
+    try {
+      String id = title.getId().toString();
+      redisTemplate.opsForValue().set(DETAIL_KEY_PREFIX + id, objectMapper.writeValueAsString(dto), l2Ttl);
+      redisTemplate.opsForValue().set(ALIAS_KEY_PREFIX + "slug:" + title.getSlug(), id, l2Ttl);
+      redisTemplate.opsForValue().set(
+          ALIAS_KEY_PREFIX + "tmdb:" + title.getType() + ":" + title.getTmdbId(), id, l2Ttl);
+    } catch (JsonProcessingException | RuntimeException e) {
+      logger.warn("Could not write title detail to Redis: titleId={}", title.getId(), e);
+    }
+  }
+}
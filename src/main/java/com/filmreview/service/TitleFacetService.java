@@ -0,0 +1,40 @@
+package com.filmreview.service;
+
+import com.filmreview.dto.TitleFacetsDto;
+import com.filmreview.entity.Title;
+
+import java.util.Collection;
+
+/**
+ * Interface for title facet counts (genre, type, decade, rating).
+ * Served from an in-memory bitmap index, so counts never touch the DB.
+ */
+public interface TitleFacetService {
+
+  /**
+   * Count titles per facet value under the given filters.
+   *
+   * @param type      Optional type filter (movie or tv_show)
+   * @param genreId   Optional genre filter
+   * @param year      Optional release year filter
+   * @param minRating Optional minimum user rating average
+   * @return Facet counts
+   */
+  TitleFacetsDto getFacets(String type, Integer genreId, Integer year, Double minRating);
+
+  /**
+   * Add a newly stored title to the index, or update it if already indexed.
+   * If called inside a transaction, the title is added after commit.
+   *
+   * @param title    The stored title
+   * @param genreIds IDs of the genres linked to the title
+   */
+  void addTitle(Title title, Collection<Integer> genreIds);
+
+  /**
+   * Rebuild the index from the DB (also refreshes rating averages).
+   *
+   * @return Number of titles indexed
+   */
+  int rebuildIndex();
+}
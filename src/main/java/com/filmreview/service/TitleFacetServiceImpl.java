@@ -0,0 +1,338 @@
+package com.filmreview.service;
+
+import com.filmreview.dto.TitleFacetsDto;
+import com.filmreview.entity.Title;
+import com.filmreview.repository.TitleGenreRepository;
+import com.filmreview.repository.TitleRepository;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Implementation of TitleFacetService.
+ *
+ * Every title gets a dense int ordinal, and each facet value (genre, type,
+ * release year, decade, rating bucket) keeps a compressed bitmap of the
+ * ordinals that have it. A filter is an AND of bitmaps and a facet count is
+ * the cardinality of an AND, so counting never scans titles. The exact
+ * min_rating boundary only scans the one rating bucket it falls in.
+ *
+ * The index is rebuilt from the DB at startup and periodically, which also
+ * picks up rating averages changed by new ratings. Titles stored in between
+ * are added incrementally after their transaction commits.
+ */
+@Service
+public class TitleFacetServiceImpl implements TitleFacetService {
+
+  private static final Logger logger = LoggerFactory.getLogger(TitleFacetServiceImpl.class);
+
+  private static final int NO_RATING = -1;
+
+  private final TitleRepository titleRepository;
+  private final TitleGenreRepository titleGenreRepository;
+
+  // Guards the index; adds take the write lock, lookups the read lock
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private FacetIndex index = new FacetIndex();
+
+  // Titles added while a rebuild is loading, replayed onto the new index
+  private List<PendingTitle> pending;
+
+  public TitleFacetServiceImpl(TitleRepository titleRepository, TitleGenreRepository titleGenreRepository) {
+    this.titleRepository = titleRepository;
+    this.titleGenreRepository = titleGenreRepository;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void buildOnStartup() {
+    try {
+      rebuildIndex();
+    } catch (Exception e) {
+      // Facet counts stay empty until the next scheduled rebuild
+      logger.warn("Failed to build title facet index", e);
+    }
+  }
+
+  @Override
+  public TitleFacetsDto getFacets(String type, Integer genreId, Integer year, Double minRating) {
+    lock.readLock().lock();
+    try {
+      FacetIndex current = index;
+
+      // null means "no filter" on that dimension
+      RoaringBitmap typeFilter = null;
+      Title.TitleType titleType = parseTitleType(type);
+      if (titleType != null) {
+        typeFilter = current.byType.getOrDefault(titleType, new RoaringBitmap());
+      }
+      RoaringBitmap genreFilter = genreId != null
+          ? current.byGenre.getOrDefault(genreId, new RoaringBitmap())
+          : null;
+      RoaringBitmap yearFilter = year != null
+          ? current.byYear.getOrDefault(year, new RoaringBitmap())
+          : null;
+      RoaringBitmap ratingFilter = minRating != null ? current.atLeast(toHundredths(minRating)) : null;
+
+      RoaringBitmap all = intersect(current.all, typeFilter, genreFilter, yearFilter, ratingFilter);
+      return new TitleFacetsDto(
+          all.getCardinality(),
+          count(current.byGenre, intersect(current.all, typeFilter, yearFilter, ratingFilter), Function.identity()),
+          count(current.byType, intersect(current.all, genreFilter, yearFilter, ratingFilter), Title.TitleType::name),
+          count(current.byDecade, intersect(current.all, typeFilter, genreFilter, ratingFilter), Function.identity()),
+          count(current.byRating, intersect(current.all, typeFilter, genreFilter, yearFilter), Function.identity()));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void addTitle(Title title, Collection<Integer> genreIds) {
+    if (title == null || title.getId() == null) {
+      return;
+    }
+
+    PendingTitle pendingTitle = new PendingTitle(title.getId(), title.getType(), title.getReleaseDate(),
+        title.getUserRatingAvg(), genreIds != null ? Set.copyOf(genreIds) : Set.of());
+    Runnable add = () -> {
+      lock.writeLock().lock();
+      try {
+        index.put(pendingTitle);
+        if (pending != null) {
+          pending.add(pendingTitle);
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    };
+
+    // Only index titles that actually made it into the DB
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          add.run();
+        }
+      });
+    } else {
+      add.run();
+    }
+  }
+
+  @Override
+  @Scheduled(
+      fixedDelayString = "${titles.facets.rebuild-interval-ms:3600000}",
+      initialDelayString = "${titles.facets.rebuild-interval-ms:3600000}")
+  public synchronized int rebuildIndex() {
+    lock.writeLock().lock();
+    try {
+      pending = new ArrayList<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    FacetIndex rebuilt = new FacetIndex();
+    try {
+      Map<UUID, List<Integer>> genresByTitle = new HashMap<>();
+      for (TitleGenreRepository.TitleGenrePair pair : titleGenreRepository.findAllPairs()) {
+        genresByTitle.computeIfAbsent(pair.getTitleId(), id -> new ArrayList<>()).add(pair.getGenreId());
+      }
+      for (TitleRepository.FacetSource source : titleRepository.findAllFacetSources()) {
+        rebuilt.put(new PendingTitle(source.getId(), source.getType(), source.getReleaseDate(),
+            source.getUserRatingAvg(), genresByTitle.getOrDefault(source.getId(), List.of())));
+      }
+      rebuilt.optimize();
+    } catch (RuntimeException e) {
+      // Keep serving the current index
+      lock.writeLock().lock();
+      try {
+        pending = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      throw e;
+    }
+
+    lock.writeLock().lock();
+    try {
+      // Titles stored during the load may be missing from it
+      pending.forEach(rebuilt::put);
+      pending = null;
+      index = rebuilt;
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    logger.info("Rebuilt title facet index: {} titles", rebuilt.size());
+    return rebuilt.size();
+  }
+
+  private static Title.TitleType parseTitleType(String type) {
+    if ("movie".equals(type)) {
+      return Title.TitleType.movie;
+    } else if ("tv_show".equals(type)) {
+      return Title.TitleType.tv_show;
+    }
+    return null;
+  }
+
+  /**
+   * Rating in hundredths, rounded up so a bound of 7.005 excludes 7.00.
+   */
+  static int toHundredths(Double rating) {
+    return BigDecimal.valueOf(rating).movePointRight(2).setScale(0, RoundingMode.CEILING).intValue();
+  }
+
+  /**
+   * AND of the base bitmap with every non-null filter. Always returns a new
+   * bitmap, so the index is never mutated by a lookup.
+   */
+  private static RoaringBitmap intersect(RoaringBitmap base, RoaringBitmap... filters) {
+    RoaringBitmap result = base.clone();
+    for (RoaringBitmap filter : filters) {
+      if (filter != null) {
+        result.and(filter);
+      }
+    }
+    return result;
+  }
+
+  private static <K, V> Map<V, Integer> count(Map<K, RoaringBitmap> facet, RoaringBitmap base,
+      Function<K, V> keyMapper) {
+    Map<V, Integer> counts = new TreeMap<>();
+    for (Map.Entry<K, RoaringBitmap> entry : facet.entrySet()) {
+      int cardinality = RoaringBitmap.andCardinality(base, entry.getValue());
+      if (cardinality > 0) {
+        counts.put(keyMapper.apply(entry.getKey()), cardinality);
+      }
+    }
+    return counts;
+  }
+
+  private record PendingTitle(UUID id, Title.TitleType type, LocalDate releaseDate, BigDecimal userRatingAvg,
+      Collection<Integer> genreIds) {
+  }
+
+  /**
+   * Mutable bitmap index. Callers hold the service's lock.
+   */
+  private static final class FacetIndex {
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<Integer, RoaringBitmap> byGenre = new HashMap<>();
+    private final Map<Title.TitleType, RoaringBitmap> byType = new EnumMap<>(Title.TitleType.class);
+    private final Map<Integer, RoaringBitmap> byYear = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> byDecade = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> byRating = new HashMap<>(); // Rating floor -> titles
+    private int[] ratings = new int[1024]; // Ordinal -> rating in hundredths, or NO_RATING
+
+    private int size() {
+      return ordinals.size();
+    }
+
+    /**
+     * Index a title, replacing its previous facet values if already indexed.
+     */
+    private void put(PendingTitle title) {
+      Integer existing = ordinals.get(title.id());
+      int ordinal;
+      if (existing != null) {
+        ordinal = existing;
+        removeFromAll(ordinal);
+      } else {
+        ordinal = ordinals.size();
+        ordinals.put(title.id(), ordinal);
+        if (ordinal >= ratings.length) {
+          ratings = Arrays.copyOf(ratings, ratings.length * 2);
+        }
+      }
+
+      all.add(ordinal);
+      for (Integer genreId : title.genreIds()) {
+        add(byGenre, genreId, ordinal);
+      }
+      if (title.type() != null) {
+        add(byType, title.type(), ordinal);
+      }
+      if (title.releaseDate() != null) {
+        int year = title.releaseDate().getYear();
+        add(byYear, year, ordinal);
+        add(byDecade, year - Math.floorMod(year, 10), ordinal);
+      }
+      if (title.userRatingAvg() != null) {
+        int hundredths = title.userRatingAvg().movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValue();
+        ratings[ordinal] = hundredths;
+        add(byRating, hundredths / 100, ordinal);
+      } else {
+        ratings[ordinal] = NO_RATING;
+      }
+    }
+
+    /**
+     * Titles rated at least the given hundredths: whole buckets above the
+     * bound, plus the members of the bound's own bucket that clear it.
+     */
+    private RoaringBitmap atLeast(int minHundredths) {
+      int floorBucket = Math.floorDiv(minHundredths, 100);
+      RoaringBitmap result = new RoaringBitmap();
+      for (Map.Entry<Integer, RoaringBitmap> entry : byRating.entrySet()) {
+        if (entry.getKey() > floorBucket) {
+          result.or(entry.getValue());
+        } else if (entry.getKey() == floorBucket) {
+          IntIterator members = entry.getValue().getIntIterator();
+          while (members.hasNext()) {
+            int ordinal = members.next();
+            if (ratings[ordinal] >= minHundredths) {
+              result.add(ordinal);
+            }
+          }
+        }
+      }
+      return result;
+    }
+
+    private List<Map<?, RoaringBitmap>> facets() {
+      return List.of(byGenre, byType, byYear, byDecade, byRating);
+    }
+
+    private void optimize() {
+      all.runOptimize();
+      for (Map<?, RoaringBitmap> facet : facets()) {
+        facet.values().forEach(RoaringBitmap::runOptimize);
+      }
+    }
+
+    private void removeFromAll(int ordinal) {
+      for (Map<?, RoaringBitmap> facet : facets()) {
+        facet.values().forEach(bitmap -> bitmap.remove(ordinal));
+      }
+    }
+
+    private static <K> void add(Map<K, RoaringBitmap> facet, K key, int ordinal) {
+      facet.computeIfAbsent(key, k -> new RoaringBitmap()).add(ordinal);
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package com.filmreview.service;
+
+import com.filmreview.entity.Title;
+import com.filmreview.repository.TitleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight coordinator for on-demand TMDB fetches.
+ *
+ * Concurrent DB misses for the same TMDB ID share one fetch-and-persist:
+ * - Within a JVM, the first caller becomes the leader and the others wait on
+ * its future, so every waiter gets the same Title.
+ * - Across nodes, the leader takes a short-lived Redis lock
+ * ("lock:title-fetch:{tmdbId}"). Nodes that lose the race poll the DB until
+ * the winner has committed, instead of calling TMDB and hitting the unique
+ * constraints on tmdb_id/slug.
+ *
+ * The fetch runs in its own transaction, which is committed before the lock
+ * is released and waiters are woken up.
+ */
+@Component
+public class TitleFetchCoordinator {
+
+  private static final Logger logger = LoggerFactory.getLogger(TitleFetchCoordinator.class);
+
+  private static final String LOCK_KEY_PREFIX = "lock:title-fetch:";
+  private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+      Long.class);
+
+  private final TitleRepository titleRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration lockTtl;
+  private final Duration waitTimeout;
+  private final Duration pollInterval;
+  private final Map<Integer, CompletableFuture<Title>> inFlight = new ConcurrentHashMap<>();
+
+  public TitleFetchCoordinator(
+      TitleRepository titleRepository,
+      StringRedisTemplate redisTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${tmdb.fetch-lock.ttl-ms:30000}") long lockTtlMs,
+      @Value("${tmdb.fetch-lock.wait-timeout-ms:10000}") long waitTimeoutMs,
+      @Value("${tmdb.fetch-lock.poll-interval-ms:100}") long pollIntervalMs) {
+    this.titleRepository = titleRepository;
+    this.redisTemplate = redisTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.lockTtl = Duration.ofMillis(lockTtlMs);
+    this.waitTimeout = Duration.ofMillis(waitTimeoutMs);
+    this.pollInterval = Duration.ofMillis(pollIntervalMs);
+  }
+
+  /**
+   * Fetch and persist a title at most once per TMDB ID, however many callers
+   * miss at the same time.
+   *
+   * @param tmdbId       The TMDB ID that missed in the DB
+   * @param fetchAndSave Fetches the title from TMDB and saves it
+   * @return The stored title (the same instance for all in-JVM waiters)
+   */
+  public Title fetchOnce(Integer tmdbId, Supplier<Title> fetchAndSave) {
+    CompletableFuture<Title> leaderFuture = new CompletableFuture<>();
+    CompletableFuture<Title> existing = inFlight.putIfAbsent(tmdbId, leaderFuture);
+    if (existing != null) {
+      logger.debug("Joining in-flight TMDB fetch: tmdbId={}", tmdbId);
+      return await(tmdbId, existing);
+    }
+
+    try {
+      Title title = fetchAcrossNodes(tmdbId, fetchAndSave);
+      leaderFuture.complete(title);
+      return title;
+    } catch (RuntimeException e) {
+      leaderFuture.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(tmdbId, leaderFuture);
+    }
+  }
+
+  private Title fetchAcrossNodes(Integer tmdbId, Supplier<Title> fetchAndSave) {
+    String lockKey = LOCK_KEY_PREFIX + tmdbId;
+    String token = UUID.randomUUID().toString();
+    long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+    while (true) {
+      Boolean acquired;
+      try {
+        acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl);
+      } catch (RuntimeException e) {
+        // Redis unavailable: in-JVM coalescing still applies
+        logger.warn("Could not acquire TMDB fetch lock, fetching without it: tmdbId={}", tmdbId, e);
+        return fetchInTransaction(tmdbId, fetchAndSave);
+      }
+
+      if (Boolean.TRUE.equals(acquired)) {
+        try {
+          return fetchInTransaction(tmdbId, fetchAndSave);
+        } finally {
+          releaseLock(lockKey, token);
+        }
+      }
+
+      // Another node is fetching: wait for its commit
+      Optional<Title> stored = titleRepository.findByTmdbId(tmdbId);
+      if (stored.isPresent()) {
+        logger.debug("TMDB fetch completed by another node: tmdbId={}", tmdbId);
+        return stored.get();
+      }
+      if (System.nanoTime() > deadline) {
+        logger.warn("Timed out waiting for TMDB fetch lock, fetching without it: tmdbId={}", tmdbId);
+        return fetchInTransaction(tmdbId, fetchAndSave);
+      }
+      sleep(pollInterval);
+    }
+  }
+
+  /**
+   * Run the fetch in a new transaction so it is committed before the lock is
+   * released. Re-checks the DB first in case another node committed between
+   * our miss and acquiring the lock.
+   */
+  private Title fetchInTransaction(Integer tmdbId, Supplier<Title> fetchAndSave) {
+    return transactionTemplate.execute(status -> titleRepository.findByTmdbId(tmdbId)
+        .orElseGet(fetchAndSave));
+  }
+
+  private void releaseLock(String lockKey, String token) {
+    try {
+      redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), token);
+    } catch (RuntimeException e) {
+      // Lock expires on its own after the TTL
+      logger.warn("Failed to release TMDB fetch lock: {}", lockKey, e);
+    }
+  }
+
+  private Title await(Integer tmdbId, CompletableFuture<Title> future) {
+    try {
+      return future.get(waitTimeout.plus(lockTtl).toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("TMDB fetch failed: " + tmdbId, e.getCause());
+    } catch (TimeoutException e) {
+      return titleRepository.findByTmdbId(tmdbId)
+          .orElseThrow(() -> new IllegalStateException("Timed out waiting for TMDB fetch: " + tmdbId));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for TMDB fetch: " + tmdbId, e);
+    }
+  }
+
+  private void sleep(Duration duration) {
+    try {
+      Thread.sleep(duration.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for TMDB fetch lock", e);
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.filmreview.service;
+
+/**
+ * Interface for keeping title rating aggregates (user_rating_avg,
+ * user_rating_count) up to date from the rating delta log.
+ */
+public interface TitleRatingAggregateService {
+
+  /**
+   * Fold pending rating deltas into title aggregates, batch by batch, and
+   * evict the detail cache of every title that changed.
+   *
+   * @return Number of title aggregate updates applied
+   */
+  int foldRatingDeltas();
+}
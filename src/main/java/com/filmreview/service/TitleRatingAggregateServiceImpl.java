@@ -0,0 +1,82 @@
+package com.filmreview.service;
+
+import com.filmreview.repository.TitleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of TitleRatingAggregateService.
+ *
+ * Rating writes append to title_rating_deltas instead of updating the titles
+ * row, so throughput on a hot title isn't serialized on one row lock. Every
+ * node runs this fold on a short fixed delay. Batches are claimed with SKIP
+ * LOCKED, so nodes folding at the same time split the backlog instead of
+ * blocking on each other. Each batch commits on its own, and its title
+ * detail evictions run after that commit. Aggregates therefore trail rating
+ * writes by up to one fold interval (plus the detail cache's L1 TTL on other
+ * nodes).
+ */
+@Service
+public class TitleRatingAggregateServiceImpl implements TitleRatingAggregateService {
+
+  private static final Logger logger = LoggerFactory.getLogger(TitleRatingAggregateServiceImpl.class);
+
+  private final TitleRepository titleRepository;
+  private final TitleDetailService titleDetailService;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final int maxBatchesPerRun;
+
+  public TitleRatingAggregateServiceImpl(
+      TitleRepository titleRepository,
+      TitleDetailService titleDetailService,
+      PlatformTransactionManager transactionManager,
+      @Value("${titles.rating-aggregates.batch-size:5000}") int batchSize,
+      @Value("${titles.rating-aggregates.max-batches-per-run:20}") int maxBatchesPerRun) {
+    this.titleRepository = titleRepository;
+    this.titleDetailService = titleDetailService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.batchSize = batchSize;
+    this.maxBatchesPerRun = maxBatchesPerRun;
+  }
+
+  @Override
+  @Scheduled(
+      fixedDelayString = "${titles.rating-aggregates.fold-interval-ms:2000}",
+      initialDelayString = "${titles.rating-aggregates.fold-interval-ms:2000}")
+  public int foldRatingDeltas() {
+    int applied = 0;
+    try {
+      // Stop when a batch comes back empty; anything left over waits for the next run
+      for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+        List<UUID> titleIds = transactionTemplate.execute(status -> {
+          List<UUID> folded = titleRepository.foldRatingDeltas(batchSize);
+          folded.forEach(titleDetailService::evict);
+          return folded;
+        });
+        if (titleIds == null || titleIds.isEmpty()) {
+          break;
+        }
+        applied += titleIds.size();
+      }
+    } catch (RuntimeException e) {
+      // Unfolded deltas stay in the table and are retried on the next run
+      logger.warn("Failed to fold title rating deltas", e);
+    }
+
+    if (applied > 0) {
+      logger.debug("Applied {} title rating aggregate updates", applied);
+    }
+    return applied;
+  }
+}
@@ -1,6 +1,8 @@
 package com.filmreview.service;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.entity.Title;
+import com.filmreview.repository.TitleRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,6 +14,20 @@ import java.util.UUID;
  */
 public interface TitleService {
 
+  /**
+   * Browse totals are counted up to this many matching titles (or one row
+   * past the requested page, if that is further).
+   */
+  long BROWSE_COUNT_CAP = 10_000;
+
+  /**
+   * Most rows a browse page's total counts: {@link #BROWSE_COUNT_CAP}, or one
+   * row past the page. A total equal to this is a lower bound.
+   */
+  static long browseCountLimit(Pageable pageable) {
+    return Math.max(BROWSE_COUNT_CAP, pageable.getOffset() + pageable.getPageSize() + 1);
+  }
+
   /**
    * Get title by ID. If not found, throws NotFoundException.
    */
@@ -34,7 +50,7 @@ public interface TitleService {
 
   /**
    * Get title by TMDB ID with type. If not in DB, fetches from TMDB and stores
-   * it.
+   * it. Concurrent misses for the same TMDB ID share a single fetch.
    * 
    * @param tmdbId The TMDB ID
    * @param type   The type: "movie" or "tv_show"
@@ -57,7 +73,9 @@ public interface TitleService {
 
   /**
    * Search titles by query string.
-   * Searches in title and originalTitle fields (case-insensitive).
+   * Full-text search over title, originalTitle and synopsis, ranked by
+   * relevance. Supports web-search syntax (quotes, "or", "-") and matches the
+   * last word as a prefix.
    * 
    * @param query    The search query
    * @param type     Optional type filter (movie or tv_show)
@@ -65,4 +83,47 @@ public interface TitleService {
    * @return Page of matching titles
    */
   Page<Title> searchTitles(String query, String type, Pageable pageable);
+
+  /**
+   * Browse titles by optional type, genre, release year and minimum rating.
+   * Sorted by "release_date" (default), "rating" or "rating_count", newest or
+   * highest first. The total is exact below
+   * {@link #browseCountLimit(Pageable)}; at that limit it is a lower bound.
+   * The last page is counted from its own rows, without a COUNT.
+   *
+   * @param pageable Pagination parameters
+   * @return Page of matching titles
+   */
+  Page<Title> browseTitles(String type, Integer genreId, Integer year, Double minRating, String sort,
+      Pageable pageable);
+
+  /**
+   * Browse titles like {@link #browseTitles}, using keyset pagination.
+   *
+   * @param cursor Cursor from the previous page (null or empty for the first page)
+   * @param limit  Page size
+   * @return Page of matching titles with the cursor of the next page
+   */
+  CursorPage<Title> browseTitlesByCursor(String type, Integer genreId, Integer year, Double minRating,
+      String sort, String cursor, int limit);
+
+  /**
+   * Browse titles like {@link #browseTitles}, loading only the card columns.
+   *
+   * @param pageable Pagination parameters
+   * @return Page of matching title cards
+   */
+  Page<TitleRepository.TitleCard> browseTitleCards(String type, Integer genreId, Integer year, Double minRating,
+      String sort, Pageable pageable);
+
+  /**
+   * Browse titles like {@link #browseTitlesByCursor}, loading only the card
+   * columns. Cursors are interchangeable with browseTitlesByCursor.
+   *
+   * @param cursor Cursor from the previous page (null or empty for the first page)
+   * @param limit  Page size
+   * @return Page of matching title cards with the cursor of the next page
+   */
+  CursorPage<TitleRepository.TitleCard> browseTitleCardsByCursor(String type, Integer genreId, Integer year,
+      Double minRating, String sort, String cursor, int limit);
 }
@@ -1,18 +1,21 @@
 package com.filmreview.service;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.dto.tmdb.TmdbMovieResponse;
 import com.filmreview.dto.tmdb.TmdbPageResponse;
 import com.filmreview.dto.tmdb.TmdbTvSeriesResponse;
 import com.filmreview.entity.Title.TitleType;
-import com.filmreview.entity.Genre;
 import com.filmreview.entity.Title;
-import com.filmreview.entity.TitleGenre;
-import com.filmreview.entity.TitleGenreId;
+import com.filmreview.exception.BadRequestException;
 import com.filmreview.exception.NotFoundException;
 import com.filmreview.mapper.TitleMapper;
 import com.filmreview.repository.GenreRepository;
 import com.filmreview.repository.TitleGenreRepository;
+import com.filmreview.repository.TitleBrowseRepository.BrowseCriteria;
+import com.filmreview.repository.TitleBrowseRepository.BrowseSort;
 import com.filmreview.repository.TitleRepository;
+import com.filmreview.util.CursorUtils;
+import com.filmreview.util.SearchQueryUtils;
 import com.filmreview.util.SlugUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,8 +25,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -38,19 +51,34 @@ public class TitleServiceImpl implements TitleService {
   private final TitleRepository titleRepository;
   private final GenreRepository genreRepository;
   private final TitleGenreRepository titleGenreRepository;
+  private final GenreDictionary genreDictionary;
   private final TmdbService tmdbService;
+  private final PopularListSnapshotService popularListSnapshotService;
+  private final TitleFetchCoordinator titleFetchCoordinator;
+  private final TitleSuggestService titleSuggestService;
+  private final TitleFacetService titleFacetService;
   private final TitleMapper titleMapper;
 
   public TitleServiceImpl(
       TitleRepository titleRepository,
       GenreRepository genreRepository,
       TitleGenreRepository titleGenreRepository,
+      GenreDictionary genreDictionary,
       TmdbService tmdbService,
+      PopularListSnapshotService popularListSnapshotService,
+      TitleFetchCoordinator titleFetchCoordinator,
+      TitleSuggestService titleSuggestService,
+      TitleFacetService titleFacetService,
       TitleMapper titleMapper) {
     this.titleRepository = titleRepository;
     this.genreRepository = genreRepository;
     this.titleGenreRepository = titleGenreRepository;
+    this.genreDictionary = genreDictionary;
     this.tmdbService = tmdbService;
+    this.popularListSnapshotService = popularListSnapshotService;
+    this.titleFetchCoordinator = titleFetchCoordinator;
+    this.titleSuggestService = titleSuggestService;
+    this.titleFacetService = titleFacetService;
     this.titleMapper = titleMapper;
   }
 
@@ -67,18 +95,18 @@ public class TitleServiceImpl implements TitleService {
   }
 
   @Override
-  @Transactional
   public Title getTitleByTmdbId(Integer tmdbId, String type) {
     // 1. Check DB first
     return titleRepository.findByTmdbId(tmdbId)
         .orElseGet(() -> {
-          // 2. DB miss → Fetch from TMDB based on type
+          // 2. DB miss → Fetch from TMDB based on type. Concurrent misses for the
+          // same tmdbId share one fetch-and-persist (in-JVM and across nodes).
           if ("movie".equals(type)) {
             logger.info("Movie not found in DB, fetching from TMDB: tmdbId={}", tmdbId);
-            return fetchAndSaveMovie(tmdbId);
+            return titleFetchCoordinator.fetchOnce(tmdbId, () -> fetchAndSaveMovie(tmdbId));
           } else if ("tv_show".equals(type)) {
             logger.info("TV series not found in DB, fetching from TMDB: tmdbId={}", tmdbId);
-            return fetchAndSaveTvSeries(tmdbId);
+            return titleFetchCoordinator.fetchOnce(tmdbId, () -> fetchAndSaveTvSeries(tmdbId));
           } else {
             throw new IllegalArgumentException("Invalid type: " + type + ". Must be 'movie' or 'tv_show'");
           }
@@ -99,7 +127,11 @@ public class TitleServiceImpl implements TitleService {
     title = titleRepository.save(title);
 
     // Save genres
-    saveGenres(title.getId(), movieResponse.getGenres());
+    Set<Integer> genreIds = saveGenres(title.getId(), movieResponse.getGenres());
+
+    // Make the new title available to typeahead and facet counts
+    titleSuggestService.addTitle(title);
+    titleFacetService.addTitle(title, genreIds);
 
     logger.info("Successfully fetched and saved movie: id={}, tmdbId={}",
         title.getId(), tmdbId);
@@ -120,7 +152,11 @@ public class TitleServiceImpl implements TitleService {
     title = titleRepository.save(title);
 
     // Save genres
-    saveGenresForTvSeries(title.getId(), tvSeriesResponse.getGenres());
+    Set<Integer> genreIds = saveGenresForTvSeries(title.getId(), tvSeriesResponse.getGenres());
+
+    // Make the new title available to typeahead and facet counts
+    titleSuggestService.addTitle(title);
+    titleFacetService.addTitle(title, genreIds);
 
     logger.info("Successfully fetched and saved TV series: id={}, tmdbId={}",
         title.getId(), tmdbId);
@@ -129,52 +165,63 @@ public class TitleServiceImpl implements TitleService {
 
   /**
    * Save genres for a title (movie version).
+   *
+   * @return IDs of the linked genres
    */
-  private void saveGenres(UUID titleId, List<TmdbMovieResponse.TmdbGenre> tmdbGenres) {
+  private Set<Integer> saveGenres(UUID titleId, List<TmdbMovieResponse.TmdbGenre> tmdbGenres) {
     if (tmdbGenres == null || tmdbGenres.isEmpty()) {
-      return;
+      return Set.of();
     }
 
+    Map<Integer, String> genreNames = new LinkedHashMap<>();
     for (TmdbMovieResponse.TmdbGenre movieGenre : tmdbGenres) {
-      saveGenre(titleId, movieGenre.getId(), movieGenre.getName());
+      genreNames.putIfAbsent(movieGenre.getId(), movieGenre.getName());
     }
+    saveTitleGenres(titleId, genreNames);
+    return genreNames.keySet();
   }
 
   /**
    * Save genres for a title (TV series version).
+   *
+   * @return IDs of the linked genres
    */
-  private void saveGenresForTvSeries(UUID titleId, List<TmdbTvSeriesResponse.TmdbGenre> tmdbGenres) {
+  private Set<Integer> saveGenresForTvSeries(UUID titleId, List<TmdbTvSeriesResponse.TmdbGenre> tmdbGenres) {
     if (tmdbGenres == null || tmdbGenres.isEmpty()) {
-      return;
+      return Set.of();
     }
 
+    Map<Integer, String> genreNames = new LinkedHashMap<>();
     for (TmdbTvSeriesResponse.TmdbGenre tvGenre : tmdbGenres) {
-      saveGenre(titleId, tvGenre.getId(), tvGenre.getName());
+      genreNames.putIfAbsent(tvGenre.getId(), tvGenre.getName());
     }
+    saveTitleGenres(titleId, genreNames);
+    return genreNames.keySet();
   }
 
   /**
-   * Helper method to save a single genre for a title.
+   * Link a title to its genres with a constant number of statements.
+   * Known genres come from the genre dictionary; unknown ones are inserted in
+   * one batch, then all title_genres rows are written in one insert.
    */
-  private void saveGenre(UUID titleId, Integer tmdbGenreId, String genreName) {
-    // Find or create genre
-    Genre genre = genreRepository.findById(tmdbGenreId)
-        .orElseGet(() -> {
-          Genre newGenre = new Genre();
-          newGenre.setId(tmdbGenreId);
-          newGenre.setName(genreName);
-          newGenre.setSlug(SlugUtils.generateSlug(genreName, 100));
-          return genreRepository.save(newGenre);
-        });
-
-    // Create title-genre relationship if it doesn't exist
-    TitleGenreId titleGenreId = new TitleGenreId(titleId, genre.getId());
-    if (!titleGenreRepository.existsById(titleGenreId)) {
-      TitleGenre titleGenre = new TitleGenre();
-      titleGenre.setTitleId(titleId);
-      titleGenre.setGenreId(genre.getId());
-      titleGenreRepository.save(titleGenre);
+  private void saveTitleGenres(UUID titleId, Map<Integer, String> genreNames) {
+    List<Integer> unknownIds = genreNames.keySet().stream()
+        .filter(genreId -> !genreDictionary.contains(genreId))
+        .toList();
+
+    if (!unknownIds.isEmpty()) {
+      String[] names = unknownIds.stream().map(genreNames::get).toArray(String[]::new);
+      String[] slugs = unknownIds.stream()
+          .map(genreId -> SlugUtils.generateSlug(genreNames.get(genreId), 100))
+          .toArray(String[]::new);
+      genreRepository.insertAllIgnoreConflicts(unknownIds.toArray(Integer[]::new), names, slugs);
+
+      // Re-read so the dictionary only holds genres that actually exist
+      genreDictionary.putAll(genreRepository.findAllById(unknownIds));
+      logger.debug("Inserted genres missing from dictionary: {}", unknownIds);
     }
+
+    titleGenreRepository.insertAllIgnoreConflicts(titleId, genreNames.keySet());
   }
 
   @Override
@@ -190,43 +237,34 @@ public class TitleServiceImpl implements TitleService {
     int tmdbPage = (requestedPage * requestedPageSize) / 20 + 1;
     int startIndexInTmdbPage = (requestedPage * requestedPageSize) % 20;
 
-    // Fetch popular movies from TMDB (lightweight metadata only)
-    Page<TmdbPageResponse.TmdbMovieItem> tmdbMovies = tmdbService.getPopularMovies(language, tmdbPage, region);
-
-    // For each movie, check if it exists in DB first (to get user ratings)
-    // If not in DB, return lightweight version without saving
-    // Only save to DB when user views details (via getTitleByTmdbId)
-    List<Title> allTitles = tmdbMovies.getContent().stream()
-        .map(tmdbMovie -> {
-          // Check if title exists in DB (has user ratings, etc.)
-          return titleRepository.findByTmdbId(tmdbMovie.getId())
-              .orElseGet(() -> {
-                // Not in DB yet - return lightweight version without saving
-                return tmdbMovieItemToTitle(tmdbMovie);
-              });
-        })
-        .collect(Collectors.toList());
+    // Fetch popular movies (lightweight metadata only) from the TMDB snapshot
+    Page<TmdbPageResponse.TmdbMovieItem> tmdbMovies = popularListSnapshotService.getPopularMovies(language, tmdbPage,
+        region);
+    List<TmdbPageResponse.TmdbMovieItem> allItems = new ArrayList<>(tmdbMovies.getContent());
 
     // If we need items beyond the current TMDB page, fetch the next page
     int endIndex = startIndexInTmdbPage + requestedPageSize;
-    if (endIndex > allTitles.size() && tmdbMovies.hasNext()) {
+    if (endIndex > allItems.size() && tmdbMovies.hasNext()) {
       // Fetch next TMDB page to get more items
-      Page<TmdbPageResponse.TmdbMovieItem> nextTmdbPage = tmdbService.getPopularMovies(language, tmdbPage + 1, region);
+      Page<TmdbPageResponse.TmdbMovieItem> nextTmdbPage = popularListSnapshotService.getPopularMovies(language,
+          tmdbPage + 1, region);
       if (nextTmdbPage != null && nextTmdbPage.getContent() != null) {
-        List<Title> nextPageTitles = nextTmdbPage.getContent().stream()
-            .map(tmdbMovie -> {
-              return titleRepository.findByTmdbId(tmdbMovie.getId())
-                  .orElseGet(() -> tmdbMovieItemToTitle(tmdbMovie));
-            })
-            .collect(Collectors.toList());
-        allTitles.addAll(nextPageTitles);
+        allItems.addAll(nextTmdbPage.getContent());
       }
     }
 
     // Slice to the requested page size
-    int fromIndex = Math.min(startIndexInTmdbPage, allTitles.size());
-    int toIndex = Math.min(fromIndex + requestedPageSize, allTitles.size());
-    List<Title> slicedTitles = allTitles.subList(fromIndex, toIndex);
+    int fromIndex = Math.min(startIndexInTmdbPage, allItems.size());
+    int toIndex = Math.min(fromIndex + requestedPageSize, allItems.size());
+    List<TmdbPageResponse.TmdbMovieItem> slicedItems = allItems.subList(fromIndex, toIndex);
+
+    // Resolve the slice against the DB in one query (to get user ratings)
+    // If not in DB, return lightweight version without saving
+    // Only save to DB when user views details (via getTitleByTmdbId)
+    List<Title> slicedTitles = mergeWithStoredTitles(
+        slicedItems,
+        TmdbPageResponse.TmdbMovieItem::getId,
+        this::tmdbMovieItemToTitle);
 
     // Return as Page with requested pagination info
     return new PageImpl<>(
@@ -235,6 +273,37 @@ public class TitleServiceImpl implements TitleService {
         tmdbMovies.getTotalElements());
   }
 
+  /**
+   * Overlay stored titles onto a list of TMDB items, preserving TMDB order.
+   * All items are resolved with a single IN query on tmdb_id. Items that are
+   * not in the DB yet are converted with the given fallback mapper (not saved).
+   */
+  private <T> List<Title> mergeWithStoredTitles(
+      List<T> tmdbItems,
+      Function<T, Integer> tmdbIdExtractor,
+      Function<T, Title> fallbackMapper) {
+    if (tmdbItems.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    Set<Integer> tmdbIds = tmdbItems.stream()
+        .map(tmdbIdExtractor)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+
+    Map<Integer, Title> storedTitles = tmdbIds.isEmpty()
+        ? Map.of()
+        : titleRepository.findAllByTmdbIdIn(tmdbIds).stream()
+            .collect(Collectors.toMap(Title::getTmdbId, Function.identity(), (first, second) -> first));
+
+    return tmdbItems.stream()
+        .map(item -> {
+          Title storedTitle = storedTitles.get(tmdbIdExtractor.apply(item));
+          return storedTitle != null ? storedTitle : fallbackMapper.apply(item);
+        })
+        .collect(Collectors.toList());
+  }
+
   /**
    * Convert TmdbMovieItem to Title entity without saving to database.
    * This is used for list views. Full details are fetched and saved only when
@@ -298,43 +367,34 @@ public class TitleServiceImpl implements TitleService {
     int tmdbPage = (requestedPage * requestedPageSize) / 20 + 1;
     int startIndexInTmdbPage = (requestedPage * requestedPageSize) % 20;
 
-    // Fetch popular TV shows from TMDB (lightweight metadata only)
-    Page<TmdbPageResponse.TmdbTvSeriesItem> tmdbTVShows = tmdbService.getPopularTVShows(language, tmdbPage);
-
-    // For each TV show, check if it exists in DB first (to get user ratings)
-    // If not in DB, return lightweight version without saving
-    // Only save to DB when user views details (via getTitleByTmdbId)
-    List<Title> allTitles = tmdbTVShows.getContent().stream()
-        .map(tmdbTV -> {
-          // Check if title exists in DB (has user ratings, etc.)
-          return titleRepository.findByTmdbId(tmdbTV.getId())
-              .orElseGet(() -> {
-                // Not in DB yet - return lightweight version without saving
-                return tmdbTVItemToTitle(tmdbTV);
-              });
-        })
-        .collect(Collectors.toList());
+    // Fetch popular TV shows (lightweight metadata only) from the TMDB snapshot
+    Page<TmdbPageResponse.TmdbTvSeriesItem> tmdbTVShows = popularListSnapshotService.getPopularTVShows(language,
+        tmdbPage);
+    List<TmdbPageResponse.TmdbTvSeriesItem> allItems = new ArrayList<>(tmdbTVShows.getContent());
 
     // If we need items beyond the current TMDB page, fetch the next page
     int endIndex = startIndexInTmdbPage + requestedPageSize;
-    if (endIndex > allTitles.size() && tmdbTVShows.hasNext()) {
+    if (endIndex > allItems.size() && tmdbTVShows.hasNext()) {
       // Fetch next TMDB page to get more items
-      Page<TmdbPageResponse.TmdbTvSeriesItem> nextTmdbPage = tmdbService.getPopularTVShows(language, tmdbPage + 1);
+      Page<TmdbPageResponse.TmdbTvSeriesItem> nextTmdbPage = popularListSnapshotService.getPopularTVShows(language,
+          tmdbPage + 1);
       if (nextTmdbPage != null && nextTmdbPage.getContent() != null) {
-        List<Title> nextPageTitles = nextTmdbPage.getContent().stream()
-            .map(tmdbTV -> {
-              return titleRepository.findByTmdbId(tmdbTV.getId())
-                  .orElseGet(() -> tmdbTVItemToTitle(tmdbTV));
-            })
-            .collect(Collectors.toList());
-        allTitles.addAll(nextPageTitles);
+        allItems.addAll(nextTmdbPage.getContent());
       }
     }
 
     // Slice to the requested page size
-    int fromIndex = Math.min(startIndexInTmdbPage, allTitles.size());
-    int toIndex = Math.min(fromIndex + requestedPageSize, allTitles.size());
-    List<Title> slicedTitles = allTitles.subList(fromIndex, toIndex);
+    int fromIndex = Math.min(startIndexInTmdbPage, allItems.size());
+    int toIndex = Math.min(fromIndex + requestedPageSize, allItems.size());
+    List<TmdbPageResponse.TmdbTvSeriesItem> slicedItems = allItems.subList(fromIndex, toIndex);
+
+    // Resolve the slice against the DB in one query (to get user ratings)
+    // If not in DB, return lightweight version without saving
+    // Only save to DB when user views details (via getTitleByTmdbId)
+    List<Title> slicedTitles = mergeWithStoredTitles(
+        slicedItems,
+        TmdbPageResponse.TmdbTvSeriesItem::getId,
+        this::tmdbTVItemToTitle);
 
     // Return as Page with requested pagination info
     return new PageImpl<>(
@@ -406,20 +466,139 @@ public class TitleServiceImpl implements TitleService {
     }
 
     // Convert type string to TitleType enum if provided
-    TitleType titleType = null;
-    if (type != null) {
-      if ("movie".equals(type)) {
-        titleType = TitleType.movie;
-      } else if ("tv_show".equals(type)) {
-        titleType = TitleType.tv_show;
-      }
-    }
+    TitleType titleType = parseTitleType(type);
+
+    // Full-text search: completed words via websearch_to_tsquery, last word as a prefix
+    SearchQueryUtils.FullTextQuery fullTextQuery = SearchQueryUtils.parse(query);
 
     // Search with or without type filter
     if (titleType != null) {
-      return titleRepository.searchTitlesByType(query.trim(), titleType, pageable);
+      return titleRepository.fullTextSearchByType(
+          fullTextQuery.terms(), fullTextQuery.prefix(), titleType.name(), pageable);
     } else {
-      return titleRepository.searchTitles(query.trim(), pageable);
+      return titleRepository.fullTextSearch(fullTextQuery.terms(), fullTextQuery.prefix(), pageable);
     }
   }
+
+  @Override
+  public Page<Title> browseTitles(String type, Integer genreId, Integer year, Double minRating, String sort,
+      Pageable pageable) {
+    return browsePage(type, genreId, year, minRating, sort, pageable, titleRepository::browse);
+  }
+
+  @Override
+  public CursorPage<Title> browseTitlesByCursor(String type, Integer genreId, Integer year, Double minRating,
+      String sort, String cursor, int limit) {
+    BrowseSort browseSort = parseBrowseSort(sort);
+    return browseByCursor(type, genreId, year, minRating, browseSort, cursor, limit, titleRepository::browse,
+        title -> CursorUtils.encodeValues(browseSort.name(), browseSortKey(browseSort, title), title.getId()));
+  }
+
+  @Override
+  public Page<TitleRepository.TitleCard> browseTitleCards(String type, Integer genreId, Integer year,
+      Double minRating, String sort, Pageable pageable) {
+    return browsePage(type, genreId, year, minRating, sort, pageable, titleRepository::browseCards);
+  }
+
+  @Override
+  public CursorPage<TitleRepository.TitleCard> browseTitleCardsByCursor(String type, Integer genreId,
+      Integer year, Double minRating, String sort, String cursor, int limit) {
+    BrowseSort browseSort = parseBrowseSort(sort);
+    return browseByCursor(type, genreId, year, minRating, browseSort, cursor, limit, titleRepository::browseCards,
+        card -> CursorUtils.encodeValues(browseSort.name(), browseSortKey(browseSort, card), card.getId()));
+  }
+
+  private <T> Page<T> browsePage(String type, Integer genreId, Integer year, Double minRating, String sort,
+      Pageable pageable, BiFunction<BrowseCriteria, Integer, List<T>> query) {
+    BrowseCriteria criteria = new BrowseCriteria(parseTitleType(type), genreId, year, toRating(minRating),
+        parseBrowseSort(sort), null, null, (int) pageable.getOffset());
+
+    // One extra row tells whether there is a next page. Without one, the page's
+    // own rows give the exact total; otherwise count, stopping at the cap so a
+    // broad filter doesn't scan every match
+    int pageSize = pageable.getPageSize();
+    List<T> rows = query.apply(criteria, pageSize + 1);
+    List<T> content = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+    long total = (!rows.isEmpty() || pageable.getOffset() == 0) && rows.size() <= pageSize
+        ? pageable.getOffset() + rows.size()
+        : titleRepository.countBrowse(criteria, TitleService.browseCountLimit(pageable));
+    return new PageImpl<>(content, pageable, total);
+  }
+
+  private <T> CursorPage<T> browseByCursor(String type, Integer genreId, Integer year, Double minRating,
+      BrowseSort browseSort, String cursor, int limit, BiFunction<BrowseCriteria, Integer, List<T>> query,
+      Function<T, String> cursorOf) {
+    Object afterKey = null;
+    UUID afterId = null;
+
+    if (cursor != null && !cursor.isBlank()) {
+      // Cursor is (sort, sort key, id); a cursor from another sort is rejected
+      String[] values = CursorUtils.decodeValues(cursor, 3);
+      if (!browseSort.name().equals(values[0])) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      try {
+        afterKey = switch (browseSort) {
+          case RELEASE_DATE -> LocalDate.parse(values[1]);
+          case RATING -> new BigDecimal(values[1]);
+          case RATING_COUNT -> Integer.valueOf(values[1]);
+        };
+        afterId = UUID.fromString(values[2]);
+      } catch (IllegalArgumentException | DateTimeParseException e) {
+        throw new BadRequestException("Invalid cursor");
+      }
+    }
+
+    BrowseCriteria criteria = new BrowseCriteria(parseTitleType(type), genreId, year, toRating(minRating),
+        browseSort, afterKey, afterId, 0);
+    List<T> rows = query.apply(criteria, CursorUtils.clampLimit(limit) + 1);
+    return CursorUtils.toPage(rows, limit, cursorOf, page -> page);
+  }
+
+  /**
+   * Convert a type string to TitleType; unknown or missing types mean no filter.
+   */
+  private TitleType parseTitleType(String type) {
+    if ("movie".equals(type)) {
+      return TitleType.movie;
+    } else if ("tv_show".equals(type)) {
+      return TitleType.tv_show;
+    }
+    return null;
+  }
+
+  /**
+   * Convert a sort string to a browse sort. Defaults to newest releases;
+   * "popular" without a type falls back to our own rating count.
+   */
+  private BrowseSort parseBrowseSort(String sort) {
+    if (sort == null || sort.isEmpty() || "release_date".equals(sort)) {
+      return BrowseSort.RELEASE_DATE;
+    } else if ("rating".equals(sort)) {
+      return BrowseSort.RATING;
+    } else if ("rating_count".equals(sort) || "popular".equals(sort)) {
+      return BrowseSort.RATING_COUNT;
+    }
+    throw new BadRequestException("Unsupported sort: " + sort);
+  }
+
+  private Object browseSortKey(BrowseSort sort, Title title) {
+    return switch (sort) {
+      case RELEASE_DATE -> title.getReleaseDate();
+      case RATING -> title.getUserRatingAvg();
+      case RATING_COUNT -> title.getUserRatingCount();
+    };
+  }
+
+  private Object browseSortKey(BrowseSort sort, TitleRepository.TitleCard card) {
+    return switch (sort) {
+      case RELEASE_DATE -> card.getReleaseDate();
+      case RATING -> card.getUserRatingAvg();
+      case RATING_COUNT -> card.getUserRatingCount();
+    };
+  }
+
+  private BigDecimal toRating(Double minRating) {
+    return minRating != null ? BigDecimal.valueOf(minRating) : null;
+  }
 }
@@ -0,0 +1,39 @@
+package com.filmreview.service;
+
+import com.filmreview.dto.TitleSuggestionDto;
+import com.filmreview.entity.Title;
+
+import java.util.List;
+
+/**
+ * Interface for title typeahead suggestions.
+ * Served from an in-memory prefix index, so suggestions never touch the DB.
+ */
+public interface TitleSuggestService {
+
+  /**
+   * Suggest titles whose title or original title (or any word in them, from
+   * the second word on) starts with the query. Ordered by user rating count.
+   *
+   * @param query Prefix typed so far
+   * @param type  Optional type filter (movie or tv_show)
+   * @param limit Maximum number of suggestions
+   * @return Suggestions, most rated first
+   */
+  List<TitleSuggestionDto> suggest(String query, String type, int limit);
+
+  /**
+   * Add a newly stored title to the index.
+   * If called inside a transaction, the title is added after commit.
+   *
+   * @param title The stored title
+   */
+  void addTitle(Title title);
+
+  /**
+   * Rebuild the index from the DB (also refreshes rating-count weights).
+   *
+   * @return Number of titles indexed
+   */
+  int rebuildIndex();
+}
@@ -0,0 +1,296 @@
+package com.filmreview.service;
+
+import com.filmreview.dto.TitleSuggestionDto;
+import com.filmreview.entity.Title;
+import com.filmreview.repository.TitleRepository;
+import com.filmreview.util.SearchQueryUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Implementation of TitleSuggestService.
+ *
+ * The index is an immutable snapshot of normalized keys in a sorted array,
+ * rebuilt from the DB at startup and periodically. A prefix lookup is a
+ * binary search plus a scan of the matching range. Top suggestions for one-
+ * and two-character prefixes (the widest ranges) are precomputed when the
+ * snapshot is built. Titles stored since the last rebuild live in a small
+ * sorted map that is merged into every lookup.
+ *
+ * Each title is indexed under its normalized title and original title, and
+ * under every later word that is not a stop word, so "knight" finds
+ * "The Dark Knight".
+ */
+@Service
+public class TitleSuggestServiceImpl implements TitleSuggestService {
+
+  private static final Logger logger = LoggerFactory.getLogger(TitleSuggestServiceImpl.class);
+
+  static final int MAX_LIMIT = 20;
+  private static final int SHORT_PREFIX_LENGTH = 2;
+  private static final int MAX_WORD_KEYS = 5;
+  private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "of", "the");
+  private static final String ANY_TYPE = "";
+  private static final List<String> TYPE_KEYS = List.of(ANY_TYPE, "movie", "tv_show");
+
+  // Most rated first; ties broken by title, then id, so results are stable
+  private static final Comparator<Entry> BY_RANK = Comparator.comparingInt(Entry::weight).reversed()
+      .thenComparing(entry -> entry.suggestion().getTitle(), Comparator.nullsLast(Comparator.naturalOrder()))
+      .thenComparing(Entry::id);
+
+  private final TitleRepository titleRepository;
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+  // Titles stored since the last rebuild, keyed by normalized key + '\0' + title id
+  private final ConcurrentSkipListMap<String, Entry> recent = new ConcurrentSkipListMap<>();
+
+  public TitleSuggestServiceImpl(TitleRepository titleRepository) {
+    this.titleRepository = titleRepository;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void buildOnStartup() {
+    try {
+      rebuildIndex();
+    } catch (Exception e) {
+      // Suggestions stay empty until the next scheduled rebuild
+      logger.warn("Failed to build title suggestion index", e);
+    }
+  }
+
+  @Override
+  public List<TitleSuggestionDto> suggest(String query, String type, int limit) {
+    String prefix = SearchQueryUtils.normalize(query);
+    if (prefix.isEmpty()) {
+      return List.of();
+    }
+
+    int maxResults = Math.max(1, Math.min(limit, MAX_LIMIT));
+    String typeKey = type != null && TYPE_KEYS.contains(type) ? type : ANY_TYPE;
+    TopK topK = new TopK(maxResults);
+
+    Snapshot current = snapshot;
+    if (prefix.length() <= SHORT_PREFIX_LENGTH) {
+      current.topByShortPrefix.getOrDefault(typeKey + '|' + prefix, List.of()).forEach(topK::offer);
+    } else {
+      for (int i = lowerBound(current.keys, prefix); i < current.keys.length && current.keys[i].startsWith(prefix); i++) {
+        offerIfType(topK, current.entries[i], typeKey);
+      }
+    }
+
+    // Titles added since the last rebuild
+    for (Entry entry : recent.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+      offerIfType(topK, entry, typeKey);
+    }
+
+    return topK.sorted().stream().map(Entry::suggestion).toList();
+  }
+
+  @Override
+  public void addTitle(Title title) {
+    if (title == null || title.getId() == null) {
+      return;
+    }
+
+    Entry entry = toEntry(title.getId(), title.getType(), title.getTitle(), title.getOriginalTitle(),
+        title.getSlug(), title.getReleaseDate(), title.getPosterUrl(), title.getUserRatingCount());
+    Set<String> keys = keysFor(title.getTitle(), title.getOriginalTitle());
+    Runnable add = () -> keys.forEach(key -> recent.put(key + '\0' + entry.id(), entry));
+
+    // Only index titles that actually made it into the DB
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          add.run();
+        }
+      });
+    } else {
+      add.run();
+    }
+  }
+
+  @Override
+  @Scheduled(
+      fixedDelayString = "${titles.suggest.rebuild-interval-ms:3600000}",
+      initialDelayString = "${titles.suggest.rebuild-interval-ms:3600000}")
+  public synchronized int rebuildIndex() {
+    // Entries added before the load are covered by it; later ones stay in "recent"
+    Set<String> coveredRecentKeys = new HashSet<>(recent.keySet());
+
+    List<TitleRepository.SuggestionSource> sources = titleRepository.findAllSuggestionSources();
+    List<KeyedEntry> keyedEntries = new ArrayList<>();
+    for (TitleRepository.SuggestionSource source : sources) {
+      Entry entry = toEntry(source.getId(), source.getType(), source.getTitle(), source.getOriginalTitle(),
+          source.getSlug(), source.getReleaseDate(), source.getPosterUrl(), source.getUserRatingCount());
+      for (String key : keysFor(source.getTitle(), source.getOriginalTitle())) {
+        keyedEntries.add(new KeyedEntry(key, entry));
+      }
+    }
+
+    snapshot = Snapshot.build(keyedEntries);
+    recent.keySet().removeAll(coveredRecentKeys);
+
+    logger.info("Rebuilt title suggestion index: {} titles, {} keys", sources.size(), keyedEntries.size());
+    return sources.size();
+  }
+
+  /**
+   * Keys for a title: each name normalized, plus each later word onwards
+   * (skipping stop words), e.g. "the dark knight" and "dark knight" and
+   * "knight".
+   */
+  static Set<String> keysFor(String... names) {
+    Set<String> keys = new LinkedHashSet<>();
+    for (String name : names) {
+      String normalized = SearchQueryUtils.normalize(name);
+      if (normalized.isEmpty()) {
+        continue;
+      }
+      keys.add(normalized);
+
+      String[] words = normalized.split(" ");
+      int offset = words[0].length() + 1;
+      for (int i = 1; i < words.length && i <= MAX_WORD_KEYS; i++) {
+        if (!STOP_WORDS.contains(words[i])) {
+          keys.add(normalized.substring(offset));
+        }
+        offset += words[i].length() + 1;
+      }
+    }
+    return keys;
+  }
+
+  private static Entry toEntry(UUID id, Title.TitleType type, String title, String originalTitle,
+      String slug, LocalDate releaseDate, String posterUrl, Integer userRatingCount) {
+    String typeName = type != null ? type.name() : null;
+    TitleSuggestionDto suggestion = new TitleSuggestionDto(id, typeName, title, originalTitle, slug,
+        releaseDate != null ? releaseDate.getYear() : null, posterUrl, userRatingCount);
+    return new Entry(id, typeName, userRatingCount != null ? userRatingCount : 0, suggestion);
+  }
+
+  private static void offerIfType(TopK topK, Entry entry, String typeKey) {
+    if (ANY_TYPE.equals(typeKey) || typeKey.equals(entry.type())) {
+      topK.offer(entry);
+    }
+  }
+
+  private static int lowerBound(String[] keys, String prefix) {
+    int index = Arrays.binarySearch(keys, prefix);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  private record Entry(UUID id, String type, int weight, TitleSuggestionDto suggestion) {
+  }
+
+  private record KeyedEntry(String key, Entry entry) {
+  }
+
+  /**
+   * Immutable index snapshot: sorted keys with a parallel array of entries.
+   */
+  private static final class Snapshot {
+    private static final Snapshot EMPTY = new Snapshot(new String[0], new Entry[0], Map.of());
+
+    private final String[] keys;
+    private final Entry[] entries;
+    private final Map<String, List<Entry>> topByShortPrefix; // "type|prefix" -> top entries
+
+    private Snapshot(String[] keys, Entry[] entries, Map<String, List<Entry>> topByShortPrefix) {
+      this.keys = keys;
+      this.entries = entries;
+      this.topByShortPrefix = topByShortPrefix;
+    }
+
+    private static Snapshot build(List<KeyedEntry> keyedEntries) {
+      keyedEntries.sort(Comparator.comparing(KeyedEntry::key));
+      String[] keys = new String[keyedEntries.size()];
+      Entry[] entries = new Entry[keyedEntries.size()];
+      for (int i = 0; i < keyedEntries.size(); i++) {
+        keys[i] = keyedEntries.get(i).key();
+        entries[i] = keyedEntries.get(i).entry();
+      }
+
+      // Keys sharing a short prefix are contiguous, so each prefix is one range
+      Map<String, List<Entry>> topByShortPrefix = new HashMap<>();
+      for (int length = 1; length <= SHORT_PREFIX_LENGTH; length++) {
+        int start = 0;
+        while (start < keys.length) {
+          if (keys[start].length() < length) {
+            start++;
+            continue;
+          }
+          String prefix = keys[start].substring(0, length);
+          int end = start;
+          while (end < keys.length && keys[end].startsWith(prefix)) {
+            end++;
+          }
+          for (String typeKey : TYPE_KEYS) {
+            TopK topK = new TopK(MAX_LIMIT);
+            for (int i = start; i < end; i++) {
+              offerIfType(topK, entries[i], typeKey);
+            }
+            topByShortPrefix.put(typeKey + '|' + prefix, topK.sorted());
+          }
+          start = end;
+        }
+      }
+
+      return new Snapshot(keys, entries, topByShortPrefix);
+    }
+  }
+
+  /**
+   * Bounded top-k collector that keeps one entry per title.
+   */
+  private static final class TopK {
+    private final int size;
+    private final PriorityQueue<Entry> heap = new PriorityQueue<>(BY_RANK.reversed()); // worst first
+    private final Set<UUID> ids = new HashSet<>();
+
+    private TopK(int size) {
+      this.size = size;
+    }
+
+    private void offer(Entry entry) {
+      if (ids.contains(entry.id())) {
+        return;
+      }
+      if (heap.size() < size) {
+        heap.add(entry);
+        ids.add(entry.id());
+      } else if (BY_RANK.compare(entry, heap.peek()) < 0) {
+        ids.remove(heap.poll().id());
+        heap.add(entry);
+        ids.add(entry.id());
+      }
+    }
+
+    private List<Entry> sorted() {
+      List<Entry> sorted = new ArrayList<>(heap);
+      sorted.sort(BY_RANK);
+      return List.copyOf(sorted);
+    }
+  }
+}
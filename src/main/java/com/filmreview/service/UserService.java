@@ -20,6 +20,16 @@ public interface UserService {
    */
   UserResponse getUserByUsername(String username);
 
+  /**
+   * Get a weak ETag for the current user's profile, without loading it.
+   */
+  String getCurrentUserETag(UUID userId);
+
+  /**
+   * Get a weak ETag for a public profile, without loading it.
+   */
+  String getUserETagByUsername(String username);
+
   /**
    * Update current user profile.
    */
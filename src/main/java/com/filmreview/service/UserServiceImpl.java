@@ -8,6 +8,7 @@ import com.filmreview.repository.RatingRepository;
 import com.filmreview.repository.ReviewRepository;
 import com.filmreview.repository.UserRepository;
 import com.filmreview.repository.WatchlistRepository;
+import com.filmreview.util.ETagUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -48,6 +49,20 @@ public class UserServiceImpl implements UserService {
     return mapToUserResponse(user, false); // false = don't include email (public profile)
   }
 
+  @Override
+  public String getCurrentUserETag(UUID userId) {
+    UserRepository.ProfileVersion version = userRepository.findProfileVersionById(userId)
+        .orElseThrow(() -> new NotFoundException("User not found"));
+    return toETag(version, true);
+  }
+
+  @Override
+  public String getUserETagByUsername(String username) {
+    UserRepository.ProfileVersion version = userRepository.findProfileVersionByUsername(username)
+        .orElseThrow(() -> new NotFoundException("User not found with username: " + username));
+    return toETag(version, false);
+  }
+
   @Override
   @Transactional
   public UserResponse updateUser(UUID userId, UpdateUserRequest request) {
@@ -69,6 +84,12 @@ public class UserServiceImpl implements UserService {
     return mapToUserResponse(updatedUser, true); // true = include email (own profile)
   }
 
+  private String toETag(UserRepository.ProfileVersion version, boolean includeEmail) {
+    // Own and public profiles differ (email), so they never share a tag
+    return ETagUtils.weak(includeEmail ? "me" : "public", version.getId(), version.getUpdatedAt(),
+        version.getRatingsCount(), version.getReviewsCount(), version.getWatchlistCount());
+  }
+
   private UserResponse mapToUserResponse(User user, boolean includeEmail) {
     UserResponse response = new UserResponse();
     response.setId(user.getId());
@@ -1,9 +1,11 @@
 package com.filmreview.service;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.dto.WatchlistRequest;
 import com.filmreview.dto.WatchlistResponse;
 import com.filmreview.dto.WatchlistUpdateRequest;
 import com.filmreview.entity.Watchlist;
+import com.filmreview.util.FieldSelection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -17,8 +19,18 @@ public interface WatchlistService {
 
   /**
    * Get user's watchlist with optional status filter.
+   * Titles are only loaded when the field selection references them, and as
+   * card projections when only card properties are selected.
    */
-  Page<WatchlistResponse> getUserWatchlist(UUID userId, Watchlist.WatchlistStatus status, Pageable pageable);
+  Page<WatchlistResponse> getUserWatchlist(UUID userId, Watchlist.WatchlistStatus status, Pageable pageable,
+      FieldSelection fields);
+
+  /**
+   * Get a keyset page of the user's watchlist with optional status filter,
+   * newest first.
+   */
+  CursorPage<WatchlistResponse> getUserWatchlistByCursor(UUID userId, Watchlist.WatchlistStatus status,
+      String cursor, int limit, FieldSelection fields);
 
   /**
    * Add a title to watchlist or update if already exists.
@@ -1,5 +1,7 @@
 package com.filmreview.service;
 
+import com.filmreview.dto.CursorPage;
+import com.filmreview.dto.TitleDto;
 import com.filmreview.dto.WatchlistRequest;
 import com.filmreview.dto.WatchlistResponse;
 import com.filmreview.dto.WatchlistUpdateRequest;
@@ -9,16 +11,19 @@ import com.filmreview.exception.NotFoundException;
 import com.filmreview.mapper.TitleDtoMapper;
 import com.filmreview.repository.WatchlistRepository;
 import com.filmreview.repository.TitleRepository;
+import com.filmreview.util.CursorUtils;
+import com.filmreview.util.FieldSelection;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 public class WatchlistServiceImpl implements WatchlistService {
@@ -40,7 +45,8 @@ public class WatchlistServiceImpl implements WatchlistService {
   public Page<WatchlistResponse> getUserWatchlist(
       UUID userId,
       Watchlist.WatchlistStatus status,
-      Pageable pageable) {
+      Pageable pageable,
+      FieldSelection fields) {
     Page<Watchlist> watchlistItems;
 
     if (status != null) {
@@ -50,25 +56,31 @@ public class WatchlistServiceImpl implements WatchlistService {
       watchlistItems = watchlistRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
     }
 
-    // Fetch all titles for the watchlist items in one query to avoid N+1 problem
-    List<UUID> titleIds = watchlistItems.getContent().stream()
-        .map(Watchlist::getTitleId)
-        .toList();
+    List<WatchlistResponse> responses = mapToResponses(watchlistItems.getContent(), fields);
+    return new PageImpl<>(responses, watchlistItems.getPageable(), watchlistItems.getTotalElements());
+  }
 
-    Map<UUID, Title> titleMap = titleRepository.findAllById(titleIds).stream()
-        .collect(Collectors.toMap(Title::getId, title -> title));
+  @Override
+  public CursorPage<WatchlistResponse> getUserWatchlistByCursor(
+      UUID userId,
+      Watchlist.WatchlistStatus status,
+      String cursor,
+      int limit,
+      FieldSelection fields) {
+    CursorUtils.Position position = CursorUtils.decode(cursor, false);
+    List<Watchlist> watchlistItems;
 
-    // Map watchlist items to responses with titles
-    return watchlistItems.map(watchlist -> {
-      Title title = titleMap.get(watchlist.getTitleId());
-      // If title is not found, still return response but without title (shouldn't
-      // happen normally)
-      if (title != null) {
-        return mapToResponse(watchlist, title);
-      } else {
-        return mapToResponse(watchlist);
-      }
-    });
+    if (status != null) {
+      watchlistItems = watchlistRepository.findByUserIdAndStatusBefore(
+          userId, status, position.createdAt(), position.id(), CursorUtils.probePageable(limit));
+    } else {
+      watchlistItems = watchlistRepository.findByUserIdBefore(
+          userId, position.createdAt(), position.id(), CursorUtils.probePageable(limit));
+    }
+
+    return CursorUtils.toPage(watchlistItems, limit,
+        watchlist -> CursorUtils.encode(watchlist.getCreatedAt(), watchlist.getId()),
+        rows -> mapToResponses(rows, fields));
   }
 
   @Override
@@ -135,6 +147,40 @@ public class WatchlistServiceImpl implements WatchlistService {
     return Optional.of(mapToResponse(watchlist.get(), title));
   }
 
+  private List<WatchlistResponse> mapToResponses(List<Watchlist> watchlistItems, FieldSelection fields) {
+    // Fetch all titles for the watchlist items in one query to avoid N+1 problem
+    List<UUID> titleIds = watchlistItems.stream()
+        .map(Watchlist::getTitleId)
+        .toList();
+
+    // Titles are only fetched if the field selection references them
+    Map<UUID, TitleDto> titleMap = new HashMap<>();
+    if (fields.includes("title")) {
+      if (fields.nested("title").isWithin(TitleRepository.TitleCard.PROPERTIES)) {
+        // Card properties only: load the card columns, without genres
+        for (TitleRepository.TitleCard card : titleRepository.findCardsByIdIn(titleIds)) {
+          titleMap.put(card.getId(), titleDtoMapper.toCardDto(card));
+        }
+      } else {
+        // Map all titles at once, so their genres are fetched in one query too
+        List<Title> titles = titleRepository.findAllById(titleIds);
+        List<TitleDto> titleDtos = titleDtoMapper.toDtoList(titles);
+        for (int i = 0; i < titles.size(); i++) {
+          titleMap.put(titles.get(i).getId(), titleDtos.get(i));
+        }
+      }
+    }
+
+    // Map watchlist items to responses with titles
+    return watchlistItems.stream().map(watchlist -> {
+      WatchlistResponse response = mapToResponse(watchlist);
+      // If title is not found, still return response but without title (shouldn't
+      // happen normally)
+      response.setTitle(titleMap.get(watchlist.getTitleId()));
+      return response;
+    }).toList();
+  }
+
   private WatchlistResponse mapToResponse(Watchlist watchlist) {
     WatchlistResponse response = new WatchlistResponse();
     response.setId(watchlist.getId());
@@ -0,0 +1,145 @@
+package com.filmreview.util;
+
+import com.filmreview.dto.CursorPage;
+import com.filmreview.exception.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Utility class for keyset (seek) pagination cursors.
+ *
+ * A cursor is the opaque, URL-safe encoding of the sort key of the last row
+ * on a page: (created_at, id), or (helpful_count, created_at, id) for
+ * most-helpful listings. The next page is everything strictly after that key
+ * in the listing's descending order, so a page costs the same however deep
+ * it is. An empty cursor starts from a position above every row.
+ */
+public class CursorUtils {
+
+  public static final int MAX_LIMIT = 100;
+
+  private static final String SEPARATOR = "|";
+  private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+  private static final UUID MAX_ID = new UUID(-1L, -1L);
+
+  private CursorUtils() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Decoded seek position. helpfulCount is only set for most-helpful cursors.
+   */
+  public record Position(Integer helpfulCount, LocalDateTime createdAt, UUID id) {
+  }
+
+  /**
+   * Encode a cursor for a listing ordered by (created_at, id) descending.
+   */
+  public static String encode(LocalDateTime createdAt, UUID id) {
+    return encodeValues(createdAt, id);
+  }
+
+  /**
+   * Encode a cursor for a listing ordered by (helpful_count, created_at, id)
+   * descending.
+   */
+  public static String encode(Integer helpfulCount, LocalDateTime createdAt, UUID id) {
+    return encodeValues(helpfulCount != null ? helpfulCount : 0, createdAt, id);
+  }
+
+  /**
+   * Encode arbitrary sort key values (rendered with toString) as a cursor.
+   */
+  public static String encodeValues(Object... values) {
+    String joined = String.join(SEPARATOR, Arrays.stream(values).map(String::valueOf).toList());
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decode a cursor made by {@link #encodeValues(Object...)}.
+   *
+   * @param cursor Non-empty cursor
+   * @param count  Expected number of values
+   * @return The values as strings
+   * @throws BadRequestException if the cursor is malformed or has another number of values
+   */
+  public static String[] decodeValues(String cursor, int count) {
+    String[] parts;
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      parts = decoded.split("\\" + SEPARATOR, -1);
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException("Invalid cursor");
+    }
+    if (parts.length != count) {
+      throw new BadRequestException("Invalid cursor");
+    }
+    return parts;
+  }
+
+  /**
+   * Decode a cursor.
+   *
+   * @param cursor       Cursor from a previous page (null or empty for the first page)
+   * @param helpfulOrder Whether the listing is ordered by helpful count first
+   * @return The seek position
+   * @throws BadRequestException if the cursor is malformed or belongs to another ordering
+   */
+  public static Position decode(String cursor, boolean helpfulOrder) {
+    if (cursor == null || cursor.isBlank()) {
+      return new Position(helpfulOrder ? Integer.MAX_VALUE : null, MAX_CREATED_AT, MAX_ID);
+    }
+
+    String[] parts = decodeValues(cursor, helpfulOrder ? 3 : 2);
+    try {
+      int offset = parts.length - 2;
+      Integer helpfulCount = helpfulOrder ? Integer.valueOf(parts[0]) : null;
+      return new Position(helpfulCount, LocalDateTime.parse(parts[offset]), UUID.fromString(parts[offset + 1]));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+
+  /**
+   * Page request for a keyset query: one row more than the limit, so the
+   * presence of a next page is known without a count query.
+   *
+   * @param limit Requested page size (clamped to 1..MAX_LIMIT)
+   */
+  public static Pageable probePageable(int limit) {
+    return PageRequest.of(0, clampLimit(limit) + 1);
+  }
+
+  /**
+   * Build a page from rows fetched with {@link #probePageable(int)}.
+   *
+   * @param rows     Rows in listing order, at most limit + 1
+   * @param limit    Requested page size
+   * @param cursorOf Encodes the cursor of a row
+   * @param mapper   Maps the rows on the page to responses
+   */
+  public static <T, R> CursorPage<R> toPage(List<T> rows, int limit, Function<T, String> cursorOf,
+      Function<List<T>, List<R>> mapper) {
+    int pageSize = clampLimit(limit);
+    boolean hasMore = rows.size() > pageSize;
+    List<T> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+    String nextCursor = hasMore ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+    return new CursorPage<>(mapper.apply(pageRows), nextCursor, hasMore);
+  }
+
+  /**
+   * Clamp a requested page size to 1..MAX_LIMIT.
+   */
+  public static int clampLimit(int limit) {
+    return Math.max(1, Math.min(limit, MAX_LIMIT));
+  }
+}
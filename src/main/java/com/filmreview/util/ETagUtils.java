@@ -0,0 +1,35 @@
+package com.filmreview.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Utility class for version-based ETags.
+ *
+ * An ETag is built from the values that identify a representation's version
+ * (IDs, updated_at timestamps, aggregate counters), not from the rendered
+ * body, so a conditional GET can be answered before anything is mapped or
+ * serialized. ETags are weak: two responses with the same tag are
+ * semantically equivalent, not necessarily byte-identical.
+ */
+public class ETagUtils {
+
+  private static final String SEPARATOR = "|";
+
+  private ETagUtils() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Build a weak ETag from version components (rendered with toString; null
+   * is allowed).
+   *
+   * @return The ETag, e.g. W/"3f2a..."
+   */
+  public static String weak(Object... parts) {
+    String joined = String.join(SEPARATOR, Arrays.stream(parts).map(String::valueOf).toList());
+    return "W/\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+  }
+}
@@ -0,0 +1,123 @@
+package com.filmreview.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sparse fieldset requested with the fields= query parameter, e.g.
+ * "id,title,slug,posterUrl" or, for nested objects, "id,status,title.slug".
+ *
+ * A bare name selects the whole property, nested object included; a dotted
+ * name selects one property of a nested object. Names are JSON property
+ * names. Unknown names simply select nothing. Without the parameter every
+ * field is selected.
+ */
+public final class FieldSelection {
+
+  public static final FieldSelection ALL = new FieldSelection(null);
+
+  private final Set<String> fields; // null means all fields
+
+  private FieldSelection(Set<String> fields) {
+    this.fields = fields;
+  }
+
+  /**
+   * Parse a comma-separated fields parameter.
+   *
+   * @param fields Parameter value, or null
+   * @return The selection; {@link #ALL} if the parameter is missing or blank
+   */
+  public static FieldSelection parse(String fields) {
+    if (fields == null || fields.isBlank()) {
+      return ALL;
+    }
+
+    Set<String> parsed = new LinkedHashSet<>();
+    for (String field : fields.split(",")) {
+      String trimmed = field.trim();
+      if (!trimmed.isEmpty()) {
+        parsed.add(trimmed);
+      }
+    }
+    return parsed.isEmpty() ? ALL : new FieldSelection(parsed);
+  }
+
+  public boolean isAll() {
+    return fields == null;
+  }
+
+  /**
+   * Whether a property is selected, as a whole or through one of its nested
+   * properties.
+   */
+  public boolean includes(String property) {
+    if (fields == null || fields.contains(property)) {
+      return true;
+    }
+    String prefix = property + ".";
+    return fields.stream().anyMatch(field -> field.startsWith(prefix));
+  }
+
+  /**
+   * Selection within a nested object property.
+   *
+   * @return {@link #ALL} if the property is selected as a whole, otherwise the
+   *         dotted names under it with the prefix removed
+   */
+  public FieldSelection nested(String property) {
+    if (fields == null || fields.contains(property)) {
+      return ALL;
+    }
+
+    String prefix = property + ".";
+    Set<String> nested = new LinkedHashSet<>();
+    for (String field : fields) {
+      if (field.startsWith(prefix)) {
+        nested.add(field.substring(prefix.length()));
+      }
+    }
+    return new FieldSelection(nested);
+  }
+
+  /**
+   * Whether only top-level properties from the given set are selected, i.e.
+   * the response can be served from a projection of those properties.
+   */
+  public boolean isWithin(Set<String> properties) {
+    return fields != null && properties.containsAll(fields);
+  }
+
+  /**
+   * Remove unselected properties from a JSON object, recursing into nested
+   * objects and arrays of objects.
+   *
+   * @param node Serialized item
+   * @return The same node, pruned in place
+   */
+  public JsonNode prune(JsonNode node) {
+    if (fields == null) {
+      return node;
+    }
+
+    if (node instanceof ObjectNode object) {
+      Iterator<Map.Entry<String, JsonNode>> properties = object.fields();
+      while (properties.hasNext()) {
+        Map.Entry<String, JsonNode> property = properties.next();
+        if (!includes(property.getKey())) {
+          properties.remove();
+        } else {
+          nested(property.getKey()).prune(property.getValue());
+        }
+      }
+    } else if (node != null && node.isArray()) {
+      node.forEach(this::prune);
+    }
+    return node;
+  }
+}
@@ -0,0 +1,47 @@
+package com.filmreview.util;
+
+import com.filmreview.dto.ResponseIncludes;
+import com.filmreview.dto.ReviewResponse;
+
+import java.util.List;
+
+/**
+ * Utility class for normalized (format=normalized) list responses.
+ *
+ * A page of reviews for one title embeds the same TitleDto in every item,
+ * and a page of one user's reviews repeats the same user. Normalizing moves
+ * each embedded entity into a side map, once per ID, and leaves only the IDs
+ * on the items.
+ */
+public class IncludesUtils {
+
+  private IncludesUtils() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Move the user, title and rating embedded in each review into includes.
+   * The reviews are modified in place.
+   *
+   * @param reviews Reviews to normalize
+   * @return The entities referenced by the reviews
+   */
+  public static ResponseIncludes extractReviewIncludes(List<ReviewResponse> reviews) {
+    ResponseIncludes includes = new ResponseIncludes();
+    for (ReviewResponse review : reviews) {
+      if (review.getUser() != null) {
+        includes.getUsers().putIfAbsent(review.getUserId(), review.getUser());
+        review.setUser(null);
+      }
+      if (review.getTitle() != null) {
+        includes.getTitles().putIfAbsent(review.getTitleId(), review.getTitle());
+        review.setTitle(null);
+      }
+      if (review.getRating() != null) {
+        includes.getRatings().putIfAbsent(review.getRatingId(), review.getRating());
+        review.setRating(null);
+      }
+    }
+    return includes;
+  }
+}
@@ -0,0 +1,98 @@
+package com.filmreview.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class for preparing user search input.
+ *
+ * For Postgres full-text search, the input is split into the words the user
+ * has finished typing, which are passed to websearch_to_tsquery (quotes, "or"
+ * and "-" keep their web-search meaning), and the trailing word, which becomes
+ * a to_tsquery prefix match so "the matr" finds "The Matrix". For in-memory
+ * typeahead, text is normalized to plain lowercase words.
+ */
+public class SearchQueryUtils {
+
+  // Trailing run of letters/digits, with everything before it
+  private static final Pattern LAST_WORD = Pattern.compile("^(.*?)([\\p{L}\\p{N}]+)$", Pattern.DOTALL);
+  private static final int MIN_PREFIX_LENGTH = 2;
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private SearchQueryUtils() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Full-text query parts.
+   *
+   * @param terms  Input for websearch_to_tsquery (may be empty)
+   * @param prefix Input for to_tsquery, e.g. "matr:*" (empty when there is no
+   *               prefix term)
+   */
+  public record FullTextQuery(String terms, String prefix) {
+  }
+
+  /**
+   * Split raw search input into web-search terms and a prefix term.
+   * The last word is only treated as a prefix if the user is still typing it:
+   * not followed by whitespace, not inside a quoted phrase, not negated with
+   * "-", and at least two characters long.
+   *
+   * @param query Raw search input
+   * @return Full-text query parts
+   */
+  public static FullTextQuery parse(String query) {
+    if (query == null || query.isBlank()) {
+      return new FullTextQuery("", "");
+    }
+
+    Matcher matcher = LAST_WORD.matcher(query);
+    if (!matcher.matches()) {
+      return new FullTextQuery(query.trim(), "");
+    }
+
+    String head = matcher.group(1);
+    String lastWord = matcher.group(2);
+    if (lastWord.length() < MIN_PREFIX_LENGTH
+        || "or".equalsIgnoreCase(lastWord)
+        || isInsidePhrase(head)
+        || isNegated(head)) {
+      return new FullTextQuery(query.trim(), "");
+    }
+
+    return new FullTextQuery(head.trim(), lastWord + ":*");
+  }
+
+  private static boolean isInsidePhrase(String head) {
+    return head.chars().filter(c -> c == '"').count() % 2 == 1;
+  }
+
+  private static boolean isNegated(String head) {
+    // "-word" excludes a word; "spider-man" is just a hyphenated word
+    return head.endsWith("-")
+        && (head.length() == 1 || Character.isWhitespace(head.charAt(head.length() - 2)));
+  }
+
+  /**
+   * Normalize text for prefix matching: strips accents, lowercases and
+   * collapses punctuation/whitespace into single spaces.
+   * E.g. "Amélie: Le Fabuleux" becomes "amelie le fabuleux".
+   *
+   * @param text The text to normalize
+   * @return Normalized text (empty if there are no letters or digits)
+   */
+  public static String normalize(String text) {
+    if (text == null || text.isEmpty()) {
+      return "";
+    }
+
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
+    normalized = DIACRITICS.matcher(normalized).replaceAll("");
+    normalized = NON_ALPHANUMERIC.matcher(normalized.toLowerCase(Locale.ROOT)).replaceAll(" ");
+    return normalized.trim();
+  }
+}
@@ -0,0 +1,5 @@
+-- liquibase formatted sql
+
+-- changeset chuong.tran:1
+-- comment: Index for keyset pagination of a user's watchlist (newest first)
+CREATE INDEX idx_watchlist_user_created ON watchlist(user_id, created_at DESC);
@@ -0,0 +1,16 @@
+-- liquibase formatted sql
+
+-- changeset chuong.tran:1
+-- comment: Indexes for browsing titles sorted by release date (with and without type)
+CREATE INDEX idx_titles_browse_release ON titles(release_date DESC, id DESC) WHERE release_date IS NOT NULL;
+CREATE INDEX idx_titles_browse_type_release ON titles(type, release_date DESC, id DESC) WHERE release_date IS NOT NULL;
+
+-- changeset chuong.tran:2
+-- comment: Indexes for browsing titles sorted by user rating average (with and without type)
+CREATE INDEX idx_titles_browse_rating ON titles(user_rating_avg DESC, id DESC) WHERE user_rating_avg IS NOT NULL;
+CREATE INDEX idx_titles_browse_type_rating ON titles(type, user_rating_avg DESC, id DESC) WHERE user_rating_avg IS NOT NULL;
+
+-- changeset chuong.tran:3
+-- comment: Indexes for browsing titles sorted by user rating count (with and without type)
+CREATE INDEX idx_titles_browse_rating_count ON titles(user_rating_count DESC, id DESC) WHERE user_rating_count IS NOT NULL;
+CREATE INDEX idx_titles_browse_type_rating_count ON titles(type, user_rating_count DESC, id DESC) WHERE user_rating_count IS NOT NULL;
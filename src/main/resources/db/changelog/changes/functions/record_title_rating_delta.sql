@@ -0,0 +1,27 @@
+CREATE OR REPLACE FUNCTION record_title_rating_delta()
+RETURNS TRIGGER AS $$
+BEGIN
+    -- Append-only: never touches the titles row, so concurrent rating writes
+    -- for one title don't queue on its row lock. TitleRatingAggregateService
+    -- folds these deltas into titles in batches.
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO title_rating_deltas (title_id, rating_count, score_sum)
+        VALUES (NEW.title_id, 1, NEW.score);
+        RETURN NEW;
+    ELSIF TG_OP = 'UPDATE' THEN
+        IF NEW.title_id IS DISTINCT FROM OLD.title_id THEN
+            INSERT INTO title_rating_deltas (title_id, rating_count, score_sum)
+            VALUES (OLD.title_id, -1, -OLD.score), (NEW.title_id, 1, NEW.score);
+        ELSIF NEW.score IS DISTINCT FROM OLD.score THEN
+            INSERT INTO title_rating_deltas (title_id, rating_count, score_sum)
+            VALUES (NEW.title_id, 0, NEW.score - OLD.score);
+        END IF;
+        RETURN NEW;
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO title_rating_deltas (title_id, rating_count, score_sum)
+        VALUES (OLD.title_id, -1, -OLD.score);
+        RETURN OLD;
+    END IF;
+    RETURN COALESCE(NEW, OLD);
+END;
+$$ LANGUAGE plpgsql;
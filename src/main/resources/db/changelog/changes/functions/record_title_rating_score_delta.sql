@@ -0,0 +1,24 @@
+CREATE OR REPLACE FUNCTION record_title_rating_score_delta()
+RETURNS TRIGGER AS $$
+BEGIN
+    -- One row per score added or removed, so the fold can maintain both the
+    -- title aggregates and the per-score histogram. A score change logs the
+    -- old score's removal and the new score's addition.
+    IF TG_OP = 'UPDATE' AND NEW.title_id IS NOT DISTINCT FROM OLD.title_id
+            AND NEW.score IS NOT DISTINCT FROM OLD.score THEN
+        RETURN NEW;
+    END IF;
+
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        INSERT INTO title_rating_deltas (title_id, score, rating_count, score_sum)
+        VALUES (OLD.title_id, OLD.score, -1, -OLD.score);
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO title_rating_deltas (title_id, score, rating_count, score_sum)
+        VALUES (NEW.title_id, NEW.score, 1, NEW.score);
+        RETURN NEW;
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
@@ -29,6 +29,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -431,6 +433,107 @@ class ReviewControllerTest {
         .andExpect(jsonPath("$.totalElements").value(2));
   }
 
+  @Test
+  void testGetTitleReviews_Normalized_IncludesTitleOnce() throws Exception {
+    // Arrange
+    Rating rating1 = RatingFaker.generate(testUser.getId(), titleId, 8);
+    rating1 = ratingRepository.save(rating1);
+    reviewRepository.save(ReviewFaker.generate(null, testUser.getId(), titleId, rating1.getId(),
+        "Review 1",
+        "This is the first review with enough content to meet the minimum requirement of 50 characters.",
+        false, 0, null, null, null));
+
+    Rating rating2 = RatingFaker.generate(otherUser.getId(), titleId, 7);
+    rating2 = ratingRepository.save(rating2);
+    reviewRepository.save(ReviewFaker.generate(null, otherUser.getId(), titleId, rating2.getId(),
+        "Review 2",
+        "This is the second review with enough content to meet the minimum requirement of 50 characters.",
+        false, 0, null, null, null));
+
+    // Act & Assert
+    mockMvc.perform(get("/api/v1/reviews/titles/{titleId}", titleId)
+        .param("format", "normalized")
+        .param("page", "0")
+        .param("size", "10"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.totalElements").value(2))
+        .andExpect(jsonPath("$.data.content[0].titleId").value(titleId.toString()))
+        .andExpect(jsonPath("$.data.content[0]", not(hasKey("title"))))
+        .andExpect(jsonPath("$.data.content[0]", not(hasKey("user"))))
+        .andExpect(jsonPath("$.data.content[0]", not(hasKey("rating"))))
+        .andExpect(jsonPath("$.includes.titles.length()").value(1))
+        .andExpect(jsonPath("$.includes.titles['" + titleId + "'].title").value("Test Movie"))
+        .andExpect(jsonPath("$.includes.users.length()").value(2))
+        .andExpect(jsonPath("$.includes.ratings.length()").value(2));
+  }
+
+  @Test
+  void testGetTitleReviews_Fields_OnlySelectedPropertiesSerialized() throws Exception {
+    // Arrange
+    Rating rating = RatingFaker.generate(testUser.getId(), titleId, 8);
+    rating = ratingRepository.save(rating);
+    reviewRepository.save(ReviewFaker.generate(null, testUser.getId(), titleId, rating.getId(),
+        "Review 1",
+        "This is the first review with enough content to meet the minimum requirement of 50 characters.",
+        false, 0, null, null, null));
+
+    // Act & Assert
+    mockMvc.perform(get("/api/v1/reviews/titles/{titleId}", titleId)
+        .param("fields", "id,reviewTitle,title.slug"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalElements").value(1))
+        .andExpect(jsonPath("$.content[0].id").exists())
+        .andExpect(jsonPath("$.content[0].reviewTitle").value("Review 1"))
+        .andExpect(jsonPath("$.content[0].title.slug").value("test-movie"))
+        .andExpect(jsonPath("$.content[0].title.synopsis").doesNotExist())
+        .andExpect(jsonPath("$.content[0].content").doesNotExist())
+        .andExpect(jsonPath("$.content[0].user").doesNotExist());
+  }
+
+  @Test
+  void testGetTitleReviews_MatchingETag_ReturnsNotModified() throws Exception {
+    // Arrange
+    Rating rating = RatingFaker.generate(testUser.getId(), titleId, 8);
+    rating = ratingRepository.save(rating);
+    reviewRepository.save(ReviewFaker.generate(null, testUser.getId(), titleId, rating.getId(),
+        "Review 1",
+        "This is the first review with enough content to meet the minimum requirement of 50 characters.",
+        false, 0, null, null, null));
+
+    String etag = mockMvc.perform(get("/api/v1/reviews/titles/{titleId}", titleId))
+        .andExpect(status().isOk())
+        .andExpect(header().exists("ETag"))
+        .andReturn().getResponse().getHeader("ETag");
+
+    // Act & Assert
+    mockMvc.perform(get("/api/v1/reviews/titles/{titleId}", titleId)
+        .header("If-None-Match", etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", etag))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void testGetTitleReviews_NewReview_ChangesETag() throws Exception {
+    // Arrange
+    String etag = mockMvc.perform(get("/api/v1/reviews/titles/{titleId}", titleId))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader("ETag");
+
+    Rating rating = RatingFaker.generate(testUser.getId(), titleId, 8);
+    rating = ratingRepository.save(rating);
+    reviewRepository.save(ReviewFaker.generate(null, testUser.getId(), titleId, rating.getId(),
+        "Review 1",
+        "This is the first review with enough content to meet the minimum requirement of 50 characters.",
+        false, 0, null, null, null));
+
+    // Act & Assert
+    mockMvc.perform(get("/api/v1/reviews/titles/{titleId}", titleId)
+        .header("If-None-Match", etag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalElements").value(1));
+  }
+
   @Test
   void testGetTitleReviews_WithSort_Newest() throws Exception {
     // Arrange
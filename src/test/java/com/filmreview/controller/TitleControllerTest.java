@@ -1,9 +1,18 @@
 package com.filmreview.controller;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.dto.TitleDto;
+import com.filmreview.dto.TitleFacetsDto;
+import com.filmreview.dto.TitleRatingStatsDto;
+import com.filmreview.dto.TitleSuggestionDto;
 import com.filmreview.entity.Title;
 import com.filmreview.mapper.TitleDtoMapper;
+import com.filmreview.repository.TitleRepository;
+import com.filmreview.service.RatingService;
+import com.filmreview.service.TitleDetailService;
+import com.filmreview.service.TitleFacetService;
 import com.filmreview.service.TitleService;
+import com.filmreview.service.TitleSuggestService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,11 +23,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,6 +49,18 @@ class TitleControllerTest {
   @Mock
   private TitleDtoMapper titleDtoMapper;
 
+  @Mock
+  private TitleSuggestService titleSuggestService;
+
+  @Mock
+  private TitleFacetService titleFacetService;
+
+  @Mock
+  private TitleDetailService titleDetailService;
+
+  @Mock
+  private RatingService ratingService;
+
   @InjectMocks
   private TitleController titleController;
 
@@ -75,7 +102,7 @@ class TitleControllerTest {
 
     // Act
     ResponseEntity<Page<TitleDto>> response = titleController.getTitles(
-        null, "movie", null, null, null, 1, 20, "popular");
+        null, "movie", null, null, null, 1, 20, "popular", null);
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -101,7 +128,7 @@ class TitleControllerTest {
 
     // Act
     ResponseEntity<Page<TitleDto>> response = titleController.getTitles(
-        null, "tv_show", null, null, null, 1, 20, "popular");
+        null, "tv_show", null, null, null, 1, 20, "popular", null);
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -115,49 +142,140 @@ class TitleControllerTest {
   }
 
   @Test
-  void testGetTitles_PopularWithoutType_ReturnsEmpty() {
+  void testGetTitles_PopularWithoutType_BrowsesStoredTitles() {
+    // Arrange
+    stubEmptyBrowse();
+
     // Act
     ResponseEntity<Page<TitleDto>> response = titleController.getTitles(
-        null, null, null, null, null, 1, 20, "popular");
+        null, null, null, null, null, 1, 20, "popular", null);
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
     assertNotNull(response.getBody());
-    assertEquals(0, response.getBody().getTotalElements());
     assertTrue(response.getBody().getContent().isEmpty());
+    verify(titleService).browseTitles(null, null, null, null, "popular", pageable);
     verify(titleService, never()).getPopularMovies(anyString(), anyInt(), anyString(), any(Pageable.class));
     verify(titleService, never()).getPopularTVShows(anyString(), anyInt(), any(Pageable.class));
-    verify(titleDtoMapper, never()).toDtoPage(any());
   }
 
   @Test
-  void testGetTitles_PopularWithInvalidType_ReturnsEmpty() {
+  void testGetTitles_PopularWithInvalidType_BrowsesStoredTitles() {
+    // Arrange
+    stubEmptyBrowse();
+
     // Act
     ResponseEntity<Page<TitleDto>> response = titleController.getTitles(
-        null, "invalid_type", null, null, null, 1, 20, "popular");
+        null, "invalid_type", null, null, null, 1, 20, "popular", null);
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
     assertNotNull(response.getBody());
-    assertEquals(0, response.getBody().getTotalElements());
+    verify(titleService).browseTitles(null, "invalid_type", null, null, "popular", pageable);
     verify(titleService, never()).getPopularMovies(anyString(), anyInt(), anyString(), any(Pageable.class));
     verify(titleService, never()).getPopularTVShows(anyString(), anyInt(), any(Pageable.class));
-    verify(titleDtoMapper, never()).toDtoPage(any());
   }
 
   @Test
-  void testGetTitles_NonPopularSort_ReturnsEmpty() {
+  void testGetTitles_FiltersAndSort_BrowsesStoredTitles() {
+    // Arrange
+    Page<Title> titlesPage = new PageImpl<>(Arrays.asList(testMovie), pageable, 1);
+    Page<TitleDto> dtoPage = new PageImpl<>(Arrays.asList(createTitleDto(testMovie)), pageable, 1);
+    when(titleService.browseTitles("movie", 28, 1999, 7.5, "rating", pageable)).thenReturn(titlesPage);
+    when(titleDtoMapper.toDtoPage(titlesPage)).thenReturn(dtoPage);
+
     // Act
     ResponseEntity<Page<TitleDto>> response = titleController.getTitles(
-        null, "movie", null, null, null, 1, 20, "top_rated");
+        null, "movie", 28, 1999, 7.5, 1, 20, "rating", null);
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
     assertNotNull(response.getBody());
-    assertEquals(0, response.getBody().getTotalElements());
+    assertEquals(1, response.getBody().getContent().size());
     verify(titleService, never()).getPopularMovies(anyString(), anyInt(), anyString(), any(Pageable.class));
-    verify(titleService, never()).getPopularTVShows(anyString(), anyInt(), any(Pageable.class));
-    verify(titleDtoMapper, never()).toDtoPage(any());
+    verify(titleService, never()).searchTitles(anyString(), anyString(), any(Pageable.class));
+  }
+
+  @Test
+  void testGetTitles_BrowseTotalAtCountLimit_FlagsCappedTotal() {
+    // Arrange
+    Page<Title> titlesPage = new PageImpl<>(Arrays.asList(testMovie), pageable, TitleService.BROWSE_COUNT_CAP);
+    when(titleService.browseTitles(null, null, null, null, null, pageable)).thenReturn(titlesPage);
+    when(titleDtoMapper.toDtoPage(titlesPage)).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+    // Act
+    ResponseEntity<Page<TitleDto>> response = titleController.getTitles(
+        null, null, null, null, null, 1, 20, null, null);
+
+    // Assert
+    assertEquals("true", response.getHeaders().getFirst(TitleController.TOTAL_CAPPED_HEADER));
+  }
+
+  @Test
+  void testGetTitles_BrowseTotalBelowCountLimit_NoCappedFlag() {
+    // Arrange
+    Page<Title> titlesPage = new PageImpl<>(Arrays.asList(testMovie), pageable, 42);
+    when(titleService.browseTitles(null, null, null, null, null, pageable)).thenReturn(titlesPage);
+    when(titleDtoMapper.toDtoPage(titlesPage)).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+    // Act
+    ResponseEntity<Page<TitleDto>> response = titleController.getTitles(
+        null, null, null, null, null, 1, 20, null, null);
+
+    // Assert
+    assertFalse(response.getHeaders().containsKey(TitleController.TOTAL_CAPPED_HEADER));
+  }
+
+  @Test
+  void testBrowseTitlesByCursor_DelegatesToService() {
+    // Arrange
+    CursorPage<Title> titlesPage = new CursorPage<>(List.of(testMovie), "next", true);
+    CursorPage<TitleDto> dtoPage = new CursorPage<>(List.of(createTitleDto(testMovie)), "next", true);
+    when(titleService.browseTitlesByCursor("movie", null, null, null, "rating_count", "", 10))
+        .thenReturn(titlesPage);
+    when(titleDtoMapper.toDtoCursorPage(titlesPage)).thenReturn(dtoPage);
+
+    // Act
+    ResponseEntity<CursorPage<TitleDto>> response = titleController.browseTitlesByCursor(
+        "movie", null, null, null, "rating_count", "", 10, null);
+
+    // Assert
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertNotNull(response.getBody());
+    assertEquals("next", response.getBody().getNextCursor());
+    assertTrue(response.getBody().isHasMore());
+  }
+
+  @Test
+  void testGetTitles_CardFields_BrowsesCardProjection() {
+    // Arrange
+    TitleRepository.TitleCard card = mock(TitleRepository.TitleCard.class);
+    Page<TitleRepository.TitleCard> cardsPage = new PageImpl<>(List.of(card), pageable, 1);
+    Page<TitleDto> dtoPage = new PageImpl<>(List.of(createTitleDto(testMovie)), pageable, 1);
+    when(titleService.browseTitleCards(null, null, null, null, "rating", pageable)).thenReturn(cardsPage);
+    when(titleDtoMapper.toCardDtoPage(cardsPage)).thenReturn(dtoPage);
+
+    // Act
+    ResponseEntity<Page<TitleDto>> response = titleController.getTitles(
+        null, null, null, null, null, 1, 20, "rating", "id,title,slug,posterUrl,userRatingAvg");
+
+    // Assert
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertSame(dtoPage, response.getBody());
+    verify(titleService, never()).browseTitles(any(), any(), any(), any(), any(), any(Pageable.class));
+  }
+
+  @Test
+  void testGetTitles_NonCardField_BrowsesFullTitles() {
+    // Arrange
+    stubEmptyBrowse();
+
+    // Act
+    titleController.getTitles(null, null, null, null, null, 1, 20, null, "id,synopsis");
+
+    // Assert
+    verify(titleService).browseTitles(null, null, null, null, null, pageable);
+    verify(titleService, never()).browseTitleCards(any(), any(), any(), any(), any(), any(Pageable.class));
   }
 
   @Test
@@ -173,7 +291,7 @@ class TitleControllerTest {
 
     // Act
     ResponseEntity<Page<TitleDto>> response = titleController.getTitles(
-        null, "movie", null, null, null, 2, 10, "popular");
+        null, "movie", null, null, null, 2, 10, "popular", null);
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -188,99 +306,130 @@ class TitleControllerTest {
   void testGetTitleByIdentifier_BySlug() {
     // Arrange
     TitleDto movieDTO = createTitleDto(testMovie);
-    when(titleService.getTitleBySlug("the-matrix-1999"))
-        .thenReturn(testMovie);
-    when(titleDtoMapper.toDto(testMovie)).thenReturn(movieDTO);
+    when(titleDetailService.getTitleDetailBySlug("the-matrix-1999"))
+        .thenReturn(movieDTO);
 
     // Act
-    ResponseEntity<TitleDto> response = titleController.getTitleByIdentifier("the-matrix-1999", null);
+    ResponseEntity<TitleDto> response = titleController.getTitleByIdentifier("the-matrix-1999", null, webRequest());
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
     assertNotNull(response.getBody());
     assertEquals("The Matrix", response.getBody().getTitle());
-    verify(titleService).getTitleBySlug("the-matrix-1999");
-    verify(titleService, never()).getTitleByTmdbId(anyInt(), anyString());
-    verify(titleDtoMapper).toDto(testMovie);
+    verify(titleDetailService).getTitleDetailBySlug("the-matrix-1999");
+    verify(titleDetailService, never()).getTitleDetailByTmdbId(anyInt(), anyString());
   }
 
   @Test
   void testGetTitleByIdentifier_ByTmdbId_WithType_Movie() {
     // Arrange
     TitleDto movieDTO = createTitleDto(testMovie);
-    when(titleService.getTitleByTmdbId(603, "movie"))
-        .thenReturn(testMovie);
-    when(titleDtoMapper.toDto(testMovie)).thenReturn(movieDTO);
+    when(titleDetailService.getTitleDetailByTmdbId(603, "movie"))
+        .thenReturn(movieDTO);
 
     // Act
-    ResponseEntity<TitleDto> response = titleController.getTitleByIdentifier("603", "movie");
+    ResponseEntity<TitleDto> response = titleController.getTitleByIdentifier("603", "movie", webRequest());
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
     assertNotNull(response.getBody());
     assertEquals("The Matrix", response.getBody().getTitle());
-    verify(titleService).getTitleByTmdbId(603, "movie");
-    verify(titleService, never()).getTitleBySlug(anyString());
-    verify(titleDtoMapper).toDto(testMovie);
+    verify(titleDetailService).getTitleDetailByTmdbId(603, "movie");
+    verify(titleDetailService, never()).getTitleDetailBySlug(anyString());
   }
 
   @Test
   void testGetTitleByIdentifier_ByTmdbId_WithType_TvShow() {
     // Arrange
     TitleDto tvDTO = createTitleDto(testTVShow);
-    when(titleService.getTitleByTmdbId(1396, "tv_show"))
-        .thenReturn(testTVShow);
-    when(titleDtoMapper.toDto(testTVShow)).thenReturn(tvDTO);
+    when(titleDetailService.getTitleDetailByTmdbId(1396, "tv_show"))
+        .thenReturn(tvDTO);
 
     // Act
-    ResponseEntity<TitleDto> response = titleController.getTitleByIdentifier("1396", "tv_show");
+    ResponseEntity<TitleDto> response = titleController.getTitleByIdentifier("1396", "tv_show", webRequest());
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
     assertNotNull(response.getBody());
     assertEquals("Breaking Bad", response.getBody().getTitle());
-    verify(titleService).getTitleByTmdbId(1396, "tv_show");
-    verify(titleService, never()).getTitleBySlug(anyString());
-    verify(titleDtoMapper).toDto(testTVShow);
+    verify(titleDetailService).getTitleDetailByTmdbId(1396, "tv_show");
+    verify(titleDetailService, never()).getTitleDetailBySlug(anyString());
   }
 
   @Test
   void testGetTitleByIdentifier_ByTmdbId_WithInvalidType_ReturnsBadRequest() {
     // Act
-    ResponseEntity<TitleDto> response = titleController.getTitleByIdentifier("603", "invalid_type");
+    ResponseEntity<TitleDto> response = titleController.getTitleByIdentifier("603", "invalid_type", webRequest());
 
     // Assert
     assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-    verify(titleService, never()).getTitleByTmdbId(anyInt(), anyString());
-    verify(titleService, never()).getTitleBySlug(anyString());
-    verify(titleDtoMapper, never()).toDto(any());
+    verify(titleDetailService, never()).getTitleDetailByTmdbId(anyInt(), anyString());
+    verify(titleDetailService, never()).getTitleDetailBySlug(anyString());
   }
 
   @Test
   void testGetTitleByIdentifier_ByTmdbId_WithoutType_ReturnsBadRequest() {
     // Act
-    ResponseEntity<TitleDto> response = titleController.getTitleByIdentifier("603", null);
+    ResponseEntity<TitleDto> response = titleController.getTitleByIdentifier("603", null, webRequest());
 
     // Assert
     assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
-    verify(titleService, never()).getTitleByTmdbId(anyInt(), anyString());
-    verify(titleService, never()).getTitleBySlug(anyString());
-    verify(titleDtoMapper, never()).toDto(any());
+    verify(titleDetailService, never()).getTitleDetailByTmdbId(anyInt(), anyString());
+    verify(titleDetailService, never()).getTitleDetailBySlug(anyString());
   }
 
   @Test
   void testGetTitleByIdentifier_BySlug_NotFound() {
     // Arrange
-    when(titleService.getTitleBySlug("non-existent-slug"))
+    when(titleDetailService.getTitleDetailBySlug("non-existent-slug"))
         .thenThrow(new com.filmreview.exception.NotFoundException("Title not found"));
 
     // Act
-    ResponseEntity<TitleDto> response = titleController.getTitleByIdentifier("non-existent-slug", null);
+    ResponseEntity<TitleDto> response = titleController.getTitleByIdentifier("non-existent-slug", null, webRequest());
 
     // Assert
     assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-    verify(titleService).getTitleBySlug("non-existent-slug");
-    verify(titleDtoMapper, never()).toDto(any());
+    verify(titleDetailService).getTitleDetailBySlug("non-existent-slug");
+  }
+
+  @Test
+  void testGetTitleByIdentifier_MatchingETag_ReturnsNotModified() {
+    // Arrange
+    TitleDto movieDTO = createTitleDto(testMovie);
+    when(titleDetailService.getTitleDetailBySlug("the-matrix-1999"))
+        .thenReturn(movieDTO);
+    String etag = titleController.getTitleByIdentifier("the-matrix-1999", null, webRequest())
+        .getHeaders().getETag();
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+    // Act
+    ResponseEntity<TitleDto> response = titleController.getTitleByIdentifier("the-matrix-1999", null,
+        new ServletWebRequest(request, new MockHttpServletResponse()));
+
+    // Assert
+    assertNotNull(etag);
+    assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+    assertEquals(etag, response.getHeaders().getETag());
+    assertNull(response.getBody());
+  }
+
+  @Test
+  void testGetTitleByIdentifier_RatingChanged_ETagChanges() {
+    // Arrange
+    TitleDto movieDTO = createTitleDto(testMovie);
+    when(titleDetailService.getTitleDetailBySlug("the-matrix-1999"))
+        .thenReturn(movieDTO);
+    String before = titleController.getTitleByIdentifier("the-matrix-1999", null, webRequest())
+        .getHeaders().getETag();
+    movieDTO.setUserRatingCount(movieDTO.getUserRatingCount() == null ? 1 : movieDTO.getUserRatingCount() + 1);
+
+    // Act
+    String after = titleController.getTitleByIdentifier("the-matrix-1999", null, webRequest())
+        .getHeaders().getETag();
+
+    // Assert
+    assertNotEquals(before, after);
   }
 
   // ========== Search Tests ==========
@@ -299,7 +448,7 @@ class TitleControllerTest {
 
     // Act
     ResponseEntity<Page<TitleDto>> response = titleController.getTitles(
-        query, null, null, null, null, 1, 20, null);
+        query, null, null, null, null, 1, 20, null, null);
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -327,7 +476,7 @@ class TitleControllerTest {
 
     // Act
     ResponseEntity<Page<TitleDto>> response = titleController.getTitles(
-        query, type, null, null, null, 1, 20, null);
+        query, type, null, null, null, 1, 20, null, null);
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -340,11 +489,12 @@ class TitleControllerTest {
   @Test
   void testGetTitles_WithEmptySearchQuery() {
     // Arrange
+    stubEmptyBrowse();
     String query = "";
 
-    // Act - Empty query should not call searchTitles, should return empty page
+    // Act - Empty query should not call searchTitles, should browse instead
     ResponseEntity<Page<TitleDto>> response = titleController.getTitles(
-        query, null, null, null, null, 1, 20, null);
+        query, null, null, null, null, 1, 20, null, null);
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -356,11 +506,12 @@ class TitleControllerTest {
   @Test
   void testGetTitles_WithWhitespaceSearchQuery() {
     // Arrange
+    stubEmptyBrowse();
     String query = "   ";
 
-    // Act - Whitespace query should not call searchTitles, should return empty page
+    // Act - Whitespace query should not call searchTitles, should browse instead
     ResponseEntity<Page<TitleDto>> response = titleController.getTitles(
-        query, null, null, null, null, 1, 20, null);
+        query, null, null, null, null, 1, 20, null, null);
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -370,20 +521,84 @@ class TitleControllerTest {
   }
 
   @Test
-  void testGetTitles_NoQueryNoSort_ReturnsEmpty() {
+  void testGetTitles_NoQueryNoSort_BrowsesStoredTitles() {
+    // Arrange
+    stubEmptyBrowse();
+
     // Act
     ResponseEntity<Page<TitleDto>> response = titleController.getTitles(
-        null, null, null, null, null, 1, 20, null);
+        null, null, null, null, null, 1, 20, null, null);
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
     assertNotNull(response.getBody());
     assertEquals(0, response.getBody().getTotalElements());
+    verify(titleService).browseTitles(null, null, null, null, null, pageable);
     verify(titleService, never()).searchTitles(anyString(), anyString(), any(Pageable.class));
     verify(titleService, never()).getPopularMovies(anyString(), anyInt(), anyString(), any(Pageable.class));
     verify(titleService, never()).getPopularTVShows(anyString(), anyInt(), any(Pageable.class));
   }
 
+  @Test
+  void testSuggestTitles_DelegatesToSuggestIndex() {
+    // Arrange
+    TitleSuggestionDto suggestion = new TitleSuggestionDto(testMovie.getId(), "movie", "The Matrix",
+        "The Matrix", "the-matrix-1999", 1999, null, 1200);
+    when(titleSuggestService.suggest("matr", "movie", 5)).thenReturn(List.of(suggestion));
+
+    // Act
+    ResponseEntity<List<TitleSuggestionDto>> response = titleController.suggestTitles("matr", "movie", 5);
+
+    // Assert
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertNotNull(response.getBody());
+    assertEquals(1, response.getBody().size());
+    assertEquals("the-matrix-1999", response.getBody().get(0).getSlug());
+    verifyNoInteractions(titleService);
+  }
+
+  @Test
+  void testGetTitleFacets_DelegatesToFacetIndex() {
+    // Arrange
+    TitleFacetsDto facets = new TitleFacetsDto(2, Map.of(28, 2), Map.of("movie", 2), Map.of(2000, 2), Map.of(8, 2));
+    when(titleFacetService.getFacets("movie", 28, null, 8.0)).thenReturn(facets);
+
+    // Act
+    ResponseEntity<TitleFacetsDto> response = titleController.getTitleFacets("movie", 28, null, 8.0);
+
+    // Assert
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertSame(facets, response.getBody());
+    verifyNoInteractions(titleService);
+  }
+
+  @Test
+  void testGetTitleRatingStats_DelegatesToRatingService() {
+    // Arrange
+    TitleRatingStatsDto stats = new TitleRatingStatsDto();
+    stats.setTitleId(testMovie.getId());
+    stats.setCount(3);
+    when(ratingService.getTitleRatingStats(testMovie.getId())).thenReturn(stats);
+
+    // Act
+    ResponseEntity<TitleRatingStatsDto> response = titleController.getTitleRatingStats(testMovie.getId());
+
+    // Assert
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertSame(stats, response.getBody());
+    verifyNoInteractions(titleService);
+  }
+
+  /**
+   * Helper method to stub an empty browse result.
+   */
+  private void stubEmptyBrowse() {
+    Page<Title> emptyTitles = new PageImpl<>(Collections.emptyList(), pageable, 0);
+    Page<TitleDto> emptyDtos = new PageImpl<>(Collections.emptyList(), pageable, 0);
+    when(titleService.browseTitles(any(), any(), any(), any(), any(), any(Pageable.class))).thenReturn(emptyTitles);
+    when(titleDtoMapper.toDtoPage(emptyTitles)).thenReturn(emptyDtos);
+  }
+
   /**
    * Helper method to create a TitleDto from a Title entity for testing.
    */
@@ -412,4 +627,8 @@ class TitleControllerTest {
     dto.setGenres(Collections.emptyList()); // Empty list for tests
     return dto;
   }
+
+  private ServletWebRequest webRequest() {
+    return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+  }
 }
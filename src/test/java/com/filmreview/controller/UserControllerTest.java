@@ -109,6 +109,32 @@ class UserControllerTest {
         .andExpect(status().isOk());
   }
 
+  @Test
+  void testGetUserByUsername_MatchingETag_ReturnsNotModified() throws Exception {
+    String etag = mockMvc.perform(get("/api/v1/users/{username}", "testuser"))
+        .andExpect(status().isOk())
+        .andExpect(header().exists("ETag"))
+        .andReturn().getResponse().getHeader("ETag");
+
+    mockMvc.perform(get("/api/v1/users/{username}", "testuser")
+        .header("If-None-Match", etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void testGetCurrentUser_ETagDiffersFromPublicProfile() throws Exception {
+    String publicETag = mockMvc.perform(get("/api/v1/users/{username}", "testuser"))
+        .andReturn().getResponse().getHeader("ETag");
+
+    // The own-profile representation includes the email, so it must not match
+    mockMvc.perform(get("/api/v1/users/me")
+        .header("Authorization", "Bearer " + accessToken)
+        .header("If-None-Match", publicETag))
+        .andExpect(status().isOk())
+        .andExpect(header().exists("ETag"));
+  }
+
   @Test
   void testUpdateUser_Success() throws Exception {
     UpdateUserRequest request = new UpdateUserRequest();
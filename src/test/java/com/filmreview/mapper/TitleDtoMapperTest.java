@@ -0,0 +1,138 @@
+package com.filmreview.mapper;
+
+import com.filmreview.dto.GenreDto;
+import com.filmreview.dto.TitleDto;
+import com.filmreview.entity.Genre;
+import com.filmreview.entity.Title;
+import com.filmreview.entity.TitleGenre;
+import com.filmreview.repository.TitleGenreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TitleDtoMapperTest {
+
+  @Mock
+  private TitleDtoMapperHelper mapperHelper;
+
+  @Mock
+  private TitleGenreRepository titleGenreRepository;
+
+  @Mock
+  private GenreDtoMapper genreDtoMapper;
+
+  private TitleDtoMapper titleDtoMapper;
+
+  private Title matrix;
+  private Title breakingBad;
+  private Genre action;
+  private Genre drama;
+
+  @BeforeEach
+  void setUp() {
+    titleDtoMapper = new TitleDtoMapper(mapperHelper, titleGenreRepository, genreDtoMapper);
+
+    matrix = title("The Matrix");
+    breakingBad = title("Breaking Bad");
+    action = genre(28, "Action");
+    drama = genre(18, "Drama");
+
+    lenient().when(mapperHelper.toDto(any(Title.class))).thenAnswer(invocation -> {
+      Title title = invocation.getArgument(0);
+      TitleDto dto = new TitleDto();
+      dto.setId(title.getId());
+      dto.setTitle(title.getTitle());
+      return dto;
+    });
+    lenient().when(genreDtoMapper.toDtoList(anyList())).thenAnswer(invocation -> {
+      List<Genre> genres = invocation.getArgument(0);
+      return genres.stream().map(genre -> new GenreDto(genre.getId(), genre.getName(), null)).toList();
+    });
+  }
+
+  @Test
+  void testToDtoPage_FetchesGenresForWholePageInOneQuery() {
+    // Arrange
+    when(titleGenreRepository.findWithGenreByTitleIdIn(Set.of(matrix.getId(), breakingBad.getId())))
+        .thenReturn(List.of(
+            link(matrix, action),
+            link(breakingBad, drama),
+            link(matrix, drama)));
+    Page<Title> page = new PageImpl<>(List.of(matrix, breakingBad), PageRequest.of(0, 20), 2);
+
+    // Act
+    Page<TitleDto> result = titleDtoMapper.toDtoPage(page);
+
+    // Assert
+    assertEquals(2, result.getTotalElements());
+    assertEquals("The Matrix", result.getContent().get(0).getTitle());
+    assertEquals(List.of("Action", "Drama"), genreNames(result.getContent().get(0)));
+    assertEquals(List.of("Drama"), genreNames(result.getContent().get(1)));
+    verify(titleGenreRepository, times(1)).findWithGenreByTitleIdIn(anyCollection());
+    verify(titleGenreRepository, never()).findGenresByTitleId(any());
+  }
+
+  @Test
+  void testToDtoList_TitleWithoutGenres_GetsEmptyList() {
+    // Arrange
+    when(titleGenreRepository.findWithGenreByTitleIdIn(Set.of(matrix.getId()))).thenReturn(List.of());
+
+    // Act
+    List<TitleDto> result = titleDtoMapper.toDtoList(List.of(matrix));
+
+    // Assert
+    assertEquals(1, result.size());
+    assertNotNull(result.get(0).getGenres());
+    assertTrue(result.get(0).getGenres().isEmpty());
+  }
+
+  @Test
+  void testToDtoList_Empty_SkipsQuery() {
+    // Act
+    List<TitleDto> result = titleDtoMapper.toDtoList(List.of());
+
+    // Assert
+    assertTrue(result.isEmpty());
+    verifyNoInteractions(titleGenreRepository);
+  }
+
+  private List<String> genreNames(TitleDto dto) {
+    return dto.getGenres().stream().map(GenreDto::getName).toList();
+  }
+
+  private Title title(String name) {
+    Title title = new Title();
+    title.setId(UUID.randomUUID());
+    title.setTitle(name);
+    return title;
+  }
+
+  private Genre genre(Integer id, String name) {
+    Genre genre = new Genre();
+    genre.setId(id);
+    genre.setName(name);
+    return genre;
+  }
+
+  private TitleGenre link(Title title, Genre genre) {
+    TitleGenre titleGenre = new TitleGenre();
+    titleGenre.setTitleId(title.getId());
+    titleGenre.setGenreId(genre.getId());
+    titleGenre.setGenre(genre);
+    return titleGenre;
+  }
+}
@@ -0,0 +1,122 @@
+package com.filmreview.security;
+
+import com.filmreview.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private CountDownLatch started;
+  private CountDownLatch release;
+  private BoundedPasswordEncoder encoder;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    started = new CountDownLatch(1);
+    release = new CountDownLatch(1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    if (encoder != null) {
+      encoder.destroy();
+    }
+  }
+
+  @Test
+  void testEncodeAndMatches_RunOnPoolAndDelegate() {
+    // Arrange
+    encoder = new BoundedPasswordEncoder(new PrefixEncoder(), 2, 4, 5000, meterRegistry);
+
+    // Act
+    String encoded = encoder.encode("secret");
+
+    // Assert
+    assertEquals("hashed:secret", encoded);
+    assertTrue(encoder.matches("secret", encoded));
+    assertFalse(encoder.matches("other", encoded));
+    assertEquals(3, meterRegistry.get(BoundedPasswordEncoder.METRIC_PREFIX + ".duration").timer().count());
+  }
+
+  @Test
+  void testEncode_PoolAndQueueFull_RejectsImmediately() throws Exception {
+    // Arrange: one worker busy, one hash queued
+    encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, 5000, meterRegistry);
+    CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+    waitForQueued(1);
+
+    // Act & Assert
+    ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+        () -> encoder.encode("third"));
+    assertEquals(1, exception.getRetryAfterSeconds());
+    assertEquals(1.0, meterRegistry.get(BoundedPasswordEncoder.METRIC_PREFIX + ".rejected")
+        .tag("reason", "saturated").counter().count());
+
+    release.countDown();
+    assertEquals("hashed:first", running.get(5, TimeUnit.SECONDS));
+    assertEquals("hashed:second", queued.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testMatches_WaitsPastTimeout_RejectsWithServiceUnavailable() {
+    // Arrange
+    encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, 50, meterRegistry);
+
+    // Act & Assert
+    assertThrows(ServiceUnavailableException.class, () -> encoder.matches("secret", "hashed:secret"));
+    assertEquals(1.0, meterRegistry.get(BoundedPasswordEncoder.METRIC_PREFIX + ".rejected")
+        .tag("reason", "timeout").counter().count());
+  }
+
+  private void waitForQueued(int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (meterRegistry.get("executor.queued").gauge().value() < expected) {
+      assertTrue(System.nanoTime() < deadline, "hash was never queued");
+      Thread.sleep(10);
+    }
+  }
+
+  private static class PrefixEncoder implements PasswordEncoder {
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      return "hashed:" + rawPassword;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      return encode(rawPassword).equals(encodedPassword);
+    }
+  }
+
+  /**
+   * Blocks each hash until the test releases it, to hold a worker busy.
+   */
+  private class BlockingEncoder extends PrefixEncoder {
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      started.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return super.encode(rawPassword);
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package com.filmreview.security;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HybridRateLimiterTest {
+
+  @Mock
+  private ProxyManager<byte[]> proxyManager;
+
+  @Mock
+  private RemoteBucketBuilder<byte[]> bucketBuilder;
+
+  @Mock
+  private BucketProxy bucket;
+
+  private RedisCircuitBreaker circuitBreaker;
+  private long now;
+  private HybridRateLimiter rateLimiter;
+
+  private RateLimitPolicy authenticatedPolicy;
+  private RateLimitPolicy loginPolicy;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    circuitBreaker = new RedisCircuitBreaker(4, 0.5, 50, 10000, () -> now);
+    rateLimiter = new HybridRateLimiter(proxyManager, circuitBreaker, new LocalFallbackRateLimiter(2, 3600000, 1000),
+        20, 10000, 1000);
+    authenticatedPolicy = RateLimitPolicy.of("rl:auth:", bandwidth(1000), 1000, "Rate limit exceeded");
+    loginPolicy = RateLimitPolicy.of("rl:login:", bandwidth(5), 5, "Too many login attempts");
+
+    lenient().when(proxyManager.builder()).thenReturn(bucketBuilder);
+    lenient().when(bucketBuilder.build(any(byte[].class), any(Supplier.class))).thenReturn(bucket);
+  }
+
+  @Test
+  void testTryAcquire_ServesBatchLocally() {
+    // Arrange
+    when(bucket.tryConsumeAndReturnRemaining(20)).thenReturn(ConsumptionProbe.consumed(980, 0));
+
+    // Act
+    HybridRateLimiter.Decision first = null;
+    for (int i = 0; i < 20; i++) {
+      HybridRateLimiter.Decision decision = rateLimiter.tryAcquire(authenticatedPolicy, "user-1");
+      assertTrue(decision.allowed());
+      if (first == null) {
+        first = decision;
+      }
+    }
+
+    // Assert
+    assertEquals(999, first.remaining());
+    verify(bucket, times(1)).tryConsumeAndReturnRemaining(anyLong());
+    verify(proxyManager, times(1)).builder();
+  }
+
+  @Test
+  void testTryAcquire_BatchUsedUp_ReservesAgain() {
+    // Arrange
+    when(bucket.tryConsumeAndReturnRemaining(20))
+        .thenReturn(ConsumptionProbe.consumed(980, 0))
+        .thenReturn(ConsumptionProbe.consumed(960, 0));
+
+    // Act
+    for (int i = 0; i < 21; i++) {
+      rateLimiter.tryAcquire(authenticatedPolicy, "user-1");
+    }
+
+    // Assert
+    verify(bucket, times(2)).tryConsumeAndReturnRemaining(20);
+  }
+
+  @Test
+  void testTryAcquire_LessThanBatchLeft_TakesWhatIsLeft() {
+    // Arrange
+    when(bucket.tryConsumeAndReturnRemaining(20)).thenReturn(ConsumptionProbe.rejected(3, 1000, 1000));
+    when(bucket.tryConsumeAndReturnRemaining(3)).thenReturn(ConsumptionProbe.consumed(0, 0));
+
+    // Act & Assert
+    for (int i = 0; i < 3; i++) {
+      assertTrue(rateLimiter.tryAcquire(authenticatedPolicy, "user-1").allowed());
+    }
+    verify(bucket, times(1)).tryConsumeAndReturnRemaining(3);
+  }
+
+  @Test
+  void testTryAcquire_BucketEmpty_Rejects() {
+    // Arrange
+    when(bucket.tryConsumeAndReturnRemaining(20)).thenReturn(ConsumptionProbe.rejected(0, 5_000_000_000L, 0));
+
+    // Act
+    HybridRateLimiter.Decision decision = rateLimiter.tryAcquire(authenticatedPolicy, "user-1");
+
+    // Assert
+    assertFalse(decision.allowed());
+    assertEquals(5_000_000_000L, decision.nanosToWait());
+  }
+
+  @Test
+  void testTryAcquire_SmallLimit_ChecksRedisEveryTime() {
+    // Arrange
+    when(bucket.tryConsumeAndReturnRemaining(1)).thenReturn(ConsumptionProbe.consumed(4, 0));
+
+    // Act
+    rateLimiter.tryAcquire(loginPolicy, "10.0.0.1");
+    rateLimiter.tryAcquire(loginPolicy, "10.0.0.1");
+
+    // Assert
+    assertEquals(1, rateLimiter.batchSize(loginPolicy));
+    verify(bucket, times(2)).tryConsumeAndReturnRemaining(1);
+  }
+
+  @Test
+  void testTryAcquire_RedisFails_FallsBackToLocalShareOfLimit() {
+    // Arrange
+    when(bucket.tryConsumeAndReturnRemaining(1)).thenThrow(new RuntimeException("Redis timeout"));
+
+    // Act: 2 nodes expected, so this node allows ceil(5 / 2) = 3 logins
+    int allowed = 0;
+    for (int i = 0; i < 5; i++) {
+      if (rateLimiter.tryAcquire(loginPolicy, "10.0.0.1").allowed()) {
+        allowed++;
+      }
+    }
+
+    // Assert
+    assertEquals(3, allowed);
+  }
+
+  @Test
+  void testTryAcquire_CircuitOpen_SkipsRedis() {
+    // Arrange: the window holds 4 calls, all failing
+    when(bucket.tryConsumeAndReturnRemaining(1)).thenThrow(new RuntimeException("Redis timeout"));
+    for (int i = 0; i < 4; i++) {
+      rateLimiter.tryAcquire(loginPolicy, "10.0.0." + i);
+    }
+    assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+    // Act
+    HybridRateLimiter.Decision decision = rateLimiter.tryAcquire(loginPolicy, "10.0.0.9");
+
+    // Assert
+    assertTrue(decision.allowed());
+    verify(bucket, times(4)).tryConsumeAndReturnRemaining(1);
+  }
+
+  private Bandwidth bandwidth(int capacity) {
+    return Bandwidth.builder()
+        .capacity(capacity)
+        .refillIntervally(capacity, Duration.ofHours(1))
+        .build();
+  }
+}
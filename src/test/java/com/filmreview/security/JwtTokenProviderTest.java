@@ -1,11 +1,16 @@
 package com.filmreview.security;
 
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -140,4 +145,66 @@ class JwtTokenProviderTest {
     assertEquals(username, extractedUsername);
     assertEquals(email, extractedEmail);
   }
+
+  @Test
+  void testGetPrincipalFromToken() {
+    List<String> testPermissions = List.of("titles.create");
+    String token = tokenProvider.generateAccessToken(userId, username, email, roles, testPermissions);
+
+    UserPrincipal principal = tokenProvider.getPrincipalFromToken(token);
+
+    assertEquals(userId, principal.getId());
+    assertEquals(username, principal.getUsername());
+    assertEquals(email, principal.getEmail());
+    assertEquals(roles, principal.getRoles());
+    assertTrue(principal.hasPermission("titles.create"));
+  }
+
+  @Test
+  void testGetPrincipalFromToken_RepeatedToken_ServedFromCache() {
+    String token = tokenProvider.generateAccessToken(userId, username, email, roles, permissions);
+
+    UserPrincipal first = tokenProvider.getPrincipalFromToken(token);
+    UserPrincipal second = tokenProvider.getPrincipalFromToken(token);
+
+    assertSame(first, second);
+  }
+
+  @Test
+  void testGetPrincipalFromToken_InvalidToken() {
+    assertThrows(JwtException.class, () -> tokenProvider.getPrincipalFromToken("invalid.token.here"));
+  }
+
+  @Test
+  void testGetPrincipalFromToken_TamperedToken() {
+    String token = tokenProvider.generateAccessToken(userId, username, email, roles, permissions);
+    tokenProvider.getPrincipalFromToken(token);
+    String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+    assertThrows(JwtException.class, () -> tokenProvider.getPrincipalFromToken(tampered));
+  }
+
+  @Test
+  void testGetPrincipalFromToken_ExpiredToken() {
+    JwtTokenProvider expiringProvider = new JwtTokenProvider(
+        "test-secret-key-that-is-long-enough-for-hmac-sha-256", -1000, -1000, 100);
+    String token = expiringProvider.generateAccessToken(userId, username, email, roles, permissions);
+
+    assertThrows(ExpiredJwtException.class, () -> expiringProvider.getPrincipalFromToken(token));
+  }
+
+  @Test
+  void testGetPrincipalFromToken_TokenWithoutExpiration_Rejected() {
+    String secret = "test-secret-key-that-is-long-enough-for-hmac-sha-256";
+    JwtTokenProvider provider = new JwtTokenProvider(secret, 900000, 900000, 100);
+    String token = Jwts.builder()
+        .subject(userId.toString())
+        .claim("username", username)
+        .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+        .compact();
+
+    assertThrows(JwtException.class, () -> provider.getPrincipalFromToken(token));
+    // Still rejected on a repeat, i.e. never cached
+    assertThrows(JwtException.class, () -> provider.getPrincipalFromToken(token));
+  }
 }
@@ -0,0 +1,57 @@
+package com.filmreview.security;
+
+import io.github.bucket4j.Bandwidth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitPolicyTest {
+
+  private RateLimitPolicy policy;
+
+  @BeforeEach
+  void setUp() {
+    Bandwidth bandwidth = Bandwidth.builder()
+        .capacity(100)
+        .refillIntervally(100, Duration.ofHours(1))
+        .build();
+    policy = RateLimitPolicy.of("rl:anon:", bandwidth, 100, "Rate limit exceeded");
+  }
+
+  @Test
+  void testRedisKey_UserId_EncodedAsSixteenBytes() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+
+    // Act
+    byte[] key = policy.redisKey(userId.toString());
+
+    // Assert
+    byte[] prefix = "rl:anon:".getBytes(StandardCharsets.UTF_8);
+    assertEquals(prefix.length + 16, key.length);
+    assertArrayEquals(prefix, Arrays.copyOf(key, prefix.length));
+    ByteBuffer subject = ByteBuffer.wrap(key, prefix.length, 16);
+    assertEquals(userId, new UUID(subject.getLong(), subject.getLong()));
+  }
+
+  @Test
+  void testRedisKey_Ip_HashedToEightBytes() {
+    // Act
+    byte[] key = policy.redisKey("203.0.113.42");
+    byte[] again = policy.redisKey("203.0.113.42");
+    byte[] other = policy.redisKey("203.0.113.43");
+
+    // Assert
+    assertEquals("rl:anon:".length() + 8, key.length);
+    assertArrayEquals(key, again);
+    assertFalse(Arrays.equals(key, other));
+    assertFalse(new String(key, StandardCharsets.ISO_8859_1).contains("203.0.113"));
+  }
+}
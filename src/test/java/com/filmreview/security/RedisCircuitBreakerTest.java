@@ -0,0 +1,85 @@
+package com.filmreview.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisCircuitBreakerTest {
+
+  private long now;
+  private RedisCircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void setUp() {
+    now = 0;
+    circuitBreaker = new RedisCircuitBreaker(4, 0.5, 50, 10000, () -> now);
+  }
+
+  @Test
+  void testFailureRateReached_Opens() {
+    // Act
+    succeed();
+    succeed();
+    circuitBreaker.recordFailure();
+    circuitBreaker.recordFailure();
+
+    // Assert
+    assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    assertFalse(circuitBreaker.tryAcquirePermission());
+  }
+
+  @Test
+  void testSlowCalls_CountAsFailures() {
+    // Act
+    for (int i = 0; i < 4; i++) {
+      long startedAt = circuitBreaker.start();
+      now += TimeUnit.MILLISECONDS.toNanos(200);
+      circuitBreaker.recordSuccess(startedAt);
+    }
+
+    // Assert
+    assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+  }
+
+  @Test
+  void testOpenTimeElapsed_ProbeSucceeds_Closes() {
+    // Arrange
+    for (int i = 0; i < 4; i++) {
+      circuitBreaker.recordFailure();
+    }
+    now += TimeUnit.MILLISECONDS.toNanos(10001);
+
+    // Act
+    assertTrue(circuitBreaker.tryAcquirePermission());
+    assertFalse(circuitBreaker.tryAcquirePermission()); // one probe at a time
+    succeed();
+
+    // Assert
+    assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    assertTrue(circuitBreaker.tryAcquirePermission());
+  }
+
+  @Test
+  void testProbeFails_OpensAgain() {
+    // Arrange
+    for (int i = 0; i < 4; i++) {
+      circuitBreaker.recordFailure();
+    }
+    now += TimeUnit.MILLISECONDS.toNanos(10001);
+    assertTrue(circuitBreaker.tryAcquirePermission());
+
+    // Act
+    circuitBreaker.recordFailure();
+
+    // Assert
+    assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    assertFalse(circuitBreaker.tryAcquirePermission());
+  }
+
+  private void succeed() {
+    circuitBreaker.recordSuccess(circuitBreaker.start());
+  }
+}
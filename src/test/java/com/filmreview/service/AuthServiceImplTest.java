@@ -17,10 +17,12 @@ import com.filmreview.security.JwtTokenProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -53,6 +55,9 @@ class AuthServiceImplTest {
   @Mock
   private PermissionService permissionService;
 
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
   @InjectMocks
   private AuthServiceImpl authService;
 
@@ -87,7 +92,7 @@ class AuthServiceImplTest {
     userRole.setName(RoleType.USER.getName());
     when(roleRepository.findByName(RoleType.USER.getName())).thenReturn(Optional.of(userRole));
     when(userRoleRepository.save(any(UserRole.class))).thenAnswer(invocation -> invocation.getArgument(0));
-    when(userRoleRepository.findRoleNamesByUserId(userId)).thenReturn(List.of("USER"));
+    when(permissionService.getUserRoles(userId)).thenReturn(List.of("USER"));
     when(permissionService.getUserPermissions(userId)).thenReturn(Set.of());
     when(tokenProvider.generateAccessToken(any(UUID.class), anyString(), anyString(), anyList(), anyList()))
         .thenReturn("access-token");
@@ -119,6 +124,12 @@ class AuthServiceImplTest {
         anyList());
     verify(tokenProvider).generateRefreshToken(any(UUID.class), eq("test"), eq("test@example.com"), anyList(),
         anyList());
+    // Verify the password is hashed before the transaction starts
+    InOrder inOrder = inOrder(passwordEncoder, transactionManager, userRepository);
+    inOrder.verify(passwordEncoder).encode("password123");
+    inOrder.verify(transactionManager).getTransaction(any());
+    inOrder.verify(userRepository).save(any(User.class));
+    inOrder.verify(transactionManager).commit(any());
   }
 
   @Test
@@ -134,6 +145,7 @@ class AuthServiceImplTest {
 
     verify(userRepository).existsByEmail("existing@example.com");
     verify(userRepository, never()).save(any(User.class));
+    verifyNoInteractions(passwordEncoder);
   }
 
   @Test
@@ -159,7 +171,7 @@ class AuthServiceImplTest {
     userRole.setName(RoleType.USER.getName());
     when(roleRepository.findByName(RoleType.USER.getName())).thenReturn(Optional.of(userRole));
     when(userRoleRepository.save(any(UserRole.class))).thenAnswer(invocation -> invocation.getArgument(0));
-    when(userRoleRepository.findRoleNamesByUserId(userId)).thenReturn(List.of("USER"));
+    when(permissionService.getUserRoles(userId)).thenReturn(List.of("USER"));
     when(permissionService.getUserPermissions(userId)).thenReturn(Set.of());
     when(tokenProvider.generateAccessToken(any(UUID.class), anyString(), anyString(), anyList(), anyList()))
         .thenReturn("access-token");
@@ -183,7 +195,7 @@ class AuthServiceImplTest {
     when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
     when(passwordEncoder.matches("password123", testUser.getPasswordHash())).thenReturn(true);
     when(userRepository.save(any(User.class))).thenReturn(testUser);
-    when(userRoleRepository.findRoleNamesByUserId(userId)).thenReturn(List.of("USER"));
+    when(permissionService.getUserRoles(userId)).thenReturn(List.of("USER"));
     when(permissionService.getUserPermissions(userId)).thenReturn(Set.of());
     when(tokenProvider.generateAccessToken(any(UUID.class), anyString(), anyString(), anyList(), anyList()))
         .thenReturn("access-token");
@@ -247,7 +259,7 @@ class AuthServiceImplTest {
     when(tokenProvider.validateToken(refreshToken)).thenReturn(true);
     when(tokenProvider.getUserIdFromToken(refreshToken)).thenReturn(userId);
     when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-    when(userRoleRepository.findRoleNamesByUserId(userId)).thenReturn(List.of("USER"));
+    when(permissionService.getUserRoles(userId)).thenReturn(List.of("USER"));
     when(permissionService.getUserPermissions(userId)).thenReturn(Set.of());
     when(tokenProvider.generateAccessToken(any(UUID.class), anyString(), anyString(), anyList(), anyList()))
         .thenReturn("new-access-token");
@@ -350,7 +362,7 @@ class AuthServiceImplTest {
     when(roleRepository.findByName(RoleType.USER.getName())).thenReturn(Optional.of(userRole));
     when(userRoleRepository.save(any(UserRole.class))).thenAnswer(invocation -> invocation.getArgument(0));
     // Mock multiple roles
-    when(userRoleRepository.findRoleNamesByUserId(userId)).thenReturn(List.of("USER", "ADMIN", "MODERATOR"));
+    when(permissionService.getUserRoles(userId)).thenReturn(List.of("USER", "ADMIN", "MODERATOR"));
     when(permissionService.getUserPermissions(userId)).thenReturn(Set.of("READ", "WRITE", "DELETE"));
     when(tokenProvider.generateAccessToken(any(UUID.class), anyString(), anyString(), anyList(), anyList()))
         .thenReturn("access-token");
@@ -382,7 +394,7 @@ class AuthServiceImplTest {
     when(passwordEncoder.matches("password123", testUser.getPasswordHash())).thenReturn(true);
     when(userRepository.save(any(User.class))).thenReturn(testUser);
     // Mock multiple roles
-    when(userRoleRepository.findRoleNamesByUserId(userId)).thenReturn(List.of("USER", "ADMIN"));
+    when(permissionService.getUserRoles(userId)).thenReturn(List.of("USER", "ADMIN"));
     when(permissionService.getUserPermissions(userId)).thenReturn(Set.of("READ", "WRITE"));
     when(tokenProvider.generateAccessToken(any(UUID.class), anyString(), anyString(), anyList(), anyList()))
         .thenReturn("access-token");
@@ -423,7 +435,7 @@ class AuthServiceImplTest {
     when(roleRepository.findByName(RoleType.USER.getName())).thenReturn(Optional.of(userRole));
     when(userRoleRepository.save(any(UserRole.class))).thenAnswer(invocation -> invocation.getArgument(0));
     // Mock empty roles list - should default to USER
-    when(userRoleRepository.findRoleNamesByUserId(userId)).thenReturn(List.of());
+    when(permissionService.getUserRoles(userId)).thenReturn(List.of());
     when(permissionService.getUserPermissions(userId)).thenReturn(Set.of());
     when(tokenProvider.generateAccessToken(any(UUID.class), anyString(), anyString(), anyList(), anyList()))
         .thenReturn("access-token");
@@ -449,7 +461,7 @@ class AuthServiceImplTest {
     when(tokenProvider.getUserIdFromToken(refreshToken)).thenReturn(userId);
     when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
     // Mock roles that may have changed since token was issued
-    when(userRoleRepository.findRoleNamesByUserId(userId)).thenReturn(List.of("USER", "MODERATOR"));
+    when(permissionService.getUserRoles(userId)).thenReturn(List.of("USER", "MODERATOR"));
     when(permissionService.getUserPermissions(userId)).thenReturn(Set.of("READ", "MODERATE"));
     when(tokenProvider.generateAccessToken(any(UUID.class), anyString(), anyString(), anyList(), anyList()))
         .thenReturn("new-access-token");
@@ -482,7 +494,7 @@ class AuthServiceImplTest {
     when(passwordEncoder.matches("password123", testUser.getPasswordHash())).thenReturn(true);
     when(userRepository.save(any(User.class))).thenReturn(testUser);
     // Mock ADMIN role
-    when(userRoleRepository.findRoleNamesByUserId(userId)).thenReturn(List.of("ADMIN"));
+    when(permissionService.getUserRoles(userId)).thenReturn(List.of("ADMIN"));
     when(permissionService.getUserPermissions(userId)).thenReturn(Set.of("READ", "WRITE", "DELETE", "ADMIN"));
     when(tokenProvider.generateAccessToken(any(UUID.class), anyString(), anyString(), anyList(), anyList()))
         .thenReturn("access-token");
@@ -0,0 +1,81 @@
+package com.filmreview.service;
+
+import com.filmreview.entity.Genre;
+import com.filmreview.repository.GenreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GenreDictionaryTest {
+
+  @Mock
+  private GenreRepository genreRepository;
+
+  private GenreDictionary genreDictionary;
+
+  @BeforeEach
+  void setUp() {
+    genreDictionary = new GenreDictionary(genreRepository);
+  }
+
+  @Test
+  void testLoad_ReplacesContentsWithAllGenres() {
+    // Arrange
+    genreDictionary.putAll(List.of(genre(99, "Documentary")));
+    when(genreRepository.findAll()).thenReturn(List.of(genre(28, "Action"), genre(18, "Drama")));
+
+    // Act
+    genreDictionary.load();
+
+    // Assert
+    assertEquals(2, genreDictionary.size());
+    assertTrue(genreDictionary.contains(28));
+    assertTrue(genreDictionary.contains(18));
+    assertFalse(genreDictionary.contains(99));
+    assertEquals("Drama", genreDictionary.get(18).orElseThrow().getName());
+  }
+
+  @Test
+  void testLoad_RepositoryFailure_KeepsDictionaryUsable() {
+    // Arrange
+    when(genreRepository.findAll()).thenThrow(new DataAccessResourceFailureException("DB down"));
+
+    // Act
+    genreDictionary.load();
+
+    // Assert
+    assertEquals(0, genreDictionary.size());
+    assertFalse(genreDictionary.contains(28));
+  }
+
+  @Test
+  void testPutAll_AddsAndReplacesGenres() {
+    // Arrange
+    genreDictionary.putAll(List.of(genre(28, "Action")));
+
+    // Act
+    genreDictionary.putAll(List.of(genre(28, "Action Movies"), genre(12, "Adventure")));
+
+    // Assert
+    assertEquals(2, genreDictionary.size());
+    assertEquals("Action Movies", genreDictionary.get(28).orElseThrow().getName());
+    assertTrue(genreDictionary.get(null).isEmpty());
+    assertFalse(genreDictionary.contains(null));
+  }
+
+  private Genre genre(Integer id, String name) {
+    Genre genre = new Genre();
+    genre.setId(id);
+    genre.setName(name);
+    return genre;
+  }
+}
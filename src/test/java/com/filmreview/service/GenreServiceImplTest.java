@@ -31,6 +31,9 @@ class GenreServiceImplTest {
   @Mock
   private TmdbService tmdbService;
 
+  @Mock
+  private GenreDictionary genreDictionary;
+
   @InjectMocks
   private GenreServiceImpl genreService;
 
@@ -127,6 +130,7 @@ class GenreServiceImplTest {
     verify(tmdbService).getMovieGenres();
     verify(genreRepository, times(2)).findById(anyInt());
     verify(genreRepository, times(2)).save(any(Genre.class));
+    verify(genreDictionary).putAll(argThat(genres -> genres.size() == 2));
   }
 
   @Test
@@ -144,6 +148,7 @@ class GenreServiceImplTest {
     verify(tmdbService).getMovieGenres();
     verify(genreRepository).findById(28);
     verify(genreRepository, never()).save(any(Genre.class));
+    verify(genreDictionary).putAll(List.of(existingGenre)); // Unchanged genres are still registered
   }
 
   @Test
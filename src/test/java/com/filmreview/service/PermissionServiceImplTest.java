@@ -0,0 +1,156 @@
+package com.filmreview.service;
+
+import com.filmreview.repository.RoleRepository;
+import com.filmreview.repository.UserRoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PermissionServiceImplTest {
+
+  @Mock
+  private UserRoleRepository userRoleRepository;
+
+  @Mock
+  private RoleRepository roleRepository;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  private PermissionServiceImpl permissionService;
+
+  private UUID userId;
+  private UUID adminId;
+
+  @BeforeEach
+  void setUp() {
+    permissionService = new PermissionServiceImpl(userRoleRepository, roleRepository, redisTemplate,
+        listenerContainer, 1000, 600000);
+    userId = UUID.randomUUID();
+    adminId = UUID.randomUUID();
+
+    lenient().when(roleRepository.findAllRolePermissions()).thenReturn(List.of(
+        rolePermission("USER", "reviews.create"),
+        rolePermission("ADMIN", "titles.delete"),
+        rolePermission("ADMIN", "users.manage")));
+    lenient().when(userRoleRepository.findRoleNamesByUserId(userId)).thenReturn(List.of("USER"));
+    lenient().when(userRoleRepository.findRoleNamesByUserId(adminId)).thenReturn(List.of("USER", "ADMIN"));
+  }
+
+  @Test
+  void testConstructor_SubscribesToInvalidationChannel() {
+    // Assert
+    verify(listenerContainer).addMessageListener(eq(permissionService),
+        eq(new ChannelTopic(PermissionServiceImpl.INVALIDATION_CHANNEL)));
+  }
+
+  @Test
+  void testGetUserPermissions_ResolvesFromCachedMatrixAndRoles() {
+    // Act
+    Set<String> userPermissions = permissionService.getUserPermissions(userId);
+    Set<String> adminPermissions = permissionService.getUserPermissions(adminId);
+    Set<String> again = permissionService.getUserPermissions(adminId);
+
+    // Assert
+    assertEquals(Set.of("reviews.create"), userPermissions);
+    assertEquals(Set.of("reviews.create", "titles.delete", "users.manage"), adminPermissions);
+    assertEquals(adminPermissions, again);
+    verify(roleRepository, times(1)).findAllRolePermissions();
+    verify(userRoleRepository, times(1)).findRoleNamesByUserId(adminId);
+  }
+
+  @Test
+  void testGetUserPermissions_NoRoles_ReturnsEmptyWithoutLoadingMatrix() {
+    // Arrange
+    UUID roleless = UUID.randomUUID();
+    when(userRoleRepository.findRoleNamesByUserId(roleless)).thenReturn(List.of());
+
+    // Act
+    Set<String> result = permissionService.getUserPermissions(roleless);
+
+    // Assert
+    assertTrue(result.isEmpty());
+    verify(roleRepository, never()).findAllRolePermissions();
+  }
+
+  @Test
+  void testInvalidate_ReloadsUserRolesAndBroadcasts() {
+    // Arrange
+    permissionService.getUserPermissions(userId);
+    when(userRoleRepository.findRoleNamesByUserId(userId)).thenReturn(List.of("USER", "ADMIN"));
+
+    // Act
+    permissionService.invalidate(userId);
+    Set<String> result = permissionService.getUserPermissions(userId);
+
+    // Assert
+    assertTrue(result.contains("users.manage"));
+    verify(userRoleRepository, times(2)).findRoleNamesByUserId(userId);
+    verify(roleRepository, times(2)).findAllRolePermissions();
+    verify(redisTemplate).convertAndSend(PermissionServiceImpl.INVALIDATION_CHANNEL, userId.toString());
+  }
+
+  @Test
+  void testInvalidate_BroadcastFails_StillEvictsLocally() {
+    // Arrange
+    permissionService.getUserRoles(userId);
+    when(redisTemplate.convertAndSend(anyString(), anyString())).thenThrow(new RuntimeException("Redis down"));
+
+    // Act
+    permissionService.invalidate(userId);
+    permissionService.getUserRoles(userId);
+
+    // Assert
+    verify(userRoleRepository, times(2)).findRoleNamesByUserId(userId);
+  }
+
+  @Test
+  void testOnMessage_EvictsUserFromOtherNode() {
+    // Arrange
+    permissionService.getUserRoles(userId);
+    DefaultMessage message = new DefaultMessage(
+        PermissionServiceImpl.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+        userId.toString().getBytes(StandardCharsets.UTF_8));
+
+    // Act
+    permissionService.onMessage(message, null);
+    permissionService.getUserRoles(userId);
+
+    // Assert
+    verify(userRoleRepository, times(2)).findRoleNamesByUserId(userId);
+    verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+  }
+
+  private RoleRepository.RolePermission rolePermission(String roleName, String permissionName) {
+    return new RoleRepository.RolePermission() {
+      @Override
+      public String getRoleName() {
+        return roleName;
+      }
+
+      @Override
+      public String getPermissionName() {
+        return permissionName;
+      }
+    };
+  }
+}
@@ -0,0 +1,260 @@
+package com.filmreview.service;
+
+import com.filmreview.dto.tmdb.TmdbPageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopularListSnapshotServiceImplTest {
+
+  private static final long REFRESH_INTERVAL_MS = 60_000;
+  private static final long MAX_IDLE_MS = 600_000;
+
+  @Mock
+  private TmdbService tmdbService;
+
+  private MutableClock clock;
+  private List<Runnable> queuedRefreshes;
+  private PopularListSnapshotServiceImpl snapshotService;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    queuedRefreshes = new ArrayList<>();
+    snapshotService = new PopularListSnapshotServiceImpl(
+        tmdbService, REFRESH_INTERVAL_MS, MAX_IDLE_MS, 10, queuedRefreshes::add, clock);
+  }
+
+  @Test
+  void testGetPopularMovies_ColdMiss_FetchesFromTmdb() {
+    // Arrange
+    Page<TmdbPageResponse.TmdbMovieItem> tmdbPage = moviePage(603);
+    when(tmdbService.getPopularMovies("en-US", 1, "US")).thenReturn(tmdbPage);
+
+    // Act
+    Page<TmdbPageResponse.TmdbMovieItem> result = snapshotService.getPopularMovies("en-US", 1, "US");
+
+    // Assert
+    assertSame(tmdbPage, result);
+    verify(tmdbService).getPopularMovies("en-US", 1, "US");
+  }
+
+  @Test
+  void testGetPopularMovies_FreshSnapshot_ServedWithoutTmdbCall() {
+    // Arrange
+    Page<TmdbPageResponse.TmdbMovieItem> tmdbPage = moviePage(603);
+    when(tmdbService.getPopularMovies("en-US", 1, "US")).thenReturn(tmdbPage);
+    snapshotService.getPopularMovies("en-US", 1, "US");
+
+    // Act
+    Page<TmdbPageResponse.TmdbMovieItem> result = snapshotService.getPopularMovies("en-US", 1, "US");
+
+    // Assert
+    assertSame(tmdbPage, result);
+    verify(tmdbService, times(1)).getPopularMovies("en-US", 1, "US");
+    assertTrue(queuedRefreshes.isEmpty());
+  }
+
+  @Test
+  void testGetPopularMovies_KeyedByLanguageRegionAndPage() {
+    // Arrange
+    when(tmdbService.getPopularMovies(anyString(), anyInt(), anyString()))
+        .thenAnswer(invocation -> moviePage(invocation.getArgument(1)));
+
+    // Act
+    snapshotService.getPopularMovies("en-US", 1, "US");
+    snapshotService.getPopularMovies("en-US", 2, "US");
+    snapshotService.getPopularMovies("fr-FR", 1, "FR");
+    snapshotService.getPopularMovies("en-US", 1, "US");
+
+    // Assert
+    verify(tmdbService, times(1)).getPopularMovies("en-US", 1, "US");
+    verify(tmdbService, times(1)).getPopularMovies("en-US", 2, "US");
+    verify(tmdbService, times(1)).getPopularMovies("fr-FR", 1, "FR");
+  }
+
+  @Test
+  void testGetPopularMovies_StaleSnapshot_ServedWhileRefreshRunsInBackground() {
+    // Arrange
+    Page<TmdbPageResponse.TmdbMovieItem> oldPage = moviePage(1);
+    Page<TmdbPageResponse.TmdbMovieItem> newPage = moviePage(2);
+    when(tmdbService.getPopularMovies("en-US", 1, "US")).thenReturn(oldPage, newPage);
+    snapshotService.getPopularMovies("en-US", 1, "US");
+    clock.advance(Duration.ofMillis(REFRESH_INTERVAL_MS + 1));
+
+    // Act - stale read returns the old snapshot and queues a single refresh
+    Page<TmdbPageResponse.TmdbMovieItem> staleResult = snapshotService.getPopularMovies("en-US", 1, "US");
+    Page<TmdbPageResponse.TmdbMovieItem> secondStaleResult = snapshotService.getPopularMovies("en-US", 1, "US");
+
+    // Assert
+    assertSame(oldPage, staleResult);
+    assertSame(oldPage, secondStaleResult);
+    assertEquals(1, queuedRefreshes.size());
+
+    // Act - background refresh completes
+    queuedRefreshes.get(0).run();
+
+    // Assert
+    assertSame(newPage, snapshotService.getPopularMovies("en-US", 1, "US"));
+    verify(tmdbService, times(2)).getPopularMovies("en-US", 1, "US");
+  }
+
+  @Test
+  void testRefreshSnapshots_RefreshesRequestedPages() {
+    // Arrange
+    Page<TmdbPageResponse.TmdbTvSeriesItem> oldPage = tvPage(1396);
+    Page<TmdbPageResponse.TmdbTvSeriesItem> newPage = tvPage(1399);
+    when(tmdbService.getPopularTVShows("en-US", 1)).thenReturn(oldPage, newPage);
+    snapshotService.getPopularTVShows("en-US", 1);
+
+    // Act
+    int refreshed = snapshotService.refreshSnapshots();
+
+    // Assert
+    assertEquals(1, refreshed);
+    assertSame(newPage, snapshotService.getPopularTVShows("en-US", 1));
+  }
+
+  @Test
+  void testRefreshSnapshots_TmdbFailure_KeepsPreviousSnapshot() {
+    // Arrange
+    Page<TmdbPageResponse.TmdbMovieItem> tmdbPage = moviePage(603);
+    when(tmdbService.getPopularMovies("en-US", 1, "US"))
+        .thenReturn(tmdbPage)
+        .thenThrow(new RuntimeException("Failed to fetch popular movies from TMDB"));
+    snapshotService.getPopularMovies("en-US", 1, "US");
+
+    // Act
+    int refreshed = snapshotService.refreshSnapshots();
+
+    // Assert
+    assertEquals(0, refreshed);
+    assertSame(tmdbPage, snapshotService.getPopularMovies("en-US", 1, "US"));
+  }
+
+  @Test
+  void testRefreshSnapshots_EvictsIdleSnapshots() {
+    // Arrange
+    when(tmdbService.getPopularMovies("en-US", 1, "US")).thenReturn(moviePage(603));
+    snapshotService.getPopularMovies("en-US", 1, "US");
+    clock.advance(Duration.ofMillis(MAX_IDLE_MS + 1));
+
+    // Act
+    int refreshed = snapshotService.refreshSnapshots();
+
+    // Assert - evicted rather than refreshed, next request is a cold miss
+    assertEquals(0, refreshed);
+    snapshotService.getPopularMovies("en-US", 1, "US");
+    verify(tmdbService, times(2)).getPopularMovies("en-US", 1, "US");
+  }
+
+  @Test
+  void testGetPopularMovies_ConcurrentColdMisses_ShareOneTmdbCall() throws Exception {
+    // Arrange
+    CountDownLatch loadStarted = new CountDownLatch(1);
+    CountDownLatch releaseLoad = new CountDownLatch(1);
+    Page<TmdbPageResponse.TmdbMovieItem> tmdbPage = moviePage(603);
+    when(tmdbService.getPopularMovies("en-US", 1, "US")).thenAnswer(invocation -> {
+      loadStarted.countDown();
+      releaseLoad.await(5, TimeUnit.SECONDS);
+      return tmdbPage;
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      // Act - the second miss arrives while the first load is still running
+      Future<Page<TmdbPageResponse.TmdbMovieItem>> first =
+          executor.submit(() -> snapshotService.getPopularMovies("en-US", 1, "US"));
+      assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+      Future<Page<TmdbPageResponse.TmdbMovieItem>> second =
+          executor.submit(() -> snapshotService.getPopularMovies("en-US", 1, "US"));
+      Thread.sleep(100);
+      releaseLoad.countDown();
+
+      // Assert
+      assertSame(tmdbPage, first.get(5, TimeUnit.SECONDS));
+      assertSame(tmdbPage, second.get(5, TimeUnit.SECONDS));
+      verify(tmdbService, times(1)).getPopularMovies("en-US", 1, "US");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testRefreshSnapshots_RefreshDoesNotKeepUnreadPageAlive() {
+    // Arrange
+    when(tmdbService.getPopularMovies("en-US", 1, "US")).thenAnswer(invocation -> moviePage(603));
+    snapshotService.getPopularMovies("en-US", 1, "US");
+    clock.advance(Duration.ofMillis(MAX_IDLE_MS / 2));
+    snapshotService.refreshSnapshots();
+    clock.advance(Duration.ofMillis(MAX_IDLE_MS / 2 + 1));
+
+    // Act
+    int refreshed = snapshotService.refreshSnapshots();
+
+    // Assert - only reads extend a snapshot's life
+    assertEquals(0, refreshed);
+    verify(tmdbService, times(2)).getPopularMovies("en-US", 1, "US");
+  }
+
+  private Page<TmdbPageResponse.TmdbMovieItem> moviePage(int tmdbId) {
+    TmdbPageResponse.TmdbMovieItem item = new TmdbPageResponse.TmdbMovieItem();
+    item.setId(tmdbId);
+    return new PageImpl<>(List.of(item), PageRequest.of(0, 20), 100);
+  }
+
+  private Page<TmdbPageResponse.TmdbTvSeriesItem> tvPage(int tmdbId) {
+    TmdbPageResponse.TmdbTvSeriesItem item = new TmdbPageResponse.TmdbTvSeriesItem();
+    item.setId(tmdbId);
+    return new PageImpl<>(List.of(item), PageRequest.of(0, 20), 100);
+  }
+
+  private static class MutableClock extends Clock {
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
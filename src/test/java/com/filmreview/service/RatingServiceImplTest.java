@@ -1,12 +1,18 @@
 package com.filmreview.service;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.dto.RatingRequest;
 import com.filmreview.dto.RatingResponse;
+import com.filmreview.dto.TitleRatingStatsDto;
 import com.filmreview.entity.Rating;
+import com.filmreview.entity.TitleRatingHistogram;
 import com.filmreview.exception.BadRequestException;
 import com.filmreview.exception.NotFoundException;
 import com.filmreview.faker.RatingFaker;
 import com.filmreview.repository.RatingRepository;
+import com.filmreview.repository.TitleRatingHistogramRepository;
+import com.filmreview.repository.TitleRepository;
+import com.filmreview.util.CursorUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +24,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +40,12 @@ class RatingServiceImplTest {
   @Mock
   private RatingRepository ratingRepository;
 
+  @Mock
+  private TitleRatingHistogramRepository titleRatingHistogramRepository;
+
+  @Mock
+  private TitleRepository titleRepository;
+
   @InjectMocks
   private RatingServiceImpl ratingService;
 
@@ -53,16 +66,11 @@ class RatingServiceImplTest {
     RatingRequest request = new RatingRequest();
     request.setScore(8);
 
-    // Mock: no existing rating
-    when(ratingRepository.findByUserIdAndTitleId(userId, titleId)).thenReturn(Optional.empty());
-    when(ratingRepository.save(any(Rating.class))).thenAnswer(invocation -> {
-      Rating rating = invocation.getArgument(0);
-      if (rating.getId() == null) {
-        rating.setId(UUID.randomUUID());
-      }
-      if (rating.getCreatedAt() == null) {
-        rating.setCreatedAt(LocalDateTime.now());
-      }
+    // Mock: no existing rating, so the upsert inserts a new row
+    when(ratingRepository.upsert(userId, titleId, 8)).thenAnswer(invocation -> {
+      Rating rating = RatingFaker.generate(userId, titleId, 8);
+      rating.setId(UUID.randomUUID());
+      rating.setCreatedAt(LocalDateTime.now());
       rating.setUpdatedAt(LocalDateTime.now());
       return rating;
     });
@@ -75,18 +83,18 @@ class RatingServiceImplTest {
     assertEquals(titleId, response.getTitleId());
     assertNotNull(response.getCreatedAt());
 
-    verify(ratingRepository).findByUserIdAndTitleId(userId, titleId);
-    verify(ratingRepository).save(any(Rating.class));
+    verify(ratingRepository).upsert(userId, titleId, 8);
+    verify(ratingRepository, never()).findByUserIdAndTitleId(any(), any());
+    verify(ratingRepository, never()).save(any(Rating.class));
   }
 
   @Test
   void testCreateOrUpdateRating_UpdateExisting() {
-    // Mock: existing rating found
-    when(ratingRepository.findByUserIdAndTitleId(userId, titleId)).thenReturn(Optional.of(testRating));
-    when(ratingRepository.save(any(Rating.class))).thenAnswer(invocation -> {
-      Rating rating = invocation.getArgument(0);
-      rating.setUpdatedAt(LocalDateTime.now());
-      return rating;
+    // Mock: existing rating, so the upsert takes the conflict path and keeps its ID
+    when(ratingRepository.upsert(userId, titleId, 9)).thenAnswer(invocation -> {
+      testRating.setScore(9);
+      testRating.setUpdatedAt(LocalDateTime.now());
+      return testRating;
     });
 
     RatingRequest request = new RatingRequest();
@@ -99,8 +107,8 @@ class RatingServiceImplTest {
     assertEquals(9, response.getScore());
     assertNotNull(response.getUpdatedAt());
 
-    verify(ratingRepository).findByUserIdAndTitleId(userId, titleId);
-    verify(ratingRepository).save(any(Rating.class));
+    verify(ratingRepository).upsert(userId, titleId, 9);
+    verify(ratingRepository, never()).save(any(Rating.class));
   }
 
   @Test
@@ -198,6 +206,48 @@ class RatingServiceImplTest {
     verify(ratingRepository).findByUserIdOrderByCreatedAtDesc(userId, pageable);
   }
 
+  @Test
+  void testGetUserRatingsByCursor_FirstPage_ReturnsNextCursor() {
+    Rating rating1 = RatingFaker.generate(null, userId, UUID.randomUUID(), 8, LocalDateTime.of(2024, 3, 3, 0, 0), null);
+    Rating rating2 = RatingFaker.generate(null, userId, UUID.randomUUID(), 7, LocalDateTime.of(2024, 3, 2, 0, 0), null);
+    Rating rating3 = RatingFaker.generate(null, userId, UUID.randomUUID(), 6, LocalDateTime.of(2024, 3, 1, 0, 0), null);
+
+    // Page size 2 probes for a third row instead of counting
+    when(ratingRepository.findByUserIdBefore(eq(userId), any(LocalDateTime.class), any(UUID.class),
+        eq(PageRequest.of(0, 3)))).thenReturn(List.of(rating1, rating2, rating3));
+
+    CursorPage<RatingResponse> page = ratingService.getUserRatingsByCursor(userId, "", 2);
+
+    assertEquals(2, page.getContent().size());
+    assertTrue(page.isHasMore());
+    CursorUtils.Position next = CursorUtils.decode(page.getNextCursor(), false);
+    assertEquals(rating2.getCreatedAt(), next.createdAt());
+    assertEquals(rating2.getId(), next.id());
+    verify(ratingRepository, never()).countByUserId(any());
+  }
+
+  @Test
+  void testGetUserRatingsByCursor_SeeksFromCursor() {
+    LocalDateTime createdAt = LocalDateTime.of(2024, 3, 2, 12, 30, 15, 123456000);
+    UUID lastId = UUID.randomUUID();
+    String cursor = CursorUtils.encode(createdAt, lastId);
+
+    when(ratingRepository.findByUserIdBefore(userId, createdAt, lastId, PageRequest.of(0, 21)))
+        .thenReturn(List.of(testRating));
+
+    CursorPage<RatingResponse> page = ratingService.getUserRatingsByCursor(userId, cursor, 20);
+
+    assertEquals(1, page.getContent().size());
+    assertFalse(page.isHasMore());
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  void testGetUserRatingsByCursor_InvalidCursor() {
+    assertThrows(BadRequestException.class, () -> ratingService.getUserRatingsByCursor(userId, "not-a-cursor", 20));
+    verifyNoInteractions(ratingRepository);
+  }
+
   @Test
   void testGetRating_Success() {
     when(ratingRepository.findByUserIdAndTitleId(userId, titleId)).thenReturn(Optional.of(testRating));
@@ -254,4 +304,76 @@ class RatingServiceImplTest {
 
     verify(ratingRepository).findByTitleIdOrderByCreatedAtDesc(titleId, pageable);
   }
+
+  @Test
+  void testGetTitleRatingStats_ComputesFromHistogram() {
+    // Arrange: scores 6, 8, 8, 9 (sum 31)
+    TitleRatingHistogram histogram = new TitleRatingHistogram();
+    histogram.setTitleId(titleId);
+    histogram.setScore6(1);
+    histogram.setScore8(2);
+    histogram.setScore9(1);
+    when(titleRatingHistogramRepository.findById(titleId)).thenReturn(Optional.of(histogram));
+
+    // Act
+    TitleRatingStatsDto stats = ratingService.getTitleRatingStats(titleId);
+
+    // Assert
+    assertEquals(titleId, stats.getTitleId());
+    assertEquals(4, stats.getCount());
+    assertEquals(new BigDecimal("7.75"), stats.getUserMean());
+    assertEquals(new BigDecimal("8.0"), stats.getMedian());
+    assertEquals(6, stats.getPercentiles().get(25));
+    assertEquals(8, stats.getPercentiles().get(75));
+    assertEquals(9, stats.getPercentiles().get(90));
+    assertEquals(10, stats.getHistogram().size());
+    assertEquals(2, stats.getHistogram().get(8));
+    assertEquals(0, stats.getHistogram().get(1));
+    verifyNoInteractions(ratingRepository);
+    verify(titleRepository, never()).existsById(any());
+  }
+
+  @Test
+  void testGetTitleRatingStats_EvenCount_MedianBetweenMiddleScores() {
+    // Arrange: scores 7, 10
+    TitleRatingHistogram histogram = new TitleRatingHistogram();
+    histogram.setTitleId(titleId);
+    histogram.setScore7(1);
+    histogram.setScore10(1);
+    when(titleRatingHistogramRepository.findById(titleId)).thenReturn(Optional.of(histogram));
+
+    // Act
+    TitleRatingStatsDto stats = ratingService.getTitleRatingStats(titleId);
+
+    // Assert
+    assertEquals(new BigDecimal("8.5"), stats.getMedian());
+    assertEquals(new BigDecimal("8.50"), stats.getUserMean());
+  }
+
+  @Test
+  void testGetTitleRatingStats_NoRatingsYet_ReturnsEmptyStats() {
+    // Arrange
+    when(titleRatingHistogramRepository.findById(titleId)).thenReturn(Optional.empty());
+    when(titleRepository.existsById(titleId)).thenReturn(true);
+
+    // Act
+    TitleRatingStatsDto stats = ratingService.getTitleRatingStats(titleId);
+
+    // Assert
+    assertEquals(0, stats.getCount());
+    assertNull(stats.getUserMean());
+    assertNull(stats.getMedian());
+    assertTrue(stats.getPercentiles().isEmpty());
+    assertEquals(10, stats.getHistogram().size());
+  }
+
+  @Test
+  void testGetTitleRatingStats_TitleNotFound() {
+    // Arrange
+    when(titleRatingHistogramRepository.findById(titleId)).thenReturn(Optional.empty());
+    when(titleRepository.existsById(titleId)).thenReturn(false);
+
+    // Act & Assert
+    assertThrows(NotFoundException.class, () -> ratingService.getTitleRatingStats(titleId));
+  }
 }
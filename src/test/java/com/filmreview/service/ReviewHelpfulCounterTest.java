@@ -0,0 +1,249 @@
+package com.filmreview.service;
+
+import com.filmreview.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewHelpfulCounterTest {
+
+  private static final String LOCK_KEY = "lock:review-helpful-flush";
+  private static final List<String> READ_KEYS = List.of(ReviewHelpfulCounter.FLUSHING_BATCH_KEY,
+      ReviewHelpfulCounter.PENDING_KEY, ReviewHelpfulCounter.FLUSHING_KEY);
+  private static final List<String> START_KEYS = List.of(ReviewHelpfulCounter.PENDING_KEY,
+      ReviewHelpfulCounter.FLUSHING_KEY, ReviewHelpfulCounter.FLUSHING_BATCH_KEY);
+  private static final List<String> FINISH_KEYS = List.of(ReviewHelpfulCounter.FLUSHING_KEY,
+      ReviewHelpfulCounter.FLUSHING_BATCH_KEY);
+
+  @Mock
+  private ReviewRepository reviewRepository;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private HashOperations<String, Object, Object> hashOperations;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private ReviewHelpfulCounter counter;
+  private UUID reviewId;
+  private UUID otherReviewId;
+
+  @BeforeEach
+  void setUp() {
+    counter = new ReviewHelpfulCounter(reviewRepository, redisTemplate, transactionManager, 30_000);
+    reviewId = UUID.randomUUID();
+    otherReviewId = UUID.randomUUID();
+  }
+
+  @Test
+  void testAdd_NoTransaction_IncrementsPendingHash() {
+    // Arrange
+    doReturn(hashOperations).when(redisTemplate).opsForHash();
+
+    // Act
+    counter.add(reviewId, 1);
+
+    // Assert
+    verify(hashOperations).increment(ReviewHelpfulCounter.PENDING_KEY, reviewId.toString(), 1L);
+    verifyNoInteractions(reviewRepository);
+  }
+
+  @Test
+  void testAdd_RedisDown_AppliesDeltaDirectly() {
+    // Arrange
+    doReturn(hashOperations).when(redisTemplate).opsForHash();
+    when(hashOperations.increment(anyString(), any(), anyLong()))
+        .thenThrow(new RedisConnectionFailureException("down"));
+
+    // Act
+    counter.add(reviewId, -1);
+
+    // Assert
+    verify(reviewRepository).addHelpfulCounts(new UUID[] { reviewId }, new Integer[] { -1 });
+    verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void testGetPending_SumsPendingAndUnappliedFlushingDeltas() {
+    // Arrange
+    UUID batchId = UUID.randomUUID();
+    when(redisTemplate.execute(any(RedisScript.class), eq(READ_KEYS), anyString(), anyString()))
+        .thenReturn(List.of(batchId.toString(), "2", "1", "3", "-1"));
+    when(reviewRepository.existsHelpfulFlush(batchId)).thenReturn(false);
+
+    // Act
+    Map<UUID, Integer> pending = counter.getPending(List.of(reviewId, otherReviewId));
+
+    // Assert: deltas that cancel out are left out
+    assertEquals(Map.of(reviewId, 5), pending);
+  }
+
+  @Test
+  void testGetPending_FlushingBatchAlreadyApplied_CountsPendingOnly() {
+    // Arrange
+    UUID batchId = UUID.randomUUID();
+    when(redisTemplate.execute(any(RedisScript.class), eq(READ_KEYS), anyString()))
+        .thenReturn(List.of(batchId.toString(), "2", "3"));
+    when(reviewRepository.existsHelpfulFlush(batchId)).thenReturn(true);
+
+    // Act
+    Map<UUID, Integer> pending = counter.getPending(List.of(reviewId));
+
+    // Assert: the flushing deltas are already in the stored count
+    assertEquals(Map.of(reviewId, 2), pending);
+  }
+
+  @Test
+  void testGetPending_NoFlushInProgress_SkipsBatchLookup() {
+    // Arrange
+    when(redisTemplate.execute(any(RedisScript.class), eq(READ_KEYS), anyString()))
+        .thenReturn(List.of("", "1", ""));
+
+    // Act
+    Map<UUID, Integer> pending = counter.getPending(List.of(reviewId));
+
+    // Assert
+    assertEquals(Map.of(reviewId, 1), pending);
+    verify(reviewRepository, never()).existsHelpfulFlush(any());
+  }
+
+  @Test
+  void testGetPending_RedisDown_ReturnsEmpty() {
+    // Arrange
+    when(redisTemplate.execute(any(RedisScript.class), eq(READ_KEYS), anyString()))
+        .thenThrow(new RedisConnectionFailureException("down"));
+
+    // Act
+    Map<UUID, Integer> pending = counter.getPending(List.of(reviewId));
+
+    // Assert
+    assertTrue(pending.isEmpty());
+  }
+
+  @Test
+  void testFlush_AppliesBatchOnceAndFinishesItBeforeReleasingLock() {
+    // Arrange
+    UUID batchId = UUID.randomUUID();
+    stubLockAndBatch(batchId);
+    when(hashOperations.entries(ReviewHelpfulCounter.FLUSHING_KEY))
+        .thenReturn(Map.of(reviewId.toString(), "4"));
+    when(reviewRepository.insertHelpfulFlush(eq(batchId), any(LocalDateTime.class))).thenReturn(1);
+
+    // Act
+    int flushed = counter.flush();
+
+    // Assert
+    assertEquals(1, flushed);
+    InOrder inOrder = inOrder(reviewRepository, transactionManager, redisTemplate);
+    inOrder.verify(reviewRepository).insertHelpfulFlush(eq(batchId), any(LocalDateTime.class));
+    inOrder.verify(reviewRepository).addHelpfulCounts(new UUID[] { reviewId }, new Integer[] { 4 });
+    inOrder.verify(transactionManager).commit(any());
+    inOrder.verify(redisTemplate).execute(any(RedisScript.class), eq(FINISH_KEYS), eq(batchId.toString()));
+    inOrder.verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), anyString());
+  }
+
+  @Test
+  void testFlush_BatchAlreadyApplied_SkipsUpdateAndFinishesBatch() {
+    // Arrange
+    UUID batchId = UUID.randomUUID();
+    stubLockAndBatch(batchId);
+    when(hashOperations.entries(ReviewHelpfulCounter.FLUSHING_KEY))
+        .thenReturn(Map.of(reviewId.toString(), "1"));
+    when(reviewRepository.insertHelpfulFlush(eq(batchId), any(LocalDateTime.class))).thenReturn(0);
+
+    // Act
+    int flushed = counter.flush();
+
+    // Assert
+    assertEquals(0, flushed);
+    verify(reviewRepository, never()).addHelpfulCounts(any(), any());
+    verify(redisTemplate).execute(any(RedisScript.class), eq(FINISH_KEYS), eq(batchId.toString()));
+  }
+
+  @Test
+  void testFlush_NothingPending_DoesNothing() {
+    // Arrange
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+    lenient().when(redisTemplate.execute(any(RedisScript.class), eq(START_KEYS), anyString()))
+        .thenReturn(null);
+
+    // Act
+    int flushed = counter.flush();
+
+    // Assert
+    assertEquals(0, flushed);
+    verifyNoInteractions(reviewRepository);
+    verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), anyString());
+  }
+
+  @Test
+  void testFlush_UpdateFails_KeepsBatchAndReleasesLock() {
+    // Arrange
+    UUID batchId = UUID.randomUUID();
+    stubLockAndBatch(batchId);
+    when(hashOperations.entries(ReviewHelpfulCounter.FLUSHING_KEY))
+        .thenReturn(Map.of(reviewId.toString(), "1"));
+    when(reviewRepository.insertHelpfulFlush(eq(batchId), any(LocalDateTime.class))).thenReturn(1);
+    when(reviewRepository.addHelpfulCounts(any(), any())).thenThrow(new RuntimeException("db down"));
+
+    // Act
+    int flushed = counter.flush();
+
+    // Assert
+    assertEquals(0, flushed);
+    verify(redisTemplate, never()).execute(any(RedisScript.class), eq(FINISH_KEYS), anyString());
+    verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), anyString());
+  }
+
+  @Test
+  void testFlush_LockHeldElsewhere_DoesNothing() {
+    // Arrange
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+    // Act
+    int flushed = counter.flush();
+
+    // Assert
+    assertEquals(0, flushed);
+    verify(redisTemplate, never()).execute(any(RedisScript.class), eq(START_KEYS), anyString());
+    verifyNoInteractions(reviewRepository);
+  }
+
+  private void stubLockAndBatch(UUID batchId) {
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+    lenient().when(redisTemplate.execute(any(RedisScript.class), eq(START_KEYS), anyString()))
+        .thenReturn(batchId.toString());
+    doReturn(hashOperations).when(redisTemplate).opsForHash();
+  }
+}
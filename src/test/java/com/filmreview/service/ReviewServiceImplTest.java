@@ -1,12 +1,12 @@
 package com.filmreview.service;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.dto.ReviewRequest;
 import com.filmreview.dto.ReviewResponse;
 import com.filmreview.dto.ReviewUpdateRequest;
 import com.filmreview.dto.TitleDto;
 import com.filmreview.entity.Rating;
 import com.filmreview.entity.Review;
-import com.filmreview.entity.ReviewHelpful;
 import com.filmreview.entity.Title;
 import com.filmreview.entity.User;
 import com.filmreview.exception.BadRequestException;
@@ -20,6 +20,8 @@ import com.filmreview.repository.ReviewHelpfulRepository;
 import com.filmreview.repository.ReviewRepository;
 import com.filmreview.repository.TitleRepository;
 import com.filmreview.repository.UserRepository;
+import com.filmreview.util.CursorUtils;
+import com.filmreview.util.FieldSelection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,11 +35,14 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -61,6 +66,9 @@ class ReviewServiceImplTest {
   @Mock
   private TitleDtoMapper titleDtoMapper;
 
+  @Mock
+  private ReviewHelpfulCounter reviewHelpfulCounter;
+
   @InjectMocks
   private ReviewServiceImpl reviewService;
 
@@ -114,12 +122,7 @@ class ReviewServiceImplTest {
 
     when(titleRepository.findById(titleId)).thenReturn(Optional.of(testTitle));
     when(reviewRepository.findByUserIdAndTitleId(userId, titleId)).thenReturn(Optional.empty());
-    when(ratingRepository.findByUserIdAndTitleId(userId, titleId)).thenReturn(Optional.empty());
-    when(ratingRepository.save(any(Rating.class))).thenAnswer(invocation -> {
-      Rating rating = invocation.getArgument(0);
-      rating.setId(ratingId);
-      return rating;
-    });
+    when(ratingRepository.upsert(userId, titleId, 9)).thenReturn(testRating);
     when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> {
       Review review = invocation.getArgument(0);
       review.setId(reviewId);
@@ -147,8 +150,8 @@ class ReviewServiceImplTest {
     // mapToResponse
     verify(titleRepository, atLeastOnce()).findById(titleId);
     verify(reviewRepository).findByUserIdAndTitleId(userId, titleId);
-    verify(ratingRepository).findByUserIdAndTitleId(userId, titleId);
-    verify(ratingRepository).save(any(Rating.class));
+    verify(ratingRepository).upsert(userId, titleId, 9);
+    verify(ratingRepository, never()).save(any(Rating.class));
     verify(reviewRepository).save(any(Review.class));
   }
 
@@ -202,11 +205,9 @@ class ReviewServiceImplTest {
 
     when(titleRepository.findById(titleId)).thenReturn(Optional.of(testTitle));
     when(reviewRepository.findByUserIdAndTitleId(userId, titleId)).thenReturn(Optional.empty());
-    when(ratingRepository.findByUserIdAndTitleId(userId, titleId)).thenReturn(Optional.of(testRating));
-    when(ratingRepository.save(any(Rating.class))).thenAnswer(invocation -> {
-      Rating rating = invocation.getArgument(0);
-      rating.setScore(10);
-      return rating;
+    when(ratingRepository.upsert(userId, titleId, 10)).thenAnswer(invocation -> {
+      testRating.setScore(10);
+      return testRating;
     });
     when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> {
       Review review = invocation.getArgument(0);
@@ -225,8 +226,9 @@ class ReviewServiceImplTest {
 
     // Assert
     assertNotNull(response);
-    verify(ratingRepository).save(any(Rating.class));
-    verify(ratingRepository).findByUserIdAndTitleId(userId, titleId);
+    assertEquals(ratingId, response.getRatingId());
+    verify(ratingRepository).upsert(userId, titleId, 10);
+    verify(ratingRepository, never()).findByUserIdAndTitleId(any(), any());
   }
 
   // ========== getReviewById Tests ==========
@@ -251,6 +253,24 @@ class ReviewServiceImplTest {
     verify(reviewRepository).findByIdAndNotDeleted(reviewId);
   }
 
+  @Test
+  void testGetReviewById_AddsPendingHelpfulVotes() {
+    // Arrange
+    testReview.setHelpfulCount(3);
+    when(reviewRepository.findByIdAndNotDeleted(reviewId)).thenReturn(Optional.of(testReview));
+    when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+    when(titleRepository.findById(titleId)).thenReturn(Optional.of(testTitle));
+    when(ratingRepository.findById(ratingId)).thenReturn(Optional.of(testRating));
+    when(titleDtoMapper.toDto(any(Title.class))).thenReturn(new TitleDto());
+    when(reviewHelpfulCounter.getPending(List.of(reviewId))).thenReturn(Map.of(reviewId, 2));
+
+    // Act
+    ReviewResponse response = reviewService.getReviewById(reviewId);
+
+    // Assert: stored count plus the votes not yet flushed
+    assertEquals(5, response.getHelpfulCount());
+  }
+
   @Test
   void testGetReviewById_NotFound() {
     // Arrange
@@ -327,11 +347,9 @@ class ReviewServiceImplTest {
     request.setRatingScore(10);
 
     when(reviewRepository.findByIdAndNotDeleted(reviewId)).thenReturn(Optional.of(testReview));
-    when(ratingRepository.findByUserIdAndTitleId(userId, titleId)).thenReturn(Optional.of(testRating));
-    when(ratingRepository.save(any(Rating.class))).thenAnswer(invocation -> {
-      Rating rating = invocation.getArgument(0);
-      rating.setScore(10);
-      return rating;
+    when(ratingRepository.upsert(userId, titleId, 10)).thenAnswer(invocation -> {
+      testRating.setScore(10);
+      return testRating;
     });
     when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
     when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
@@ -344,8 +362,9 @@ class ReviewServiceImplTest {
 
     // Assert
     assertNotNull(response);
-    verify(ratingRepository).findByUserIdAndTitleId(userId, titleId);
-    verify(ratingRepository).save(any(Rating.class));
+    assertEquals(10, response.getRating().getScore());
+    verify(ratingRepository).upsert(userId, titleId, 10);
+    verify(ratingRepository, never()).save(any(Rating.class));
   }
 
   @Test
@@ -357,12 +376,7 @@ class ReviewServiceImplTest {
     testReview.setRatingId(null); // No existing rating
 
     when(reviewRepository.findByIdAndNotDeleted(reviewId)).thenReturn(Optional.of(testReview));
-    when(ratingRepository.findByUserIdAndTitleId(userId, titleId)).thenReturn(Optional.empty());
-    when(ratingRepository.save(any(Rating.class))).thenAnswer(invocation -> {
-      Rating rating = invocation.getArgument(0);
-      rating.setId(ratingId);
-      return rating;
-    });
+    when(ratingRepository.upsert(userId, titleId, 7)).thenReturn(testRating);
     when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
     when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
     when(titleRepository.findById(titleId)).thenReturn(Optional.of(testTitle));
@@ -373,7 +387,8 @@ class ReviewServiceImplTest {
 
     // Assert
     assertNotNull(response);
-    verify(ratingRepository).save(any(Rating.class));
+    assertEquals(ratingId, response.getRatingId());
+    verify(ratingRepository).upsert(userId, titleId, 7);
   }
 
   // ========== deleteReview Tests ==========
@@ -448,13 +463,10 @@ class ReviewServiceImplTest {
     Page<Review> reviewPage = new PageImpl<>(reviews, pageable, 1);
 
     when(reviewRepository.findByTitleIdOrderByCreatedAtDesc(titleId, pageable)).thenReturn(reviewPage);
-    when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-    when(titleRepository.findById(titleId)).thenReturn(Optional.of(testTitle));
-    when(ratingRepository.findById(ratingId)).thenReturn(Optional.of(testRating));
-    when(titleDtoMapper.toDto(any(Title.class))).thenReturn(new TitleDto());
+    stubPageHydration();
 
     // Act
-    Page<ReviewResponse> response = reviewService.getTitleReviews(titleId, pageable);
+    Page<ReviewResponse> response = reviewService.getTitleReviews(titleId, pageable, FieldSelection.ALL);
 
     // Assert
     assertNotNull(response);
@@ -471,7 +483,7 @@ class ReviewServiceImplTest {
     when(reviewRepository.findByTitleIdOrderByCreatedAtDesc(titleId, pageable)).thenReturn(emptyPage);
 
     // Act
-    Page<ReviewResponse> response = reviewService.getTitleReviews(titleId, pageable);
+    Page<ReviewResponse> response = reviewService.getTitleReviews(titleId, pageable, FieldSelection.ALL);
 
     // Assert
     assertNotNull(response);
@@ -488,13 +500,10 @@ class ReviewServiceImplTest {
     Page<Review> reviewPage = new PageImpl<>(reviews, pageable, 1);
 
     when(reviewRepository.findByTitleIdOrderByHelpfulCountDesc(titleId, pageable)).thenReturn(reviewPage);
-    when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-    when(titleRepository.findById(titleId)).thenReturn(Optional.of(testTitle));
-    when(ratingRepository.findById(ratingId)).thenReturn(Optional.of(testRating));
-    when(titleDtoMapper.toDto(any(Title.class))).thenReturn(new TitleDto());
+    stubPageHydration();
 
     // Act
-    Page<ReviewResponse> response = reviewService.getTitleReviewsByHelpful(titleId, pageable);
+    Page<ReviewResponse> response = reviewService.getTitleReviewsByHelpful(titleId, pageable, FieldSelection.ALL);
 
     // Assert
     assertNotNull(response);
@@ -502,6 +511,104 @@ class ReviewServiceImplTest {
     verify(reviewRepository).findByTitleIdOrderByHelpfulCountDesc(titleId, pageable);
   }
 
+  // ========== getTitleReviewsByHelpfulByCursor Tests ==========
+
+  @Test
+  void testGetTitleReviewsByHelpfulByCursor_SeeksFromCursor() {
+    // Arrange
+    LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+    UUID lastId = UUID.randomUUID();
+    String cursor = CursorUtils.encode(7, createdAt, lastId);
+
+    when(reviewRepository.findByTitleIdBeforeByHelpful(titleId, 7, createdAt, lastId, PageRequest.of(0, 2)))
+        .thenReturn(List.of(testReview));
+    stubPageHydration();
+
+    // Act
+    CursorPage<ReviewResponse> response = reviewService.getTitleReviewsByHelpfulByCursor(
+        titleId, cursor, 1, FieldSelection.ALL);
+
+    // Assert
+    assertEquals(1, response.getContent().size());
+    assertFalse(response.isHasMore());
+    assertNull(response.getNextCursor());
+  }
+
+  @Test
+  void testGetTitleReviewsByHelpfulByCursor_RejectsNewestCursor() {
+    // Arrange
+    String newestCursor = CursorUtils.encode(LocalDateTime.now(), UUID.randomUUID());
+
+    // Act & Assert
+    assertThrows(BadRequestException.class,
+        () -> reviewService.getTitleReviewsByHelpfulByCursor(titleId, newestCursor, 20, FieldSelection.ALL));
+    verifyNoInteractions(reviewRepository);
+  }
+
+  // ========== getTitleReviewsVersioned Tests ==========
+
+  @Test
+  void testGetTitleReviewsVersioned_ScopedToPageAndTracksPendingHelpfulVotes() {
+    // Arrange
+    Pageable pageable = PageRequest.of(0, 10);
+    when(reviewRepository.findByTitleIdOrderByCreatedAtDesc(titleId, pageable))
+        .thenReturn(new PageImpl<>(List.of(testReview), pageable, 1));
+    when(reviewRepository.findListVersionByIdIn(List.of(reviewId)))
+        .thenReturn(mock(ReviewRepository.ListVersion.class));
+    when(reviewHelpfulCounter.getPending(List.of(reviewId)))
+        .thenReturn(Map.of())
+        .thenReturn(Map.of(reviewId, 1));
+
+    // Act
+    String before = reviewService.getTitleReviewsVersioned(titleId, false, pageable, FieldSelection.ALL).etag();
+    String after = reviewService.getTitleReviewsVersioned(titleId, false, pageable, FieldSelection.ALL).etag();
+
+    // Assert: an unflushed vote changes the ETag, and nothing outside the page is aggregated
+    assertNotEquals(before, after);
+    verify(reviewRepository, times(2)).findListVersionByIdIn(List.of(reviewId));
+  }
+
+  @Test
+  void testGetTitleReviewsVersioned_OtherPage_DiffersWithoutVersionQuery() {
+    // Arrange
+    Pageable firstPage = PageRequest.of(0, 10);
+    Pageable secondPage = PageRequest.of(1, 10);
+    when(reviewRepository.findByTitleIdOrderByCreatedAtDesc(eq(titleId), any(Pageable.class)))
+        .thenAnswer(invocation -> new PageImpl<>(List.of(), invocation.getArgument(1), 0));
+
+    // Act
+    String first = reviewService.getTitleReviewsVersioned(titleId, false, firstPage, FieldSelection.ALL).etag();
+    String second = reviewService.getTitleReviewsVersioned(titleId, false, secondPage, FieldSelection.ALL).etag();
+
+    // Assert
+    assertNotEquals(first, second);
+    verify(reviewRepository, never()).findListVersionByIdIn(any());
+    verifyNoInteractions(reviewHelpfulCounter);
+  }
+
+  @Test
+  void testGetTitleReviewsVersioned_Body_MapsLoadedRowsWithoutReloading() {
+    // Arrange
+    Pageable pageable = PageRequest.of(0, 10);
+    when(reviewRepository.findByTitleIdOrderByCreatedAtDesc(titleId, pageable))
+        .thenReturn(new PageImpl<>(List.of(testReview), pageable, 1));
+    when(reviewRepository.findListVersionByIdIn(List.of(reviewId)))
+        .thenReturn(mock(ReviewRepository.ListVersion.class));
+    when(reviewHelpfulCounter.getPending(List.of(reviewId))).thenReturn(Map.of(reviewId, 2));
+    stubPageHydration();
+
+    // Act
+    ReviewService.Versioned<Page<ReviewResponse>> versioned =
+        reviewService.getTitleReviewsVersioned(titleId, false, pageable, FieldSelection.ALL);
+    Page<ReviewResponse> body = versioned.body().get();
+
+    // Assert: one page query and one pending read serve both the ETag and the body
+    assertEquals(1, body.getTotalElements());
+    assertEquals(testReview.getHelpfulCount() + 2, body.getContent().get(0).getHelpfulCount());
+    verify(reviewRepository, times(1)).findByTitleIdOrderByCreatedAtDesc(titleId, pageable);
+    verify(reviewHelpfulCounter, times(1)).getPending(List.of(reviewId));
+  }
+
   // ========== getUserReviews Tests ==========
 
   @Test
@@ -512,13 +619,10 @@ class ReviewServiceImplTest {
     Page<Review> reviewPage = new PageImpl<>(reviews, pageable, 1);
 
     when(reviewRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)).thenReturn(reviewPage);
-    when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-    when(titleRepository.findById(titleId)).thenReturn(Optional.of(testTitle));
-    when(ratingRepository.findById(ratingId)).thenReturn(Optional.of(testRating));
-    when(titleDtoMapper.toDto(any(Title.class))).thenReturn(new TitleDto());
+    stubPageHydration();
 
     // Act
-    Page<ReviewResponse> response = reviewService.getUserReviews(userId, pageable);
+    Page<ReviewResponse> response = reviewService.getUserReviews(userId, pageable, FieldSelection.ALL);
 
     // Assert
     assertNotNull(response);
@@ -526,6 +630,72 @@ class ReviewServiceImplTest {
     verify(reviewRepository).findByUserIdOrderByCreatedAtDesc(userId, pageable);
   }
 
+  @Test
+  void testGetUserReviews_HydratesPageWithOneQueryPerEntityType() {
+    // Arrange
+    Pageable pageable = PageRequest.of(0, 10);
+    UUID otherTitleId = UUID.randomUUID();
+    Title otherTitle = new Title();
+    otherTitle.setId(otherTitleId);
+    otherTitle.setTitle("Other Movie");
+    Review otherReview = ReviewFaker.generate(UUID.randomUUID(), userId, otherTitleId, null, "Another Review",
+        "Second review by the same user.", false, 0, null, LocalDateTime.now(), LocalDateTime.now());
+    otherReview.setRatingId(null);
+    Page<Review> reviewPage = new PageImpl<>(List.of(testReview, otherReview), pageable, 2);
+    TitleDto titleDto = new TitleDto();
+    titleDto.setTitle("Test Movie");
+    TitleDto otherTitleDto = new TitleDto();
+    otherTitleDto.setTitle("Other Movie");
+
+    when(reviewRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)).thenReturn(reviewPage);
+    when(userRepository.findAllById(Set.of(userId))).thenReturn(List.of(testUser));
+    when(titleRepository.findAllById(Set.of(titleId, otherTitleId))).thenReturn(List.of(otherTitle, testTitle));
+    when(titleDtoMapper.toDtoList(List.of(otherTitle, testTitle))).thenReturn(List.of(otherTitleDto, titleDto));
+    when(ratingRepository.findAllById(Set.of(ratingId))).thenReturn(List.of(testRating));
+
+    // Act
+    Page<ReviewResponse> response = reviewService.getUserReviews(userId, pageable, FieldSelection.ALL);
+
+    // Assert
+    assertEquals(2, response.getContent().size());
+    assertEquals("Test Movie", response.getContent().get(0).getTitle().getTitle());
+    assertEquals("Other Movie", response.getContent().get(1).getTitle().getTitle());
+    assertEquals("testuser", response.getContent().get(1).getUser().getUsername());
+    assertNotNull(response.getContent().get(0).getRating());
+    assertNull(response.getContent().get(1).getRating());
+    verify(userRepository, never()).findById(any());
+    verify(titleRepository, never()).findById(any());
+    verify(ratingRepository, never()).findById(any());
+    verify(titleDtoMapper, never()).toDto(any());
+  }
+
+  @Test
+  void testGetUserReviews_SparseFields_LoadsOnlySelectedEntities() {
+    // Arrange
+    Pageable pageable = PageRequest.of(0, 10);
+    Page<Review> reviewPage = new PageImpl<>(List.of(testReview), pageable, 1);
+    TitleRepository.TitleCard card = mock(TitleRepository.TitleCard.class);
+    when(card.getId()).thenReturn(titleId);
+    TitleDto cardDto = new TitleDto();
+    cardDto.setSlug("test-movie");
+
+    when(reviewRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)).thenReturn(reviewPage);
+    when(titleRepository.findCardsByIdIn(Set.of(titleId))).thenReturn(List.of(card));
+    when(titleDtoMapper.toCardDto(card)).thenReturn(cardDto);
+
+    // Act
+    Page<ReviewResponse> response = reviewService.getUserReviews(
+        userId, pageable, FieldSelection.parse("id,content,title.slug,title.posterUrl"));
+
+    // Assert
+    assertEquals("test-movie", response.getContent().get(0).getTitle().getSlug());
+    assertNull(response.getContent().get(0).getUser());
+    assertNull(response.getContent().get(0).getRating());
+    verify(userRepository, never()).findAllById(any());
+    verify(ratingRepository, never()).findAllById(any());
+    verify(titleRepository, never()).findAllById(any());
+  }
+
   // ========== getUserReviewForTitle Tests ==========
 
   @Test
@@ -568,20 +738,17 @@ class ReviewServiceImplTest {
         false, 0, null, null, null);
 
     when(reviewRepository.findByIdAndNotDeleted(reviewId)).thenReturn(Optional.of(otherReview));
-    when(reviewHelpfulRepository.existsByUserIdAndReviewId(userId, reviewId)).thenReturn(false);
-    when(reviewHelpfulRepository.save(any(ReviewHelpful.class))).thenAnswer(invocation -> {
-      ReviewHelpful helpful = invocation.getArgument(0);
-      helpful.setId(UUID.randomUUID());
-      return helpful;
-    });
+    when(reviewHelpfulRepository.insertIfAbsent(userId, reviewId)).thenReturn(1);
 
     // Act
     reviewService.markHelpful(userId, reviewId);
 
     // Assert
     verify(reviewRepository).findByIdAndNotDeleted(reviewId);
-    verify(reviewHelpfulRepository).existsByUserIdAndReviewId(userId, reviewId);
-    verify(reviewHelpfulRepository).save(any(ReviewHelpful.class));
+    verify(reviewHelpfulRepository).insertIfAbsent(userId, reviewId);
+    verify(reviewHelpfulRepository, never()).existsByUserIdAndReviewId(any(), any());
+    verify(reviewHelpfulCounter).add(reviewId, 1);
+    verify(reviewRepository, never()).save(any(Review.class));
   }
 
   @Test
@@ -593,7 +760,8 @@ class ReviewServiceImplTest {
     assertThrows(NotFoundException.class, () -> reviewService.markHelpful(userId, reviewId));
 
     verify(reviewRepository).findByIdAndNotDeleted(reviewId);
-    verify(reviewHelpfulRepository, never()).save(any(ReviewHelpful.class));
+    verify(reviewHelpfulRepository, never()).insertIfAbsent(any(), any());
+    verifyNoInteractions(reviewHelpfulCounter);
   }
 
   @Test
@@ -605,7 +773,8 @@ class ReviewServiceImplTest {
     assertThrows(BadRequestException.class, () -> reviewService.markHelpful(userId, reviewId));
 
     verify(reviewRepository).findByIdAndNotDeleted(reviewId);
-    verify(reviewHelpfulRepository, never()).save(any(ReviewHelpful.class));
+    verify(reviewHelpfulRepository, never()).insertIfAbsent(any(), any());
+    verifyNoInteractions(reviewHelpfulCounter);
   }
 
   @Test
@@ -617,14 +786,14 @@ class ReviewServiceImplTest {
         false, 0, null, null, null);
 
     when(reviewRepository.findByIdAndNotDeleted(reviewId)).thenReturn(Optional.of(otherReview));
-    when(reviewHelpfulRepository.existsByUserIdAndReviewId(userId, reviewId)).thenReturn(true);
+    when(reviewHelpfulRepository.insertIfAbsent(userId, reviewId)).thenReturn(0);
 
     // Act & Assert
     assertThrows(BadRequestException.class, () -> reviewService.markHelpful(userId, reviewId));
 
     verify(reviewRepository).findByIdAndNotDeleted(reviewId);
-    verify(reviewHelpfulRepository).existsByUserIdAndReviewId(userId, reviewId);
-    verify(reviewHelpfulRepository, never()).save(any(ReviewHelpful.class));
+    verify(reviewHelpfulRepository).insertIfAbsent(userId, reviewId);
+    verifyNoInteractions(reviewHelpfulCounter);
   }
 
   // ========== unmarkHelpful Tests ==========
@@ -633,7 +802,7 @@ class ReviewServiceImplTest {
   void testUnmarkHelpful_Success() {
     // Arrange
     when(reviewRepository.findByIdAndNotDeleted(reviewId)).thenReturn(Optional.of(testReview));
-    doNothing().when(reviewHelpfulRepository).deleteByUserIdAndReviewId(userId, reviewId);
+    when(reviewHelpfulRepository.deleteByUserIdAndReviewId(userId, reviewId)).thenReturn(1);
 
     // Act
     reviewService.unmarkHelpful(userId, reviewId);
@@ -641,6 +810,7 @@ class ReviewServiceImplTest {
     // Assert
     verify(reviewRepository).findByIdAndNotDeleted(reviewId);
     verify(reviewHelpfulRepository).deleteByUserIdAndReviewId(userId, reviewId);
+    verify(reviewHelpfulCounter).add(reviewId, -1);
   }
 
   @Test
@@ -659,14 +829,24 @@ class ReviewServiceImplTest {
   void testUnmarkHelpful_NotMarked() {
     // Arrange
     when(reviewRepository.findByIdAndNotDeleted(reviewId)).thenReturn(Optional.of(testReview));
-    doNothing().when(reviewHelpfulRepository).deleteByUserIdAndReviewId(userId, reviewId);
+    when(reviewHelpfulRepository.deleteByUserIdAndReviewId(userId, reviewId)).thenReturn(0);
 
-    // Act - Should not throw exception even if not marked (implementation doesn't
-    // check)
+    // Act - Should not throw exception even if not marked
     reviewService.unmarkHelpful(userId, reviewId);
 
-    // Assert
+    // Assert: nothing deleted, so the count is left alone
     verify(reviewRepository).findByIdAndNotDeleted(reviewId);
     verify(reviewHelpfulRepository).deleteByUserIdAndReviewId(userId, reviewId);
+    verifyNoInteractions(reviewHelpfulCounter);
+  }
+
+  /**
+   * Helper method to stub the batched lookups for a page of testReview.
+   */
+  private void stubPageHydration() {
+    when(userRepository.findAllById(Set.of(userId))).thenReturn(List.of(testUser));
+    when(titleRepository.findAllById(Set.of(titleId))).thenReturn(List.of(testTitle));
+    when(titleDtoMapper.toDtoList(List.of(testTitle))).thenReturn(List.of(new TitleDto()));
+    when(ratingRepository.findAllById(Set.of(ratingId))).thenReturn(List.of(testRating));
   }
 }
@@ -0,0 +1,168 @@
+package com.filmreview.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.filmreview.dto.TitleDto;
+import com.filmreview.entity.Title;
+import com.filmreview.exception.NotFoundException;
+import com.filmreview.mapper.TitleDtoMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TitleDetailServiceImplTest {
+
+  @Mock
+  private TitleService titleService;
+
+  @Mock
+  private TitleDtoMapper titleDtoMapper;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  private ObjectMapper objectMapper;
+  private TitleDetailServiceImpl titleDetailService;
+  private Title testMovie;
+  private TitleDto movieDto;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper().findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    titleDetailService = new TitleDetailServiceImpl(
+        titleService, titleDtoMapper, redisTemplate, objectMapper, 100, 30000, 600000);
+
+    testMovie = new Title();
+    testMovie.setId(UUID.randomUUID());
+    testMovie.setType(Title.TitleType.movie);
+    testMovie.setTmdbId(603);
+    testMovie.setTitle("The Matrix");
+    testMovie.setSlug("the-matrix-1999");
+
+    movieDto = new TitleDto();
+    movieDto.setId(testMovie.getId());
+    movieDto.setTmdbId(603);
+    movieDto.setType("movie");
+    movieDto.setTitle("The Matrix");
+    movieDto.setSlug("the-matrix-1999");
+    movieDto.setReleaseDate(LocalDate.of(1999, 3, 31));
+    movieDto.setUserRatingAvg(new BigDecimal("8.70"));
+
+    lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+  }
+
+  @Test
+  void testGetTitleDetailBySlug_Miss_LoadsOnceAndWritesThrough() {
+    // Arrange
+    when(titleService.getTitleBySlug("the-matrix-1999")).thenReturn(testMovie);
+    when(titleDtoMapper.toDto(testMovie)).thenReturn(movieDto);
+
+    // Act
+    TitleDto first = titleDetailService.getTitleDetailBySlug("the-matrix-1999");
+    TitleDto second = titleDetailService.getTitleDetailBySlug("the-matrix-1999");
+
+    // Assert - second lookup is served from L1
+    assertSame(movieDto, first);
+    assertSame(movieDto, second);
+    verify(titleService, times(1)).getTitleBySlug("the-matrix-1999");
+    verify(valueOperations, times(1)).get("title:alias:slug:the-matrix-1999");
+    verify(valueOperations).set(eq("title:detail:" + testMovie.getId()), anyString(), any(Duration.class));
+    verify(valueOperations).set(eq("title:alias:slug:the-matrix-1999"), eq(testMovie.getId().toString()),
+        any(Duration.class));
+    verify(valueOperations).set(eq("title:alias:tmdb:movie:603"), eq(testMovie.getId().toString()),
+        any(Duration.class));
+  }
+
+  @Test
+  void testGetTitleDetailByTmdbId_ServedFromRedis() throws Exception {
+    // Arrange
+    String titleId = testMovie.getId().toString();
+    when(valueOperations.get("title:alias:tmdb:movie:603")).thenReturn(titleId);
+    when(valueOperations.get("title:detail:" + titleId)).thenReturn(objectMapper.writeValueAsString(movieDto));
+
+    // Act
+    TitleDto result = titleDetailService.getTitleDetailByTmdbId(603, "movie");
+
+    // Assert
+    assertEquals("The Matrix", result.getTitle());
+    assertEquals(LocalDate.of(1999, 3, 31), result.getReleaseDate());
+    assertEquals(new BigDecimal("8.70"), result.getUserRatingAvg());
+    verifyNoInteractions(titleService, titleDtoMapper);
+  }
+
+  @Test
+  void testGetTitleDetail_SlugAndTmdbIdShareEntry() {
+    // Arrange
+    when(titleService.getTitleByTmdbId(603, "movie")).thenReturn(testMovie);
+    when(titleDtoMapper.toDto(testMovie)).thenReturn(movieDto);
+    titleDetailService.getTitleDetailByTmdbId(603, "movie");
+
+    // Act
+    TitleDto result = titleDetailService.getTitleDetailBySlug("the-matrix-1999");
+
+    // Assert
+    assertSame(movieDto, result);
+    verify(titleService, never()).getTitleBySlug(anyString());
+  }
+
+  @Test
+  void testEvict_NextLookupReloads() {
+    // Arrange
+    when(titleService.getTitleBySlug("the-matrix-1999")).thenReturn(testMovie);
+    when(titleDtoMapper.toDto(testMovie)).thenReturn(movieDto);
+    titleDetailService.getTitleDetailBySlug("the-matrix-1999");
+
+    // Act
+    titleDetailService.evict(testMovie.getId());
+    titleDetailService.getTitleDetailBySlug("the-matrix-1999");
+
+    // Assert
+    verify(redisTemplate).delete("title:detail:" + testMovie.getId());
+    verify(titleService, times(2)).getTitleBySlug("the-matrix-1999");
+  }
+
+  @Test
+  void testGetTitleDetail_RedisDown_FallsBackToDb() {
+    // Arrange
+    when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+    doThrow(new RedisConnectionFailureException("down"))
+        .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+    when(titleService.getTitleBySlug("the-matrix-1999")).thenReturn(testMovie);
+    when(titleDtoMapper.toDto(testMovie)).thenReturn(movieDto);
+
+    // Act
+    TitleDto result = titleDetailService.getTitleDetailBySlug("the-matrix-1999");
+
+    // Assert
+    assertSame(movieDto, result);
+  }
+
+  @Test
+  void testGetTitleDetail_NotFound_Propagates() {
+    // Arrange
+    when(titleService.getTitleBySlug("missing")).thenThrow(new NotFoundException("Title not found"));
+
+    // Act & Assert
+    assertThrows(NotFoundException.class, () -> titleDetailService.getTitleDetailBySlug("missing"));
+    verify(titleDtoMapper, never()).toDto(any());
+  }
+}
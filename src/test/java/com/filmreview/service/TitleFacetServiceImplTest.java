@@ -0,0 +1,177 @@
+package com.filmreview.service;
+
+import com.filmreview.dto.TitleFacetsDto;
+import com.filmreview.entity.Title;
+import com.filmreview.repository.TitleGenreRepository;
+import com.filmreview.repository.TitleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TitleFacetServiceImplTest {
+
+  private static final int ACTION = 28;
+  private static final int DRAMA = 18;
+
+  @Mock
+  private TitleRepository titleRepository;
+
+  @Mock
+  private TitleGenreRepository titleGenreRepository;
+
+  @InjectMocks
+  private TitleFacetServiceImpl titleFacetService;
+
+  private List<TitleRepository.FacetSource> sources;
+  private List<TitleGenreRepository.TitleGenrePair> pairs;
+
+  @BeforeEach
+  void setUp() {
+    sources = new ArrayList<>();
+    pairs = new ArrayList<>();
+    addSource(Title.TitleType.movie, 1999, "8.70", ACTION);
+    addSource(Title.TitleType.movie, 2008, "9.00", ACTION, DRAMA);
+    addSource(Title.TitleType.movie, 2003, "7.20", ACTION);
+    addSource(Title.TitleType.tv_show, 2008, "9.50", DRAMA);
+    addSource(Title.TitleType.tv_show, 2019, null);
+  }
+
+  @Test
+  void testGetFacets_NoFilters_CountsEveryValue() {
+    // Arrange
+    stubRepositories();
+    titleFacetService.rebuildIndex();
+
+    // Act
+    TitleFacetsDto facets = titleFacetService.getFacets(null, null, null, null);
+
+    // Assert
+    assertEquals(5, facets.getTotal());
+    assertEquals(Map.of(ACTION, 3, DRAMA, 2), facets.getGenres());
+    assertEquals(Map.of("movie", 3, "tv_show", 2), facets.getTypes());
+    assertEquals(Map.of(1990, 1, 2000, 3, 2010, 1), facets.getDecades());
+    assertEquals(Map.of(7, 1, 8, 1, 9, 2), facets.getRatings());
+  }
+
+  @Test
+  void testGetFacets_EachFacetIgnoresItsOwnFilter() {
+    // Arrange
+    stubRepositories();
+    titleFacetService.rebuildIndex();
+
+    // Act
+    TitleFacetsDto facets = titleFacetService.getFacets("movie", ACTION, null, null);
+
+    // Assert - genres are counted over movies, types over action titles
+    assertEquals(3, facets.getTotal());
+    assertEquals(Map.of(ACTION, 3, DRAMA, 1), facets.getGenres());
+    assertEquals(Map.of("movie", 3), facets.getTypes());
+  }
+
+  @Test
+  void testGetFacets_MinRating_UsesExactBoundWithinBucket() {
+    // Arrange
+    stubRepositories();
+    titleFacetService.rebuildIndex();
+
+    // Act
+    TitleFacetsDto facets = titleFacetService.getFacets(null, null, null, 8.8);
+
+    // Assert - 8.70 shares the 8 bucket but is below the bound
+    assertEquals(2, facets.getTotal());
+    assertEquals(Map.of(2000, 2), facets.getDecades());
+    assertEquals(Map.of(7, 1, 8, 1, 9, 2), facets.getRatings());
+  }
+
+  @Test
+  void testGetFacets_YearFilter_DecadesCountedWithoutIt() {
+    // Arrange
+    stubRepositories();
+    titleFacetService.rebuildIndex();
+
+    // Act
+    TitleFacetsDto facets = titleFacetService.getFacets(null, null, 2008, null);
+
+    // Assert
+    assertEquals(2, facets.getTotal());
+    assertEquals(Map.of(1990, 1, 2000, 3, 2010, 1), facets.getDecades());
+  }
+
+  @Test
+  void testAddTitle_CountedBeforeNextRebuild_AndUpdatedInPlace() {
+    // Arrange
+    stubRepositories();
+    titleFacetService.rebuildIndex();
+
+    Title inception = new Title();
+    inception.setId(UUID.randomUUID());
+    inception.setType(Title.TitleType.movie);
+    inception.setReleaseDate(LocalDate.of(2010, 7, 16));
+
+    // Act
+    titleFacetService.addTitle(inception, Set.of(ACTION));
+    titleFacetService.addTitle(inception, Set.of(DRAMA));
+
+    // Assert - the second add replaces the first
+    TitleFacetsDto facets = titleFacetService.getFacets(null, null, null, null);
+    assertEquals(6, facets.getTotal());
+    assertEquals(Map.of(ACTION, 3, DRAMA, 3), facets.getGenres());
+    assertEquals(Map.of(1990, 1, 2000, 3, 2010, 2), facets.getDecades());
+  }
+
+  @Test
+  void testRebuildIndex_Failure_KeepsCurrentIndex() {
+    // Arrange
+    stubRepositories();
+    titleFacetService.rebuildIndex();
+    when(titleRepository.findAllFacetSources()).thenThrow(new RuntimeException("DB down"));
+
+    // Act & Assert
+    assertThrows(RuntimeException.class, () -> titleFacetService.rebuildIndex());
+    assertEquals(5, titleFacetService.getFacets(null, null, null, null).getTotal());
+  }
+
+  @Test
+  void testToHundredths_RoundsUp() {
+    // Act & Assert
+    assertEquals(710, TitleFacetServiceImpl.toHundredths(7.1));
+    assertEquals(701, TitleFacetServiceImpl.toHundredths(7.005));
+  }
+
+  private void stubRepositories() {
+    when(titleRepository.findAllFacetSources()).thenReturn(sources);
+    when(titleGenreRepository.findAllPairs()).thenReturn(pairs);
+  }
+
+  private void addSource(Title.TitleType type, int year, String rating, Integer... genreIds) {
+    UUID id = UUID.randomUUID();
+    TitleRepository.FacetSource source = mock(TitleRepository.FacetSource.class);
+    lenient().when(source.getId()).thenReturn(id);
+    lenient().when(source.getType()).thenReturn(type);
+    lenient().when(source.getReleaseDate()).thenReturn(LocalDate.of(year, 1, 1));
+    lenient().when(source.getUserRatingAvg()).thenReturn(rating != null ? new BigDecimal(rating) : null);
+    sources.add(source);
+
+    for (Integer genreId : genreIds) {
+      TitleGenreRepository.TitleGenrePair pair = mock(TitleGenreRepository.TitleGenrePair.class);
+      lenient().when(pair.getTitleId()).thenReturn(id);
+      lenient().when(pair.getGenreId()).thenReturn(genreId);
+      pairs.add(pair);
+    }
+  }
+}
@@ -0,0 +1,202 @@
+package com.filmreview.service;
+
+import com.filmreview.entity.Title;
+import com.filmreview.exception.NotFoundException;
+import com.filmreview.repository.TitleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TitleFetchCoordinatorTest {
+
+  private static final Integer TMDB_ID = 603;
+  private static final String LOCK_KEY = "lock:title-fetch:603";
+
+  @Mock
+  private TitleRepository titleRepository;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private TitleFetchCoordinator coordinator;
+  private Title testMovie;
+
+  @BeforeEach
+  void setUp() {
+    coordinator = new TitleFetchCoordinator(
+        titleRepository, redisTemplate, transactionManager, 30_000, 1_000, 10);
+
+    testMovie = new Title();
+    testMovie.setId(UUID.randomUUID());
+    testMovie.setType(Title.TitleType.movie);
+    testMovie.setTmdbId(TMDB_ID);
+    testMovie.setTitle("The Matrix");
+  }
+
+  @Test
+  void testFetchOnce_LockAcquired_FetchesInTransactionAndReleasesLock() {
+    // Arrange
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+    when(titleRepository.findByTmdbId(TMDB_ID)).thenReturn(Optional.empty());
+
+    // Act
+    Title result = coordinator.fetchOnce(TMDB_ID, () -> testMovie);
+
+    // Assert
+    assertSame(testMovie, result);
+    verify(transactionManager).getTransaction(any());
+    verify(transactionManager).commit(any());
+    verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), anyString());
+  }
+
+  @Test
+  void testFetchOnce_LockAcquired_TitleCommittedMeanwhile_SkipsTmdbFetch() {
+    // Arrange
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+    when(titleRepository.findByTmdbId(TMDB_ID)).thenReturn(Optional.of(testMovie));
+    AtomicInteger fetches = new AtomicInteger();
+
+    // Act
+    Title result = coordinator.fetchOnce(TMDB_ID, () -> {
+      fetches.incrementAndGet();
+      return new Title();
+    });
+
+    // Assert
+    assertSame(testMovie, result);
+    assertEquals(0, fetches.get());
+  }
+
+  @Test
+  void testFetchOnce_LockHeldByAnotherNode_WaitsForCommittedTitle() {
+    // Arrange
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+    when(titleRepository.findByTmdbId(TMDB_ID))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of(testMovie));
+    AtomicInteger fetches = new AtomicInteger();
+
+    // Act
+    Title result = coordinator.fetchOnce(TMDB_ID, () -> {
+      fetches.incrementAndGet();
+      return new Title();
+    });
+
+    // Assert
+    assertSame(testMovie, result);
+    assertEquals(0, fetches.get());
+    verify(titleRepository, times(2)).findByTmdbId(TMDB_ID);
+    verify(redisTemplate, never()).execute(any(RedisScript.class), any(), any());
+  }
+
+  @Test
+  void testFetchOnce_RedisUnavailable_FetchesWithoutLock() {
+    // Arrange
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class)))
+        .thenThrow(new RedisConnectionFailureException("Connection refused"));
+    when(titleRepository.findByTmdbId(TMDB_ID)).thenReturn(Optional.empty());
+
+    // Act
+    Title result = coordinator.fetchOnce(TMDB_ID, () -> testMovie);
+
+    // Assert
+    assertSame(testMovie, result);
+    verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void testFetchOnce_FetchFails_ReleasesLockAndPropagates() {
+    // Arrange
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+    when(titleRepository.findByTmdbId(TMDB_ID)).thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertThrows(NotFoundException.class, () -> coordinator.fetchOnce(TMDB_ID, () -> {
+      throw new NotFoundException("Movie not found in TMDB: " + TMDB_ID);
+    }));
+    verify(transactionManager).rollback(any());
+    verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), anyString());
+  }
+
+  @Test
+  void testFetchOnce_ConcurrentMisses_ShareSingleFetch() throws Exception {
+    // Arrange
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+    when(titleRepository.findByTmdbId(TMDB_ID)).thenReturn(Optional.empty());
+
+    CountDownLatch fetchStarted = new CountDownLatch(1);
+    CountDownLatch releaseFetch = new CountDownLatch(1);
+    AtomicInteger fetches = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      // Act - leader blocks inside the fetch while a second caller arrives
+      Future<Title> leader = executor.submit(() -> coordinator.fetchOnce(TMDB_ID, () -> {
+        fetches.incrementAndGet();
+        fetchStarted.countDown();
+        awaitLatch(releaseFetch);
+        return testMovie;
+      }));
+      assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+
+      Future<Title> follower = executor.submit(() -> coordinator.fetchOnce(TMDB_ID, () -> {
+        fetches.incrementAndGet();
+        return new Title();
+      }));
+      Thread.sleep(200);
+      releaseFetch.countDown();
+
+      // Assert
+      assertSame(testMovie, leader.get(5, TimeUnit.SECONDS));
+      assertSame(testMovie, follower.get(5, TimeUnit.SECONDS));
+      assertEquals(1, fetches.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void awaitLatch(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
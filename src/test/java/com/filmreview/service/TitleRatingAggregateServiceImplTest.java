@@ -0,0 +1,100 @@
+package com.filmreview.service;
+
+import com.filmreview.repository.TitleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TitleRatingAggregateServiceImplTest {
+
+  @Mock
+  private TitleRepository titleRepository;
+
+  @Mock
+  private TitleDetailService titleDetailService;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private TitleRatingAggregateServiceImpl aggregateService;
+
+  @BeforeEach
+  void setUp() {
+    aggregateService = new TitleRatingAggregateServiceImpl(
+        titleRepository, titleDetailService, transactionManager, 100, 3);
+  }
+
+  @Test
+  void testFoldRatingDeltas_EvictsFoldedTitlesAndStopsWhenDrained() {
+    // Arrange
+    UUID matrixId = UUID.randomUUID();
+    UUID inceptionId = UUID.randomUUID();
+    when(titleRepository.foldRatingDeltas(100))
+        .thenReturn(List.of(matrixId, inceptionId))
+        .thenReturn(List.of(matrixId))
+        .thenReturn(List.of());
+
+    // Act
+    int applied = aggregateService.foldRatingDeltas();
+
+    // Assert
+    assertEquals(3, applied);
+    verify(titleRepository, times(3)).foldRatingDeltas(100);
+    verify(titleDetailService, times(2)).evict(matrixId);
+    verify(titleDetailService).evict(inceptionId);
+    verify(transactionManager, times(3)).commit(any());
+  }
+
+  @Test
+  void testFoldRatingDeltas_StopsAfterMaxBatchesPerRun() {
+    // Arrange
+    when(titleRepository.foldRatingDeltas(100)).thenReturn(List.of(UUID.randomUUID()));
+
+    // Act
+    int applied = aggregateService.foldRatingDeltas();
+
+    // Assert
+    assertEquals(3, applied);
+    verify(titleRepository, times(3)).foldRatingDeltas(100);
+  }
+
+  @Test
+  void testFoldRatingDeltas_NothingPending_EvictsNothing() {
+    // Arrange
+    when(titleRepository.foldRatingDeltas(100)).thenReturn(List.of());
+
+    // Act
+    int applied = aggregateService.foldRatingDeltas();
+
+    // Assert
+    assertEquals(0, applied);
+    verifyNoInteractions(titleDetailService);
+  }
+
+  @Test
+  void testFoldRatingDeltas_DatabaseFailure_RollsBackAndKeepsRunning() {
+    // Arrange
+    when(titleRepository.foldRatingDeltas(100))
+        .thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+    // Act
+    int applied = aggregateService.foldRatingDeltas();
+
+    // Assert
+    assertEquals(0, applied);
+    verify(transactionManager).rollback(any());
+    verifyNoInteractions(titleDetailService);
+  }
+}
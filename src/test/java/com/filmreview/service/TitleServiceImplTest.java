@@ -1,20 +1,23 @@
 package com.filmreview.service;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.dto.tmdb.TmdbMovieResponse;
 import com.filmreview.dto.tmdb.TmdbPageResponse;
 import com.filmreview.dto.tmdb.TmdbTvSeriesResponse;
 import com.filmreview.entity.Genre;
 import com.filmreview.entity.Title;
-import com.filmreview.entity.TitleGenre;
-import com.filmreview.entity.TitleGenreId;
+import com.filmreview.exception.BadRequestException;
 import com.filmreview.exception.NotFoundException;
 import com.filmreview.mapper.TitleMapper;
 import com.filmreview.repository.GenreRepository;
+import com.filmreview.repository.TitleBrowseRepository;
 import com.filmreview.repository.TitleGenreRepository;
 import com.filmreview.repository.TitleRepository;
+import com.filmreview.util.CursorUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -23,15 +26,21 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,9 +55,24 @@ class TitleServiceImplTest {
   @Mock
   private TitleGenreRepository titleGenreRepository;
 
+  @Mock
+  private GenreDictionary genreDictionary;
+
   @Mock
   private TmdbService tmdbService;
 
+  @Mock
+  private PopularListSnapshotService popularListSnapshotService;
+
+  @Mock
+  private TitleFetchCoordinator titleFetchCoordinator;
+
+  @Mock
+  private TitleSuggestService titleSuggestService;
+
+  @Mock
+  private TitleFacetService titleFacetService;
+
   @Mock
   private TitleMapper titleMapper;
 
@@ -91,11 +115,7 @@ class TitleServiceImplTest {
     when(tmdbService.getTvSeriesDetails(tmdbId)).thenReturn(tvSeriesResponse);
     when(titleMapper.toTitle(tvSeriesResponse)).thenReturn(testTVShow);
     when(titleRepository.save(testTVShow)).thenReturn(savedTitle);
-    when(genreRepository.findById(18)).thenReturn(Optional.empty());
-    when(genreRepository.findById(80)).thenReturn(Optional.empty());
-    when(genreRepository.save(any(Genre.class))).thenAnswer(invocation -> invocation.getArgument(0));
-    when(titleGenreRepository.existsById(any(TitleGenreId.class))).thenReturn(false);
-    when(titleGenreRepository.save(any(TitleGenre.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    when(genreDictionary.contains(anyInt())).thenReturn(false);
 
     // Act
     Title result = titleService.fetchAndSaveTvSeries(tmdbId);
@@ -106,8 +126,14 @@ class TitleServiceImplTest {
     verify(tmdbService).getTvSeriesDetails(tmdbId);
     verify(titleMapper).toTitle(tvSeriesResponse);
     verify(titleRepository).save(testTVShow);
-    verify(genreRepository, times(2)).findById(anyInt());
-    verify(titleGenreRepository, times(2)).save(any(TitleGenre.class));
+    // Unknown genres are inserted in one batch and registered in the dictionary
+    verify(genreRepository).insertAllIgnoreConflicts(
+        aryEq(new Integer[] { 18, 80 }), aryEq(new String[] { "Drama", "Crime" }), any(String[].class));
+    verify(genreRepository).findAllById(List.of(18, 80));
+    verify(genreDictionary).putAll(anyList());
+    verify(titleGenreRepository).insertAllIgnoreConflicts(testTVShowId, Set.of(18, 80));
+    verify(titleSuggestService).addTitle(savedTitle);
+    verify(titleFacetService).addTitle(savedTitle, Set.of(18, 80));
   }
 
   @Test
@@ -135,32 +161,31 @@ class TitleServiceImplTest {
     savedTitle.setId(testTVShowId);
     savedTitle.setTmdbId(tmdbId);
 
-    Genre existingGenre = new Genre();
-    existingGenre.setId(18);
-    existingGenre.setName("Drama");
+    Genre newGenre = new Genre();
+    newGenre.setId(80);
+    newGenre.setName("Crime");
 
     when(tmdbService.getTvSeriesDetails(tmdbId)).thenReturn(tvSeriesResponse);
     when(titleMapper.toTitle(tvSeriesResponse)).thenReturn(testTVShow);
     when(titleRepository.save(testTVShow)).thenReturn(savedTitle);
-    when(genreRepository.findById(18)).thenReturn(Optional.of(existingGenre));
-    when(genreRepository.findById(80)).thenReturn(Optional.empty());
-    when(genreRepository.save(any(Genre.class))).thenAnswer(invocation -> invocation.getArgument(0));
-    when(titleGenreRepository.existsById(any(TitleGenreId.class))).thenReturn(false);
-    when(titleGenreRepository.save(any(TitleGenre.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    when(genreDictionary.contains(18)).thenReturn(true);
+    when(genreDictionary.contains(80)).thenReturn(false);
+    when(genreRepository.findAllById(List.of(80))).thenReturn(List.of(newGenre));
 
     // Act
     Title result = titleService.fetchAndSaveTvSeries(tmdbId);
 
     // Assert
     assertNotNull(result);
-    verify(genreRepository).findById(18);
-    verify(genreRepository, never()).save(existingGenre); // Existing genre should not be saved again
-    verify(genreRepository).findById(80);
-    verify(genreRepository).save(argThat(genre -> genre.getId().equals(80))); // New genre should be saved
+    // Only the genre missing from the dictionary is inserted
+    verify(genreRepository).insertAllIgnoreConflicts(
+        aryEq(new Integer[] { 80 }), aryEq(new String[] { "Crime" }), aryEq(new String[] { "crime" }));
+    verify(genreDictionary).putAll(List.of(newGenre));
+    verify(titleGenreRepository).insertAllIgnoreConflicts(testTVShowId, Set.of(18, 80));
   }
 
   @Test
-  void testFetchAndSaveTvSeries_WithExistingTitleGenreRelationship() {
+  void testFetchAndSaveTvSeries_AllGenresKnown_SingleTitleGenreInsert() {
     // Arrange
     Integer tmdbId = 1396;
     TmdbTvSeriesResponse tvSeriesResponse = createTvSeriesResponse(tmdbId);
@@ -168,24 +193,19 @@ class TitleServiceImplTest {
     savedTitle.setId(testTVShowId);
     savedTitle.setTmdbId(tmdbId);
 
-    Genre genre = new Genre();
-    genre.setId(18);
-    genre.setName("Drama");
-
     when(tmdbService.getTvSeriesDetails(tmdbId)).thenReturn(tvSeriesResponse);
     when(titleMapper.toTitle(tvSeriesResponse)).thenReturn(testTVShow);
     when(titleRepository.save(testTVShow)).thenReturn(savedTitle);
-    when(genreRepository.findById(18)).thenReturn(Optional.of(genre));
-    when(genreRepository.findById(80)).thenReturn(Optional.empty());
-    when(genreRepository.save(any(Genre.class))).thenAnswer(invocation -> invocation.getArgument(0));
-    when(titleGenreRepository.existsById(any(TitleGenreId.class))).thenReturn(true); // Relationship already exists
+    when(genreDictionary.contains(anyInt())).thenReturn(true);
 
     // Act
     Title result = titleService.fetchAndSaveTvSeries(tmdbId);
 
-    // Assert
+    // Assert - no genre lookups; existing links are skipped by ON CONFLICT DO NOTHING
     assertNotNull(result);
-    verify(titleGenreRepository, never()).save(any(TitleGenre.class)); // Should not save duplicate relationship
+    verifyNoInteractions(genreRepository);
+    verify(titleGenreRepository).insertAllIgnoreConflicts(testTVShowId, Set.of(18, 80));
+    verifyNoMoreInteractions(titleGenreRepository);
   }
 
   @Test
@@ -197,10 +217,11 @@ class TitleServiceImplTest {
     when(tmdbService.getMovieDetails(tmdbId)).thenReturn(movieResponse);
     when(titleMapper.toTitle(movieResponse)).thenReturn(testMovie);
     when(titleRepository.save(testMovie)).thenReturn(testMovie);
-    when(genreRepository.findById(anyInt())).thenReturn(Optional.empty());
-    when(genreRepository.save(any(Genre.class))).thenAnswer(invocation -> invocation.getArgument(0));
-    when(titleGenreRepository.existsById(any(TitleGenreId.class))).thenReturn(false);
-    when(titleGenreRepository.save(any(TitleGenre.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    when(genreDictionary.contains(anyInt())).thenReturn(true);
+    when(titleFetchCoordinator.fetchOnce(eq(tmdbId), any())).thenAnswer(invocation -> {
+      Supplier<Title> fetchAndSave = invocation.getArgument(1);
+      return fetchAndSave.get();
+    });
 
     // Act
     Title result = titleService.getTitleByTmdbId(tmdbId, "movie");
@@ -208,6 +229,7 @@ class TitleServiceImplTest {
     // Assert
     assertNotNull(result);
     verify(titleRepository).findByTmdbId(tmdbId);
+    verify(titleFetchCoordinator).fetchOnce(eq(tmdbId), any());
     verify(tmdbService).getMovieDetails(tmdbId);
     verify(tmdbService, never()).getTvSeriesDetails(anyInt());
   }
@@ -221,10 +243,11 @@ class TitleServiceImplTest {
     when(tmdbService.getTvSeriesDetails(tmdbId)).thenReturn(tvSeriesResponse);
     when(titleMapper.toTitle(tvSeriesResponse)).thenReturn(testTVShow);
     when(titleRepository.save(testTVShow)).thenReturn(testTVShow);
-    when(genreRepository.findById(anyInt())).thenReturn(Optional.empty());
-    when(genreRepository.save(any(Genre.class))).thenAnswer(invocation -> invocation.getArgument(0));
-    when(titleGenreRepository.existsById(any(TitleGenreId.class))).thenReturn(false);
-    when(titleGenreRepository.save(any(TitleGenre.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    when(genreDictionary.contains(anyInt())).thenReturn(true);
+    when(titleFetchCoordinator.fetchOnce(eq(tmdbId), any())).thenAnswer(invocation -> {
+      Supplier<Title> fetchAndSave = invocation.getArgument(1);
+      return fetchAndSave.get();
+    });
 
     // Act
     Title result = titleService.getTitleByTmdbId(tmdbId, "tv_show");
@@ -232,6 +255,7 @@ class TitleServiceImplTest {
     // Assert
     assertNotNull(result);
     verify(titleRepository).findByTmdbId(tmdbId);
+    verify(titleFetchCoordinator).fetchOnce(eq(tmdbId), any());
     verify(tmdbService).getTvSeriesDetails(tmdbId);
     verify(tmdbService, never()).getMovieDetails(anyInt());
   }
@@ -249,6 +273,7 @@ class TitleServiceImplTest {
     verify(titleRepository).findByTmdbId(tmdbId);
     verify(tmdbService, never()).getMovieDetails(anyInt());
     verify(tmdbService, never()).getTvSeriesDetails(anyInt());
+    verifyNoInteractions(titleFetchCoordinator);
   }
 
   @Test
@@ -268,6 +293,7 @@ class TitleServiceImplTest {
     verify(titleMapper, never()).toTitle(any(TmdbMovieResponse.class));
     verify(titleMapper, never()).toTitle(any(TmdbTvSeriesResponse.class));
     verify(titleRepository, never()).save(any());
+    verifyNoInteractions(titleFetchCoordinator);
   }
 
   @Test
@@ -290,8 +316,7 @@ class TitleServiceImplTest {
 
     // Assert
     assertNotNull(result);
-    verify(genreRepository, never()).findById(anyInt());
-    verify(titleGenreRepository, never()).save(any(TitleGenre.class));
+    verifyNoInteractions(genreDictionary, genreRepository, titleGenreRepository);
   }
 
   // ========== getTitleById Tests ==========
@@ -371,10 +396,7 @@ class TitleServiceImplTest {
     when(tmdbService.getMovieDetails(tmdbId)).thenReturn(movieResponse);
     when(titleMapper.toTitle(movieResponse)).thenReturn(testMovie);
     when(titleRepository.save(testMovie)).thenReturn(savedTitle);
-    when(genreRepository.findById(28)).thenReturn(Optional.empty());
-    when(genreRepository.save(any(Genre.class))).thenAnswer(invocation -> invocation.getArgument(0));
-    when(titleGenreRepository.existsById(any(TitleGenreId.class))).thenReturn(false);
-    when(titleGenreRepository.save(any(TitleGenre.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    when(genreDictionary.contains(28)).thenReturn(false);
 
     // Act
     Title result = titleService.fetchAndSaveMovie(tmdbId);
@@ -385,8 +407,11 @@ class TitleServiceImplTest {
     verify(tmdbService).getMovieDetails(tmdbId);
     verify(titleMapper).toTitle(movieResponse);
     verify(titleRepository).save(testMovie);
-    verify(genreRepository).findById(28);
-    verify(titleGenreRepository).save(any(TitleGenre.class));
+    verify(genreRepository).insertAllIgnoreConflicts(
+        aryEq(new Integer[] { 28 }), aryEq(new String[] { "Action" }), aryEq(new String[] { "action" }));
+    verify(titleGenreRepository).insertAllIgnoreConflicts(testMovieId, Set.of(28));
+    verify(titleSuggestService).addTitle(savedTitle);
+    verify(titleFacetService).addTitle(savedTitle, Set.of(28));
   }
 
   @Test
@@ -420,17 +445,16 @@ class TitleServiceImplTest {
     when(tmdbService.getMovieDetails(tmdbId)).thenReturn(movieResponse);
     when(titleMapper.toTitle(movieResponse)).thenReturn(testMovie);
     when(titleRepository.save(testMovie)).thenReturn(savedTitle);
-    when(genreRepository.findById(28)).thenReturn(Optional.of(existingGenre));
-    when(titleGenreRepository.existsById(any(TitleGenreId.class))).thenReturn(false);
-    when(titleGenreRepository.save(any(TitleGenre.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    when(genreDictionary.contains(28)).thenReturn(true);
 
     // Act
     Title result = titleService.fetchAndSaveMovie(tmdbId);
 
     // Assert
     assertNotNull(result);
-    verify(genreRepository).findById(28);
-    verify(genreRepository, never()).save(existingGenre); // Existing genre should not be saved again
+    verify(genreRepository, never()).insertAllIgnoreConflicts(any(), any(), any()); // Known genre is not inserted again
+    verify(genreRepository, never()).save(existingGenre);
+    verify(titleGenreRepository).insertAllIgnoreConflicts(testMovieId, Set.of(28));
   }
 
   @Test
@@ -453,8 +477,7 @@ class TitleServiceImplTest {
 
     // Assert
     assertNotNull(result);
-    verify(genreRepository, never()).findById(anyInt());
-    verify(titleGenreRepository, never()).save(any(TitleGenre.class));
+    verifyNoInteractions(genreDictionary, genreRepository, titleGenreRepository);
   }
 
   // ========== searchTitles Tests ==========
@@ -466,7 +489,7 @@ class TitleServiceImplTest {
     Pageable pageable = PageRequest.of(0, 20);
     Page<Title> expectedPage = new PageImpl<>(Arrays.asList(testMovie), pageable, 1);
 
-    when(titleRepository.searchTitles(query.trim(), pageable)).thenReturn(expectedPage);
+    when(titleRepository.fullTextSearch("", "matrix:*", pageable)).thenReturn(expectedPage);
 
     // Act
     Page<Title> result = titleService.searchTitles(query, null, pageable);
@@ -475,8 +498,8 @@ class TitleServiceImplTest {
     assertNotNull(result);
     assertEquals(1, result.getTotalElements());
     assertEquals(1, result.getContent().size());
-    verify(titleRepository).searchTitles(query.trim(), pageable);
-    verify(titleRepository, never()).searchTitlesByType(anyString(), any(), any(Pageable.class));
+    verify(titleRepository).fullTextSearch("", "matrix:*", pageable);
+    verify(titleRepository, never()).fullTextSearchByType(anyString(), anyString(), anyString(), any(Pageable.class));
   }
 
   @Test
@@ -487,7 +510,7 @@ class TitleServiceImplTest {
     Pageable pageable = PageRequest.of(0, 20);
     Page<Title> expectedPage = new PageImpl<>(Arrays.asList(testMovie), pageable, 1);
 
-    when(titleRepository.searchTitlesByType(query.trim(), Title.TitleType.movie, pageable))
+    when(titleRepository.fullTextSearchByType("", "matrix:*", "movie", pageable))
         .thenReturn(expectedPage);
 
     // Act
@@ -496,8 +519,8 @@ class TitleServiceImplTest {
     // Assert
     assertNotNull(result);
     assertEquals(1, result.getTotalElements());
-    verify(titleRepository).searchTitlesByType(query.trim(), Title.TitleType.movie, pageable);
-    verify(titleRepository, never()).searchTitles(anyString(), any(Pageable.class));
+    verify(titleRepository).fullTextSearchByType("", "matrix:*", "movie", pageable);
+    verify(titleRepository, never()).fullTextSearch(anyString(), anyString(), any(Pageable.class));
   }
 
   @Test
@@ -508,7 +531,7 @@ class TitleServiceImplTest {
     Pageable pageable = PageRequest.of(0, 20);
     Page<Title> expectedPage = new PageImpl<>(Arrays.asList(testTVShow), pageable, 1);
 
-    when(titleRepository.searchTitlesByType(query.trim(), Title.TitleType.tv_show, pageable))
+    when(titleRepository.fullTextSearchByType("", "breaking:*", "tv_show", pageable))
         .thenReturn(expectedPage);
 
     // Act
@@ -517,7 +540,7 @@ class TitleServiceImplTest {
     // Assert
     assertNotNull(result);
     assertEquals(1, result.getTotalElements());
-    verify(titleRepository).searchTitlesByType(query.trim(), Title.TitleType.tv_show, pageable);
+    verify(titleRepository).fullTextSearchByType("", "breaking:*", "tv_show", pageable);
   }
 
   @Test
@@ -533,8 +556,8 @@ class TitleServiceImplTest {
     assertNotNull(result);
     assertEquals(0, result.getTotalElements());
     assertTrue(result.getContent().isEmpty());
-    verify(titleRepository, never()).searchTitles(anyString(), any(Pageable.class));
-    verify(titleRepository, never()).searchTitlesByType(anyString(), any(), any(Pageable.class));
+    verify(titleRepository, never()).fullTextSearch(anyString(), anyString(), any(Pageable.class));
+    verify(titleRepository, never()).fullTextSearchByType(anyString(), anyString(), anyString(), any(Pageable.class));
   }
 
   @Test
@@ -549,7 +572,7 @@ class TitleServiceImplTest {
     assertNotNull(result);
     assertEquals(0, result.getTotalElements());
     assertTrue(result.getContent().isEmpty());
-    verify(titleRepository, never()).searchTitles(anyString(), any(Pageable.class));
+    verify(titleRepository, never()).fullTextSearch(anyString(), anyString(), any(Pageable.class));
   }
 
   @Test
@@ -564,7 +587,7 @@ class TitleServiceImplTest {
     // Assert
     assertNotNull(result);
     assertEquals(0, result.getTotalElements());
-    verify(titleRepository, never()).searchTitles(anyString(), any(Pageable.class));
+    verify(titleRepository, never()).fullTextSearch(anyString(), anyString(), any(Pageable.class));
   }
 
   @Test
@@ -576,15 +599,49 @@ class TitleServiceImplTest {
     Page<Title> expectedPage = new PageImpl<>(Arrays.asList(testMovie), pageable, 1);
 
     // Invalid type should be ignored, search without type filter
-    when(titleRepository.searchTitles(query.trim(), pageable)).thenReturn(expectedPage);
+    when(titleRepository.fullTextSearch("", "matrix:*", pageable)).thenReturn(expectedPage);
 
     // Act
     Page<Title> result = titleService.searchTitles(query, type, pageable);
 
     // Assert
     assertNotNull(result);
-    verify(titleRepository).searchTitles(query.trim(), pageable);
-    verify(titleRepository, never()).searchTitlesByType(anyString(), any(), any(Pageable.class));
+    verify(titleRepository).fullTextSearch("", "matrix:*", pageable);
+    verify(titleRepository, never()).fullTextSearchByType(anyString(), anyString(), anyString(), any(Pageable.class));
+  }
+
+  @Test
+  void testSearchTitles_LastWordMatchedAsPrefix() {
+    // Arrange
+    String query = "the dark kni";
+    Pageable pageable = PageRequest.of(0, 20);
+    Page<Title> expectedPage = new PageImpl<>(Arrays.asList(testMovie), pageable, 1);
+    when(titleRepository.fullTextSearch("the dark", "kni:*", pageable)).thenReturn(expectedPage);
+
+    // Act
+    Page<Title> result = titleService.searchTitles(query, null, pageable);
+
+    // Assert
+    assertEquals(1, result.getTotalElements());
+    verify(titleRepository).fullTextSearch("the dark", "kni:*", pageable);
+  }
+
+  @Test
+  void testSearchTitles_CompletedWords_NoPrefix() {
+    // Arrange - trailing space, quoted phrase and negation all mean the last word is finished
+    Pageable pageable = PageRequest.of(0, 20);
+    Page<Title> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+    when(titleRepository.fullTextSearch(anyString(), eq(""), eq(pageable))).thenReturn(emptyPage);
+
+    // Act
+    titleService.searchTitles("dark knight ", null, pageable);
+    titleService.searchTitles("\"dark knight", null, pageable);
+    titleService.searchTitles("batman -joker", null, pageable);
+
+    // Assert
+    verify(titleRepository).fullTextSearch("dark knight", "", pageable);
+    verify(titleRepository).fullTextSearch("\"dark knight", "", pageable);
+    verify(titleRepository).fullTextSearch("batman -joker", "", pageable);
   }
 
   // ========== getPopularMovies Tests ==========
@@ -601,8 +658,8 @@ class TitleServiceImplTest {
     Page<TmdbPageResponse.TmdbMovieItem> tmdbPage = new PageImpl<>(
         Arrays.asList(movieItem), PageRequest.of(0, 20), 100);
 
-    when(tmdbService.getPopularMovies(language, 1, region)).thenReturn(tmdbPage);
-    when(titleRepository.findByTmdbId(603)).thenReturn(Optional.empty());
+    when(popularListSnapshotService.getPopularMovies(language, 1, region)).thenReturn(tmdbPage);
+    when(titleRepository.findAllByTmdbIdIn(anyCollection())).thenReturn(List.of());
     when(tmdbService.getImageUrl(anyString(), anyString())).thenAnswer(invocation -> {
       String path = invocation.getArgument(0);
       return "https://image.tmdb.org" + path;
@@ -615,8 +672,8 @@ class TitleServiceImplTest {
     assertNotNull(result);
     assertEquals(100, result.getTotalElements());
     assertEquals(1, result.getContent().size());
-    verify(tmdbService).getPopularMovies(language, 1, region);
-    verify(titleRepository).findByTmdbId(603);
+    verify(popularListSnapshotService).getPopularMovies(language, 1, region);
+    verify(titleRepository).findAllByTmdbIdIn(anyCollection());
     verify(tmdbService, atLeastOnce()).getImageUrl(anyString(), anyString());
   }
 
@@ -632,8 +689,8 @@ class TitleServiceImplTest {
     Page<TmdbPageResponse.TmdbMovieItem> tmdbPage = new PageImpl<>(
         Arrays.asList(movieItem), PageRequest.of(0, 20), 100);
 
-    when(tmdbService.getPopularMovies(language, 1, region)).thenReturn(tmdbPage);
-    when(titleRepository.findByTmdbId(603)).thenReturn(Optional.of(testMovie));
+    when(popularListSnapshotService.getPopularMovies(language, 1, region)).thenReturn(tmdbPage);
+    when(titleRepository.findAllByTmdbIdIn(anyCollection())).thenReturn(List.of(testMovie));
 
     // Act
     Page<Title> result = titleService.getPopularMovies(language, page, region, pageable);
@@ -642,8 +699,8 @@ class TitleServiceImplTest {
     assertNotNull(result);
     assertEquals(1, result.getContent().size());
     assertEquals(testMovie, result.getContent().get(0)); // Should return existing title from DB
-    verify(tmdbService).getPopularMovies(language, 1, region);
-    verify(titleRepository).findByTmdbId(603);
+    verify(popularListSnapshotService).getPopularMovies(language, 1, region);
+    verify(titleRepository).findAllByTmdbIdIn(anyCollection());
   }
 
   @Test
@@ -681,8 +738,8 @@ class TitleServiceImplTest {
     Page<TmdbPageResponse.TmdbMovieItem> tmdbPage1 = new PageImpl<>(
         page1Items, PageRequest.of(0, 20), 100);
 
-    when(tmdbService.getPopularMovies(language, 1, region)).thenReturn(tmdbPage1);
-    when(titleRepository.findByTmdbId(anyInt())).thenReturn(Optional.empty());
+    when(popularListSnapshotService.getPopularMovies(language, 1, region)).thenReturn(tmdbPage1);
+    when(titleRepository.findAllByTmdbIdIn(anyCollection())).thenReturn(List.of());
     when(tmdbService.getImageUrl(anyString(), anyString())).thenAnswer(invocation -> {
       String path = invocation.getArgument(0);
       return "https://image.tmdb.org" + path;
@@ -694,7 +751,49 @@ class TitleServiceImplTest {
     // Assert
     assertNotNull(result);
     assertEquals(6, result.getContent().size()); // Should return 6 items (page 2, size 6)
-    verify(tmdbService).getPopularMovies(language, 1, region);
+    assertEquals(7, result.getContent().get(0).getTmdbId()); // Items 7-12 from TMDB page 1
+    verify(popularListSnapshotService).getPopularMovies(language, 1, region);
+    // Whole page resolved with a single query instead of one per item
+    verify(titleRepository).findAllByTmdbIdIn(argThat(ids -> ids.size() == 6 && ids.contains(7) && ids.contains(12)));
+    verify(titleRepository, never()).findByTmdbId(anyInt());
+  }
+
+  @Test
+  void testGetPopularMovies_MergesStoredTitlesInTmdbOrder() {
+    // Arrange
+    String language = "en-US";
+    String region = "US";
+    Pageable pageable = PageRequest.of(0, 20);
+
+    Title storedMovie = new Title();
+    storedMovie.setId(UUID.randomUUID());
+    storedMovie.setTmdbId(2);
+    storedMovie.setTitle("Stored Movie");
+
+    Page<TmdbPageResponse.TmdbMovieItem> tmdbPage = new PageImpl<>(
+        Arrays.asList(
+            createTmdbMovieItem(1, "Movie 1"),
+            createTmdbMovieItem(2, "Movie 2"),
+            createTmdbMovieItem(3, "Movie 3")),
+        PageRequest.of(0, 20), 3);
+
+    when(popularListSnapshotService.getPopularMovies(language, 1, region)).thenReturn(tmdbPage);
+    when(titleRepository.findAllByTmdbIdIn(anyCollection())).thenReturn(List.of(storedMovie));
+    when(tmdbService.getImageUrl(anyString(), anyString())).thenAnswer(invocation -> {
+      String path = invocation.getArgument(0);
+      return "https://image.tmdb.org" + path;
+    });
+
+    // Act
+    Page<Title> result = titleService.getPopularMovies(language, 1, region, pageable);
+
+    // Assert
+    assertEquals(3, result.getContent().size());
+    assertEquals(1, result.getContent().get(0).getTmdbId());
+    assertNull(result.getContent().get(0).getId()); // Lightweight, not persisted
+    assertSame(storedMovie, result.getContent().get(1)); // Stored title replaces TMDB item
+    assertEquals(3, result.getContent().get(2).getTmdbId());
+    verify(titleRepository, times(1)).findAllByTmdbIdIn(anyCollection());
   }
 
   // ========== getPopularTVShows Tests ==========
@@ -710,8 +809,8 @@ class TitleServiceImplTest {
     Page<TmdbPageResponse.TmdbTvSeriesItem> tmdbPage = new PageImpl<>(
         Arrays.asList(tvItem), PageRequest.of(0, 20), 100);
 
-    when(tmdbService.getPopularTVShows(language, 1)).thenReturn(tmdbPage);
-    when(titleRepository.findByTmdbId(1396)).thenReturn(Optional.empty());
+    when(popularListSnapshotService.getPopularTVShows(language, 1)).thenReturn(tmdbPage);
+    when(titleRepository.findAllByTmdbIdIn(anyCollection())).thenReturn(List.of());
     when(tmdbService.getImageUrl(anyString(), anyString())).thenAnswer(invocation -> {
       String path = invocation.getArgument(0);
       return "https://image.tmdb.org" + path;
@@ -724,8 +823,8 @@ class TitleServiceImplTest {
     assertNotNull(result);
     assertEquals(100, result.getTotalElements());
     assertEquals(1, result.getContent().size());
-    verify(tmdbService).getPopularTVShows(language, 1);
-    verify(titleRepository).findByTmdbId(1396);
+    verify(popularListSnapshotService).getPopularTVShows(language, 1);
+    verify(titleRepository).findAllByTmdbIdIn(anyCollection());
     verify(tmdbService, atLeastOnce()).getImageUrl(anyString(), anyString());
   }
 
@@ -740,8 +839,8 @@ class TitleServiceImplTest {
     Page<TmdbPageResponse.TmdbTvSeriesItem> tmdbPage = new PageImpl<>(
         Arrays.asList(tvItem), PageRequest.of(0, 20), 100);
 
-    when(tmdbService.getPopularTVShows(language, 1)).thenReturn(tmdbPage);
-    when(titleRepository.findByTmdbId(1396)).thenReturn(Optional.of(testTVShow));
+    when(popularListSnapshotService.getPopularTVShows(language, 1)).thenReturn(tmdbPage);
+    when(titleRepository.findAllByTmdbIdIn(anyCollection())).thenReturn(List.of(testTVShow));
 
     // Act
     Page<Title> result = titleService.getPopularTVShows(language, page, pageable);
@@ -750,8 +849,117 @@ class TitleServiceImplTest {
     assertNotNull(result);
     assertEquals(1, result.getContent().size());
     assertEquals(testTVShow, result.getContent().get(0)); // Should return existing title from DB
-    verify(tmdbService).getPopularTVShows(language, 1);
-    verify(titleRepository).findByTmdbId(1396);
+    verify(popularListSnapshotService).getPopularTVShows(language, 1);
+    verify(titleRepository).findAllByTmdbIdIn(anyCollection());
+  }
+
+  @Test
+  void testBrowseTitles_BuildsCriteriaAndProbesForNextPage() {
+    // Arrange
+    Pageable pageable = PageRequest.of(1, 1);
+    when(titleRepository.browse(any(TitleBrowseRepository.BrowseCriteria.class), eq(2)))
+        .thenReturn(List.of(testMovie, testTVShow));
+    when(titleRepository.countBrowse(any(TitleBrowseRepository.BrowseCriteria.class),
+        eq(TitleService.BROWSE_COUNT_CAP))).thenReturn(5L);
+
+    // Act
+    Page<Title> result = titleService.browseTitles("movie", 28, 1999, 7.5, "rating", pageable);
+
+    // Assert - one row shown, the extra row signals a next page, so the total is counted
+    assertEquals(List.of(testMovie), result.getContent());
+    assertTrue(result.hasNext());
+    assertEquals(5, result.getTotalElements());
+
+    ArgumentCaptor<TitleBrowseRepository.BrowseCriteria> captor =
+        ArgumentCaptor.forClass(TitleBrowseRepository.BrowseCriteria.class);
+    verify(titleRepository).browse(captor.capture(), eq(2));
+    TitleBrowseRepository.BrowseCriteria criteria = captor.getValue();
+    assertEquals(Title.TitleType.movie, criteria.type());
+    assertEquals(28, criteria.genreId());
+    assertEquals(1999, criteria.year());
+    assertEquals(new BigDecimal("7.5"), criteria.minRating());
+    assertEquals(TitleBrowseRepository.BrowseSort.RATING, criteria.sort());
+    assertEquals(1, criteria.offset());
+    assertNull(criteria.afterId());
+  }
+
+  @Test
+  void testBrowseTitles_LastPage_TotalFromRowsWithoutCount() {
+    // Arrange
+    Pageable pageable = PageRequest.of(2, 2);
+    when(titleRepository.browse(any(TitleBrowseRepository.BrowseCriteria.class), eq(3)))
+        .thenReturn(List.of(testMovie));
+
+    // Act
+    Page<Title> result = titleService.browseTitles(null, null, null, null, null, pageable);
+
+    // Assert
+    assertEquals(5, result.getTotalElements());
+    assertFalse(result.hasNext());
+    verify(titleRepository, never()).countBrowse(any(), anyLong());
+  }
+
+  @Test
+  void testBrowseTitles_PastLastPage_CountsTotal() {
+    // Arrange
+    Pageable pageable = PageRequest.of(9, 2);
+    when(titleRepository.browse(any(TitleBrowseRepository.BrowseCriteria.class), eq(3))).thenReturn(List.of());
+    when(titleRepository.countBrowse(any(TitleBrowseRepository.BrowseCriteria.class),
+        eq(TitleService.BROWSE_COUNT_CAP))).thenReturn(5L);
+
+    // Act
+    Page<Title> result = titleService.browseTitles(null, null, null, null, null, pageable);
+
+    // Assert
+    assertTrue(result.getContent().isEmpty());
+    assertEquals(5, result.getTotalElements());
+  }
+
+  @Test
+  void testBrowseTitles_UnsupportedSort_ThrowsBadRequest() {
+    // Act & Assert
+    assertThrows(BadRequestException.class,
+        () -> titleService.browseTitles(null, null, null, null, "top_rated", PageRequest.of(0, 20)));
+    verify(titleRepository, never()).browse(any(), anyInt());
+  }
+
+  @Test
+  void testBrowseTitlesByCursor_RoundTripsCursor() {
+    // Arrange
+    testMovie.setReleaseDate(LocalDate.of(1999, 3, 31));
+    testTVShow.setReleaseDate(LocalDate.of(1998, 1, 20));
+    when(titleRepository.browse(any(TitleBrowseRepository.BrowseCriteria.class), eq(2)))
+        .thenReturn(List.of(testMovie, testTVShow))
+        .thenReturn(List.of(testTVShow));
+
+    // Act
+    CursorPage<Title> first = titleService.browseTitlesByCursor(null, null, null, null, null, null, 1);
+    CursorPage<Title> second = titleService.browseTitlesByCursor(null, null, null, null, null,
+        first.getNextCursor(), 1);
+
+    // Assert
+    assertTrue(first.isHasMore());
+    assertEquals(List.of(testTVShow), second.getContent());
+    assertFalse(second.isHasMore());
+
+    ArgumentCaptor<TitleBrowseRepository.BrowseCriteria> captor =
+        ArgumentCaptor.forClass(TitleBrowseRepository.BrowseCriteria.class);
+    verify(titleRepository, times(2)).browse(captor.capture(), eq(2));
+    TitleBrowseRepository.BrowseCriteria seek = captor.getAllValues().get(1);
+    assertEquals(LocalDate.of(1999, 3, 31), seek.afterKey());
+    assertEquals(testMovieId, seek.afterId());
+    assertEquals(0, seek.offset());
+  }
+
+  @Test
+  void testBrowseTitlesByCursor_CursorFromOtherSort_ThrowsBadRequest() {
+    // Arrange
+    String ratingCursor = CursorUtils.encodeValues("RATING", "8.50", UUID.randomUUID());
+
+    // Act & Assert
+    assertThrows(BadRequestException.class,
+        () -> titleService.browseTitlesByCursor(null, null, null, null, "release_date", ratingCursor, 20));
+    verify(titleRepository, never()).browse(any(), anyInt());
   }
 
   // Helper methods
@@ -0,0 +1,162 @@
+package com.filmreview.service;
+
+import com.filmreview.dto.TitleSuggestionDto;
+import com.filmreview.entity.Title;
+import com.filmreview.repository.TitleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TitleSuggestServiceImplTest {
+
+  @Mock
+  private TitleRepository titleRepository;
+
+  @InjectMocks
+  private TitleSuggestServiceImpl titleSuggestService;
+
+  private List<TitleRepository.SuggestionSource> sources;
+
+  @BeforeEach
+  void setUp() {
+    sources = new ArrayList<>();
+    sources.add(source("The Dark Knight", null, Title.TitleType.movie, 2008, 900));
+    sources.add(source("The Matrix", null, Title.TitleType.movie, 1999, 1200));
+    sources.add(source("The Matrix Reloaded", null, Title.TitleType.movie, 2003, 400));
+    sources.add(source("Breaking Bad", null, Title.TitleType.tv_show, 2008, 1500));
+    sources.add(source("Amélie", "Le Fabuleux Destin d'Amélie Poulain", Title.TitleType.movie, 2001, 300));
+  }
+
+  @Test
+  void testSuggest_PrefixOrderedByRatingCount() {
+    // Arrange
+    when(titleRepository.findAllSuggestionSources()).thenReturn(sources);
+    titleSuggestService.rebuildIndex();
+
+    // Act
+    List<TitleSuggestionDto> result = titleSuggestService.suggest("The Mat", null, 10);
+
+    // Assert
+    assertEquals(List.of("The Matrix", "The Matrix Reloaded"), titles(result));
+    assertEquals(1999, result.get(0).getReleaseYear());
+  }
+
+  @Test
+  void testSuggest_MatchesLaterWordsAndOriginalTitle() {
+    // Arrange
+    when(titleRepository.findAllSuggestionSources()).thenReturn(sources);
+    titleSuggestService.rebuildIndex();
+
+    // Act & Assert
+    assertEquals(List.of("The Dark Knight"), titles(titleSuggestService.suggest("knig", null, 10)));
+    assertEquals(List.of("Amélie"), titles(titleSuggestService.suggest("fabul", null, 10)));
+    assertEquals(List.of("Amélie"), titles(titleSuggestService.suggest("AMELIE", null, 10)));
+  }
+
+  @Test
+  void testSuggest_ShortPrefix_UsesPrecomputedTopAndTypeFilter() {
+    // Arrange
+    when(titleRepository.findAllSuggestionSources()).thenReturn(sources);
+    titleSuggestService.rebuildIndex();
+
+    // Act
+    List<TitleSuggestionDto> all = titleSuggestService.suggest("b", null, 10);
+    List<TitleSuggestionDto> movies = titleSuggestService.suggest("b", "movie", 10);
+    List<TitleSuggestionDto> limited = titleSuggestService.suggest("th", null, 2);
+
+    // Assert
+    assertEquals(List.of("Breaking Bad"), titles(all));
+    assertTrue(movies.isEmpty());
+    assertEquals(List.of("The Matrix", "The Dark Knight"), titles(limited));
+  }
+
+  @Test
+  void testSuggest_BlankQuery_ReturnsEmpty() {
+    // Act
+    List<TitleSuggestionDto> result = titleSuggestService.suggest("  !! ", null, 10);
+
+    // Assert
+    assertTrue(result.isEmpty());
+    verifyNoInteractions(titleRepository);
+  }
+
+  @Test
+  void testAddTitle_AvailableBeforeNextRebuild() {
+    // Arrange
+    when(titleRepository.findAllSuggestionSources()).thenReturn(sources);
+    titleSuggestService.rebuildIndex();
+
+    Title inception = new Title();
+    inception.setId(UUID.randomUUID());
+    inception.setType(Title.TitleType.movie);
+    inception.setTitle("Inception");
+    inception.setSlug("inception-2010");
+    inception.setUserRatingCount(0);
+
+    // Act
+    titleSuggestService.addTitle(inception);
+
+    // Assert
+    List<TitleSuggestionDto> result = titleSuggestService.suggest("incep", null, 10);
+    assertEquals(1, result.size());
+    assertEquals("inception-2010", result.get(0).getSlug());
+  }
+
+  @Test
+  void testRebuildIndex_DropsRecentTitlesCoveredByDb() {
+    // Arrange
+    Title inception = new Title();
+    inception.setId(UUID.randomUUID());
+    inception.setType(Title.TitleType.movie);
+    inception.setTitle("Inception");
+    titleSuggestService.addTitle(inception);
+
+    TitleRepository.SuggestionSource stored = source("Inception", null, Title.TitleType.movie, 2010, 50);
+    when(stored.getId()).thenReturn(inception.getId());
+    when(titleRepository.findAllSuggestionSources()).thenReturn(List.of(stored));
+
+    // Act
+    int indexed = titleSuggestService.rebuildIndex();
+
+    // Assert - one suggestion, with the weight from the DB
+    assertEquals(1, indexed);
+    List<TitleSuggestionDto> result = titleSuggestService.suggest("inc", null, 10);
+    assertEquals(1, result.size());
+    assertEquals(50, result.get(0).getUserRatingCount());
+  }
+
+  @Test
+  void testKeysFor_SkipsStopWords() {
+    // Act & Assert
+    assertEquals(List.of("the lord of the rings", "lord of the rings", "rings"),
+        new ArrayList<>(TitleSuggestServiceImpl.keysFor("The Lord of the Rings", null)));
+  }
+
+  private List<String> titles(List<TitleSuggestionDto> suggestions) {
+    return suggestions.stream().map(TitleSuggestionDto::getTitle).toList();
+  }
+
+  private TitleRepository.SuggestionSource source(String title, String originalTitle, Title.TitleType type,
+      int year, int ratingCount) {
+    TitleRepository.SuggestionSource source = mock(TitleRepository.SuggestionSource.class);
+    lenient().when(source.getId()).thenReturn(UUID.randomUUID());
+    lenient().when(source.getType()).thenReturn(type);
+    lenient().when(source.getTitle()).thenReturn(title);
+    lenient().when(source.getOriginalTitle()).thenReturn(originalTitle);
+    lenient().when(source.getReleaseDate()).thenReturn(LocalDate.of(year, 1, 1));
+    lenient().when(source.getUserRatingCount()).thenReturn(ratingCount);
+    return source;
+  }
+}
@@ -1,5 +1,6 @@
 package com.filmreview.service;
 
+import com.filmreview.dto.CursorPage;
 import com.filmreview.dto.TitleDto;
 import com.filmreview.dto.WatchlistRequest;
 import com.filmreview.dto.WatchlistResponse;
@@ -10,6 +11,7 @@ import com.filmreview.exception.NotFoundException;
 import com.filmreview.mapper.TitleDtoMapper;
 import com.filmreview.repository.TitleRepository;
 import com.filmreview.repository.WatchlistRepository;
+import com.filmreview.util.FieldSelection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +26,7 @@ import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -87,10 +90,10 @@ class WatchlistServiceImplTest {
     when(watchlistRepository.findByUserIdAndStatusOrderByCreatedAtDesc(userId, status, pageable))
         .thenReturn(watchlistPage);
     when(titleRepository.findAllById(Arrays.asList(titleId))).thenReturn(Arrays.asList(testTitle));
-    when(titleDtoMapper.toDto(testTitle)).thenReturn(testTitleDto);
+    when(titleDtoMapper.toDtoList(List.of(testTitle))).thenReturn(List.of(testTitleDto));
 
     // Act
-    Page<WatchlistResponse> result = watchlistService.getUserWatchlist(userId, status, pageable);
+    Page<WatchlistResponse> result = watchlistService.getUserWatchlist(userId, status, pageable, FieldSelection.ALL);
 
     // Assert
     assertNotNull(result);
@@ -102,7 +105,36 @@ class WatchlistServiceImplTest {
     verify(watchlistRepository).findByUserIdAndStatusOrderByCreatedAtDesc(userId, status, pageable);
     verify(watchlistRepository, never()).findByUserIdOrderByCreatedAtDesc(any(), any());
     verify(titleRepository).findAllById(Arrays.asList(titleId));
-    verify(titleDtoMapper).toDto(testTitle);
+    verify(titleDtoMapper).toDtoList(List.of(testTitle));
+  }
+
+  @Test
+  void testGetUserWatchlistByCursor_WithStatusFilter() {
+    // Arrange
+    Watchlist.WatchlistStatus status = Watchlist.WatchlistStatus.WATCHING;
+    Watchlist older = new Watchlist();
+    older.setId(UUID.randomUUID());
+    older.setUserId(userId);
+    older.setTitleId(UUID.randomUUID());
+    older.setStatus(status);
+    older.setCreatedAt(testWatchlist.getCreatedAt().minusDays(1));
+
+    when(watchlistRepository.findByUserIdAndStatusBefore(eq(userId), eq(status), any(LocalDateTime.class),
+        any(UUID.class), eq(PageRequest.of(0, 2)))).thenReturn(Arrays.asList(testWatchlist, older));
+    when(titleRepository.findAllById(Arrays.asList(titleId))).thenReturn(Arrays.asList(testTitle));
+    when(titleDtoMapper.toDtoList(List.of(testTitle))).thenReturn(List.of(testTitleDto));
+
+    // Act
+    CursorPage<WatchlistResponse> result = watchlistService.getUserWatchlistByCursor(
+        userId, status, null, 1, FieldSelection.ALL);
+
+    // Assert
+    assertEquals(1, result.getContent().size());
+    assertNotNull(result.getContent().get(0).getTitle());
+    assertTrue(result.isHasMore());
+    assertNotNull(result.getNextCursor());
+    verify(watchlistRepository, never()).findByUserIdBefore(any(), any(), any(), any());
+    verify(watchlistRepository, never()).countByUserId(any());
   }
 
   @Test
@@ -114,10 +146,10 @@ class WatchlistServiceImplTest {
     when(watchlistRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable))
         .thenReturn(watchlistPage);
     when(titleRepository.findAllById(Arrays.asList(titleId))).thenReturn(Arrays.asList(testTitle));
-    when(titleDtoMapper.toDto(testTitle)).thenReturn(testTitleDto);
+    when(titleDtoMapper.toDtoList(List.of(testTitle))).thenReturn(List.of(testTitleDto));
 
     // Act
-    Page<WatchlistResponse> result = watchlistService.getUserWatchlist(userId, null, pageable);
+    Page<WatchlistResponse> result = watchlistService.getUserWatchlist(userId, null, pageable, FieldSelection.ALL);
 
     // Assert
     assertNotNull(result);
@@ -126,7 +158,26 @@ class WatchlistServiceImplTest {
     verify(watchlistRepository).findByUserIdOrderByCreatedAtDesc(userId, pageable);
     verify(watchlistRepository, never()).findByUserIdAndStatusOrderByCreatedAtDesc(any(), any(), any());
     verify(titleRepository).findAllById(Arrays.asList(titleId));
-    verify(titleDtoMapper).toDto(testTitle);
+    verify(titleDtoMapper).toDtoList(List.of(testTitle));
+  }
+
+  @Test
+  void testGetUserWatchlist_FieldsWithoutTitle_SkipsTitleQuery() {
+    // Arrange
+    Pageable pageable = PageRequest.of(0, 20);
+    Page<Watchlist> watchlistPage = new PageImpl<>(Arrays.asList(testWatchlist), pageable, 1);
+
+    when(watchlistRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable))
+        .thenReturn(watchlistPage);
+
+    // Act
+    Page<WatchlistResponse> result = watchlistService.getUserWatchlist(
+        userId, null, pageable, FieldSelection.parse("id,status,title_id"));
+
+    // Assert
+    assertEquals(1, result.getContent().size());
+    assertNull(result.getContent().get(0).getTitle());
+    verifyNoInteractions(titleRepository, titleDtoMapper);
   }
 
   @Test
@@ -140,7 +191,7 @@ class WatchlistServiceImplTest {
     when(titleRepository.findAllById(Collections.emptyList())).thenReturn(Collections.emptyList());
 
     // Act
-    Page<WatchlistResponse> result = watchlistService.getUserWatchlist(userId, null, pageable);
+    Page<WatchlistResponse> result = watchlistService.getUserWatchlist(userId, null, pageable, FieldSelection.ALL);
 
     // Assert
     assertNotNull(result);
@@ -418,11 +469,10 @@ class WatchlistServiceImplTest {
         .thenReturn(watchlistPage);
     when(titleRepository.findAllById(Arrays.asList(titleId1, titleId2)))
         .thenReturn(Arrays.asList(title1, title2));
-    when(titleDtoMapper.toDto(title1)).thenReturn(titleDto1);
-    when(titleDtoMapper.toDto(title2)).thenReturn(titleDto2);
+    when(titleDtoMapper.toDtoList(List.of(title1, title2))).thenReturn(List.of(titleDto1, titleDto2));
 
     // Act
-    Page<WatchlistResponse> result = watchlistService.getUserWatchlist(userId, null, pageable);
+    Page<WatchlistResponse> result = watchlistService.getUserWatchlist(userId, null, pageable, FieldSelection.ALL);
 
     // Assert
     assertNotNull(result);
@@ -431,8 +481,7 @@ class WatchlistServiceImplTest {
     assertNotNull(result.getContent().get(1).getTitle());
     verify(watchlistRepository).findByUserIdOrderByCreatedAtDesc(userId, pageable);
     verify(titleRepository).findAllById(Arrays.asList(titleId1, titleId2));
-    verify(titleDtoMapper).toDto(title1);
-    verify(titleDtoMapper).toDto(title2);
+    verify(titleDtoMapper).toDtoList(List.of(title1, title2));
   }
 
   @Test
@@ -533,12 +582,11 @@ class WatchlistServiceImplTest {
         .thenReturn(watchlistPage);
     when(titleRepository.findAllById(Arrays.asList(titleId1, titleId2, titleId3)))
         .thenReturn(Arrays.asList(title1, title2, title3));
-    when(titleDtoMapper.toDto(title1)).thenReturn(titleDto1);
-    when(titleDtoMapper.toDto(title2)).thenReturn(titleDto2);
-    when(titleDtoMapper.toDto(title3)).thenReturn(titleDto3);
+    when(titleDtoMapper.toDtoList(List.of(title1, title2, title3)))
+        .thenReturn(List.of(titleDto1, titleDto2, titleDto3));
 
     // Act
-    Page<WatchlistResponse> result = watchlistService.getUserWatchlist(userId, null, pageable);
+    Page<WatchlistResponse> result = watchlistService.getUserWatchlist(userId, null, pageable, FieldSelection.ALL);
 
     // Assert
     assertNotNull(result);
@@ -549,9 +597,9 @@ class WatchlistServiceImplTest {
     assertNotNull(result.getContent().get(2).getTitle());
     // Verify batch fetch was called once with all title IDs
     verify(titleRepository, times(1)).findAllById(Arrays.asList(titleId1, titleId2, titleId3));
-    verify(titleDtoMapper).toDto(title1);
-    verify(titleDtoMapper).toDto(title2);
-    verify(titleDtoMapper).toDto(title3);
+    // Genres for all titles are mapped in one batch too
+    verify(titleDtoMapper).toDtoList(List.of(title1, title2, title3));
+    verify(titleDtoMapper, never()).toDto(any());
   }
 
   @Test
@@ -574,7 +622,7 @@ class WatchlistServiceImplTest {
         .thenReturn(Collections.emptyList()); // Title not found
 
     // Act
-    Page<WatchlistResponse> result = watchlistService.getUserWatchlist(userId, null, pageable);
+    Page<WatchlistResponse> result = watchlistService.getUserWatchlist(userId, null, pageable, FieldSelection.ALL);
 
     // Assert
     assertNotNull(result);
@@ -641,11 +689,10 @@ class WatchlistServiceImplTest {
     // Only title1 and title2 are found, missingTitleId is not
     when(titleRepository.findAllById(Arrays.asList(titleId1, missingTitleId, titleId2)))
         .thenReturn(Arrays.asList(title1, title2));
-    when(titleDtoMapper.toDto(title1)).thenReturn(titleDto1);
-    when(titleDtoMapper.toDto(title2)).thenReturn(titleDto2);
+    when(titleDtoMapper.toDtoList(List.of(title1, title2))).thenReturn(List.of(titleDto1, titleDto2));
 
     // Act
-    Page<WatchlistResponse> result = watchlistService.getUserWatchlist(userId, null, pageable);
+    Page<WatchlistResponse> result = watchlistService.getUserWatchlist(userId, null, pageable, FieldSelection.ALL);
 
     // Assert
     assertNotNull(result);